@@ -0,0 +1,203 @@
+package Application.Command;
+
+import Application.Command.LoadSystemCommands.InvalidFileException;
+import Application.IncorrectPermissionException;
+import Domain.DataClasses.EndTimeBeforeStartTimeException;
+import Domain.DataClasses.Tuple;
+import Domain.Project.ProjectNameAlreadyInUseException;
+import Domain.Project.ProjectNotOngoingException;
+import Domain.Project.TaskNotFoundException;
+import Domain.Task.*;
+import Domain.TaskManSystem.DueBeforeSystemTimeException;
+import Domain.TaskManSystem.NewTimeBeforeSystemTimeException;
+import Domain.TaskManSystem.ProjectNotFoundException;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.IncorrectUserException;
+import Domain.User.UserAlreadyAssignedToTaskException;
+
+import java.util.*;
+
+/**
+ * Implements the Command interface and executes a list of commands as a single command, which changes the system by
+ * either all or none of its commands.
+ * The projects and tasks all commands look up are checked before any of them is executed, and if a command fails
+ * nonetheless, the commands executed before it are undone in reverse order and its failure is thrown, with the failures
+ * of undoing suppressed. The batch is recorded as one command in the history and the journal, so undoing it undoes all
+ * of its commands.
+ * Only commands that can be undone can be part of a batch, so a batch can always be undone.
+ */
+public class BatchCommand implements Command {
+
+    private final TaskManSystem taskManSystem;
+    private final List<Command> commands;
+
+    /**
+     * @param taskManSystem The system the commands are executed on
+     * @param commands      The commands to execute, in order of execution
+     * @throws UndoNotPossibleException if one of the given commands cannot be undone
+     */
+    public BatchCommand(TaskManSystem taskManSystem, List<Command> commands) throws UndoNotPossibleException {
+        for (Command command : commands) {
+            if (!command.undoPossible()) {
+                throw new UndoNotPossibleException();
+            }
+        }
+        this.taskManSystem = taskManSystem;
+        this.commands = List.copyOf(commands);
+    }
+
+    private TaskManSystem getTaskManSystem() {
+        return taskManSystem;
+    }
+
+    private List<Command> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Checks the names looked up by all commands, then executes them in order, undoing the executed ones if one fails
+     *
+     * @throws ProjectNotFoundException         if a project one of the commands looks up does not exist
+     * @throws TaskNotFoundException            if a task one of the commands looks up does not exist
+     * @throws ProjectNameAlreadyInUseException if one of the commands creates a project that already exists
+     * @throws TaskNameAlreadyInUseException    if one of the commands creates a task that already exists
+     */
+    @Override
+    public void execute() throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, ProjectNameAlreadyInUseException, DueBeforeSystemTimeException, TaskNameAlreadyInUseException, IllegalTaskRolesException, ProjectNotOngoingException, LoopDependencyGraphException, NewTimeBeforeSystemTimeException, EndTimeBeforeStartTimeException, IncorrectUserException, UserAlreadyAssignedToTaskException, IncorrectRoleException, InvalidFileException, IncorrectPermissionException {
+        checkNames(new BatchNames(getTaskManSystem()));
+
+        List<Command> executed = new ArrayList<>();
+        try {
+            for (Command command : getCommands()) {
+                command.execute();
+                executed.add(command);
+            }
+        } catch (Exception e) {
+            for (RuntimeException failure : undo(executed)) {
+                e.addSuppressed(failure);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Undoes all commands of the batch, in reverse order of execution. If undoing a command fails, the remaining
+     * commands are undone nonetheless, and the first failure is thrown afterwards with the others suppressed.
+     */
+    @Override
+    public void undo() {
+        List<RuntimeException> failures = undo(getCommands());
+        if (!failures.isEmpty()) {
+            RuntimeException failure = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                failure.addSuppressed(failures.get(i));
+            }
+            throw failure;
+        }
+    }
+
+    /**
+     * Undoes the given commands in reverse order, continuing with the next command if one cannot be undone
+     *
+     * @return The failures of the commands that could not be undone, in order of undoing
+     */
+    private static List<RuntimeException> undo(List<Command> commands) {
+        List<RuntimeException> failures = new ArrayList<>();
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            try {
+                commands.get(i).undo();
+            } catch (UndoNotPossibleException e) {
+                // This should never happen, only commands that can be undone are part of a batch
+                failures.add(new RuntimeException(e));
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException, ProjectNameAlreadyInUseException, TaskNameAlreadyInUseException {
+        for (Command command : getCommands()) {
+            command.checkNames(names);
+        }
+    }
+
+    @Override
+    public boolean undoPossible() {
+        return true;
+    }
+
+    @Override
+    public Set<String> getAffectedProjects() {
+        Set<String> affectedProjects = new HashSet<>();
+        for (Command command : getCommands()) {
+            Set<String> projects = command.getAffectedProjects();
+            if (projects == null) {
+                return null;
+            }
+            affectedProjects.addAll(projects);
+        }
+        return affectedProjects;
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks() {
+        Set<Tuple<String,String>> affectedTasks = new HashSet<>();
+        for (Command command : getCommands()) {
+            affectedTasks.addAll(command.getAffectedTasks());
+        }
+        return affectedTasks;
+    }
+
+    /**
+     * @return null, so no command of another session runs in between the commands of the batch
+     */
+    @Override
+    public Set<String> getChangedProjects() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return "Batch";
+    }
+
+    @Override
+    public String getDetails() {
+        if (getCommands().isEmpty()) {
+            return "Batch of 0 commands";
+        }
+        return "Batch of " + getCommands().size() + " commands, starting with " + getCommands().get(0).getDetails();
+    }
+
+    /**
+     * The arguments of every command are prefixed by its position in the batch, together with its name
+     */
+    @Override
+    public Map<String,String> getArguments() {
+        Map<String,String> arguments = new HashMap<>();
+        arguments.put("commands", Integer.toString(getCommands().size()));
+        for (int i = 0; i < getCommands().size(); i++) {
+            Command command = getCommands().get(i);
+            arguments.put(i + ".command", command.getName());
+            for (Map.Entry<String,String> argument : command.getArguments().entrySet()) {
+                arguments.put(i + "." + argument.getKey(), argument.getValue());
+            }
+        }
+        return arguments;
+    }
+
+    @Override
+    public List<String> getArgumentNames() {
+        List<String> argumentNames = new LinkedList<>();
+        argumentNames.add("commands");
+        for (int i = 0; i < getCommands().size(); i++) {
+            argumentNames.add(i + ".command");
+            for (String argumentName : getCommands().get(i).getArgumentNames()) {
+                argumentNames.add(i + "." + argumentName);
+            }
+        }
+        return argumentNames;
+    }
+}
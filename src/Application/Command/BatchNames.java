@@ -0,0 +1,111 @@
+package Application.Command;
+
+import Domain.Project.ProjectData;
+import Domain.Project.ProjectNameAlreadyInUseException;
+import Domain.Project.TaskNotFoundException;
+import Domain.Task.TaskData;
+import Domain.Task.TaskNameAlreadyInUseException;
+import Domain.TaskManSystem.ProjectNotFoundException;
+import Domain.TaskManSystem.TaskManSystem;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Names of the projects and tasks as they will be while the commands of a batch are executed one after the other, so
+ * all lookups of the batch can be checked before any of its commands is executed. Projects are only read from the
+ * system the first time one of the commands looks them up.
+ */
+public class BatchNames {
+
+    private final TaskManSystem taskManSystem;
+    // names of the tasks of the projects looked up so far, null if the project does not exist
+    private final Map<String, Set<String>> taskNames = new HashMap<>();
+
+    /**
+     * @param taskManSystem The system the batch will be executed on
+     */
+    public BatchNames(TaskManSystem taskManSystem) {
+        this.taskManSystem = taskManSystem;
+    }
+
+    private TaskManSystem getTaskManSystem() {
+        return taskManSystem;
+    }
+
+    /**
+     * @return The names of the active and replaced tasks of the given project, or null if it does not exist
+     */
+    private Set<String> getTaskNames(String projectName) {
+        if (!taskNames.containsKey(projectName)) {
+            Set<String> names = null;
+            try {
+                ProjectData project = getTaskManSystem().getProjectView(projectName);
+                names = new HashSet<>();
+                for (TaskData task : project.getTasksData()) {
+                    names.add(task.getName());
+                }
+                for (TaskData task : project.getReplacedTasksData()) {
+                    names.add(task.getName());
+                }
+            } catch (ProjectNotFoundException e) {
+                // the project does not exist, unless a command of the batch creates it
+            }
+            taskNames.put(projectName, names);
+        }
+        return taskNames.get(projectName);
+    }
+
+    /**
+     * @param projectName Name of the project a command looks up
+     * @throws ProjectNotFoundException if the project will not exist when the command is executed
+     */
+    public void checkProject(String projectName) throws ProjectNotFoundException {
+        if (getTaskNames(projectName) == null) {
+            throw new ProjectNotFoundException();
+        }
+    }
+
+    /**
+     * @param projectName Name of the project of the task a command looks up
+     * @param taskName    Name of the task a command looks up
+     * @throws ProjectNotFoundException if the project will not exist when the command is executed
+     * @throws TaskNotFoundException    if the task will not exist when the command is executed
+     */
+    public void checkTask(String projectName, String taskName) throws ProjectNotFoundException, TaskNotFoundException {
+        checkProject(projectName);
+        if (!getTaskNames(projectName).contains(taskName)) {
+            throw new TaskNotFoundException();
+        }
+    }
+
+    /**
+     * Registers a project created by a command
+     *
+     * @param projectName Name of the created project
+     * @throws ProjectNameAlreadyInUseException if the project will already exist when the command is executed
+     */
+    public void addProject(String projectName) throws ProjectNameAlreadyInUseException {
+        if (getTaskNames(projectName) != null) {
+            throw new ProjectNameAlreadyInUseException();
+        }
+        taskNames.put(projectName, new HashSet<>());
+    }
+
+    /**
+     * Registers a task created by a command
+     *
+     * @param projectName Name of the project the task is created in
+     * @param taskName    Name of the created task
+     * @throws ProjectNotFoundException      if the project will not exist when the command is executed
+     * @throws TaskNameAlreadyInUseException if the task will already exist when the command is executed
+     */
+    public void addTask(String projectName, String taskName) throws ProjectNotFoundException, TaskNameAlreadyInUseException {
+        checkProject(projectName);
+        if (!getTaskNames(projectName).add(taskName)) {
+            throw new TaskNameAlreadyInUseException();
+        }
+    }
+}
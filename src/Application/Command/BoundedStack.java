@@ -0,0 +1,119 @@
+package Application.Command;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Stack with a fixed capacity, backed by a ring buffer. Pushing onto a full stack evicts its oldest element, so pushing,
+ * popping and trimming are all O(1). As a list, the stack is a view from its oldest to its newest element, which only
+ * supports removing elements.
+ *
+ * @param <E> Type of the elements
+ */
+class BoundedStack<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Object[] elements;
+    private int oldest = 0;
+    private int size = 0;
+
+    /**
+     * @param capacity Maximum amount of elements kept on the stack
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    BoundedStack(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of a bounded stack must be positive");
+        }
+        this.elements = new Object[capacity];
+    }
+
+    int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Pushes the given element on top of the stack, evicting the oldest element if the stack is full
+     *
+     * @param element The element to push
+     */
+    void push(E element) {
+        if (size == elements.length) {
+            elements[oldest] = element;
+            oldest = (oldest + 1) % elements.length;
+        } else {
+            elements[(oldest + size) % elements.length] = element;
+            size++;
+        }
+        modCount++;
+    }
+
+    /**
+     * @return The element on top of the stack, after removing it
+     * @throws EmptyStackException if the stack is empty
+     */
+    E pop() {
+        E element = peek();
+        int newest = (oldest + size - 1) % elements.length;
+        elements[newest] = null;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * @return The element on top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    E peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return (E) elements[(oldest + size - 1) % elements.length];
+    }
+
+    /**
+     * @param index Position of the element, 0 being the oldest element
+     * @return The element at the given position
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[(oldest + index) % elements.length];
+    }
+
+    /**
+     * Removes the element at the given position, moving all newer elements one position down
+     *
+     * @param index Position of the element, 0 being the oldest element
+     * @return The removed element
+     */
+    @Override
+    public E remove(int index) {
+        E element = get(index);
+        for (int i = index; i < size - 1; i++) {
+            elements[(oldest + i) % elements.length] = elements[(oldest + i + 1) % elements.length];
+        }
+        elements[(oldest + size - 1) % elements.length] = null;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        oldest = 0;
+        size = 0;
+        modCount++;
+    }
+}
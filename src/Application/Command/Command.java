@@ -3,6 +3,7 @@ package Application.Command;
  import Application.IncorrectPermissionException;
  import Application.Command.LoadSystemCommands.InvalidFileException;
  import Domain.DataClasses.EndTimeBeforeStartTimeException;
+ import Domain.DataClasses.Tuple;
  import Domain.Project.ProjectNameAlreadyInUseException;
  import Domain.Project.ProjectNotOngoingException;
  import Domain.Project.TaskNotFoundException;
@@ -15,6 +16,9 @@ package Application.Command;
  import Domain.User.IncorrectUserException;
  import Domain.User.UserAlreadyAssignedToTaskException;
 
+ import java.util.HashSet;
+ import java.util.Set;
+
 /**
  * Command interface, used to execute commands and undo them. Based on the Command design pattern.
  */
@@ -46,4 +50,53 @@ public interface Command extends CommandData {
          throw new UndoNotPossibleException();
      }
 
+    /**
+     * Checks that the projects and tasks this command looks up will exist, and the ones it creates will not, when it is
+     * executed as part of a batch, and registers the projects and tasks it creates.
+     *
+     * @param names Names of the projects and tasks as they are after the commands before this one in the batch
+     * @throws ProjectNotFoundException             if a project this command looks up will not exist
+     * @throws TaskNotFoundException                if a task this command looks up will not exist
+     * @throws ProjectNameAlreadyInUseException     if a project this command creates will already exist
+     * @throws TaskNameAlreadyInUseException        if a task this command creates will already exist
+     */
+     default void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException, ProjectNameAlreadyInUseException, TaskNameAlreadyInUseException {
+     }
+
+    /**
+     * Used to decide whether commands of different users may be undone independently of each other.
+     *
+     * @return The names of the projects this command changes as a whole, or null if it changes the whole system
+     */
+     default Set<String> getAffectedProjects() {
+         return null;
+     }
+
+    /**
+     * @return The (project name, task name) tuples of the tasks this command changes
+     */
+     default Set<Tuple<String,String>> getAffectedTasks() {
+         return Set.of();
+     }
+
+    /**
+     * Used to order the commands of concurrent sessions: commands changing projects in common are executed and recorded
+     * one after the other, other commands are executed concurrently. Asked again once the projects are locked, so it
+     * may look at the current system.
+     *
+     * @return The names of the projects of all tasks this command changes, including tasks of which it only changes
+     * the availability, or null if it changes the whole system
+     */
+     default Set<String> getChangedProjects() {
+         Set<String> affectedProjects = getAffectedProjects();
+         if (affectedProjects == null) {
+             return null;
+         }
+         Set<String> changedProjects = new HashSet<>(affectedProjects);
+         for (Tuple<String,String> task : getAffectedTasks()) {
+             changedProjects.add(task.getFirst());
+         }
+         return changedProjects;
+     }
+
  }
\ No newline at end of file
@@ -7,15 +7,33 @@ import Domain.User.User;
 import java.util.List;
 
 /**
- * Interface to separate controllers from the object that manages the commands
+ * Interface to separate controllers from the object that manages the commands. Implementations are safe for concurrent
+ * use: commands that change projects in common are executed and added to the executed commands one after the other,
+ * other commands are executed concurrently.
  */
 public interface CommandInterface {
 
     /**
-     * Adds a command to the list of executed commands
+     * Starts the execution of the given command, waiting until no command of another session that changes the same
+     * projects is being executed, undone or redone. The caller executes the command and then commits it:
+     * <pre>
+     * try (CommandInterface.Execution execution = commandInterface.startExecution(command)) {
+     *     command.execute();
+     *     execution.commit(user);
+     * }
+     * </pre>
+     * This keeps the exceptions of the command itself, which a single method executing any command could not.
      *
-     * @param command           The command to be executed
-     * @param executingUser     The user that wants to execute the command
+     * @param command The command that will be executed
+     * @return The execution, which has to be closed once the command is executed
+     */
+    Execution startExecution(Command command);
+
+    /**
+     * Adds a command that was already executed to the list of executed commands
+     *
+     * @param command           The executed command
+     * @param executingUser     The user that executed the command
      */
     void addExecutedCommand(Command command, User executingUser);
 
@@ -24,7 +42,7 @@ public interface CommandInterface {
      *
      * @param currentUser                   The user that wants to undo the last command
      * @throws EmptyCommandStackException   If there are no commands to undo
-     * @throws IncorrectUserException       If the current user is not the one who executed the last command and is not a project manager
+     * @throws IncorrectUserException       If the current user is not a project manager and has no command to undo, or a later command of another user changed the same tasks or projects
      * @throws UndoNotPossibleException     If the last command cannot be undone
      */
     void undoLastCommand(User currentUser) throws EmptyCommandStackException, IncorrectUserException, UndoNotPossibleException;
@@ -34,7 +52,7 @@ public interface CommandInterface {
      *
      * @param currentUser                   The user that undid the command
      * @throws EmptyCommandStackException   If there are no commands to redo
-     * @throws IncorrectUserException       If the current user is not the one who executed the last command and is not a project manager
+     * @throws IncorrectUserException       If the current user is not a project manager and has no command to redo, or a command of another user undone after it changed the same tasks or projects
      */
     void redoLast(User currentUser) throws EmptyCommandStackException, IncorrectUserException;
 
@@ -58,4 +76,24 @@ public interface CommandInterface {
      */
     CommandData getLastUndoneCommandData();
 
+    /**
+     * Execution of a single command, started by {@link CommandInterface#startExecution(Command)}
+     */
+    interface Execution extends AutoCloseable {
+
+        /**
+         * Adds the executed command to the list of executed commands, as executed by the given user
+         *
+         * @param executingUser The user that executed the command
+         * @throws IllegalStateException if the command was already committed
+         */
+        void commit(User executingUser);
+
+        /**
+         * Lets commands of other sessions that change the same projects continue, then waits until the committed
+         * command is recorded durably. An execution that was not committed adds nothing to the executed commands.
+         */
+        @Override
+        void close();
+    }
 }
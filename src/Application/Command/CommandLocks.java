@@ -0,0 +1,86 @@
+package Application.Command;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locks ordering the commands of concurrent sessions, striped on project name. A command changing some projects only
+ * waits for the commands changing one of the same projects, a command changing the whole system waits for all commands.
+ * The locks of several projects are always acquired in the order of their stripes, so commands locking overlapping
+ * sets of projects can not deadlock.
+ */
+final class CommandLocks {
+
+    private final ReentrantReadWriteLock systemLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] stripes;
+
+    /**
+     * @param stripeCount Amount of locks shared by all projects
+     * @throws IllegalArgumentException if stripeCount is not positive
+     */
+    CommandLocks(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("The amount of command locks must be positive");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @return The lock that keeps all commands from running while it is held
+     */
+    Lock getExclusiveLock() {
+        return systemLock.writeLock();
+    }
+
+    /**
+     * Locks the given projects for a command, blocking until all locks are acquired
+     *
+     * @param projectNames Names of the projects the command changes, or null if it changes the whole system
+     * @return The acquired locks, which have to be released by closing them
+     */
+    Locked lock(Collection<String> projectNames) {
+        if (projectNames == null) {
+            getExclusiveLock().lock();
+            return new Locked(new Lock[]{getExclusiveLock()});
+        }
+        TreeSet<Integer> stripeIndices = new TreeSet<>();
+        for (String projectName : projectNames) {
+            stripeIndices.add(Math.floorMod(projectName.hashCode(), stripes.length));
+        }
+        Lock[] locks = new Lock[stripeIndices.size() + 1];
+        locks[0] = systemLock.readLock();
+        locks[0].lock();
+        int i = 1;
+        for (int stripeIndex : stripeIndices) {
+            locks[i] = stripes[stripeIndex];
+            locks[i].lock();
+            i++;
+        }
+        return new Locked(locks);
+    }
+
+    /**
+     * Locks acquired together, released in reverse order of acquisition when closed
+     */
+    static final class Locked implements AutoCloseable {
+
+        private final Lock[] locks;
+
+        private Locked(Lock[] locks) {
+            this.locks = locks;
+        }
+
+        @Override
+        public void close() {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+}
@@ -1,170 +1,451 @@
 package Application.Command;
 
+ import Application.Command.Journal.CommandJournal;
+ import Application.Command.Journal.JournalEntry;
  import Domain.DataClasses.Tuple;
  import Domain.User.IncorrectUserException;
  import Domain.User.Role;
  import Domain.User.User;
 
- import java.util.LinkedList;
+ import java.io.IOException;
+ import java.io.UncheckedIOException;
+ import java.util.AbstractList;
+ import java.util.ArrayList;
+ import java.util.Collections;
+ import java.util.HashSet;
+ import java.util.Iterator;
  import java.util.List;
- import java.util.Stack;
+ import java.util.ListIterator;
+ import java.util.Set;
+ import java.util.concurrent.CopyOnWriteArrayList;
+ import java.util.concurrent.locks.Lock;
 
 /**
  * Class that manages the commands executed by the users
  * manages the undo and redo functionality and the command history
+ * <p>
+ * The command manager can be shared by the sessions of several users at once. Commands are ordered by the projects they
+ * change: a command holds the locks of those projects from its execution until it is added to the history and appended
+ * to the journal, so commands changing the same projects are recorded in the order in which they changed the system,
+ * while commands changing other projects run concurrently. Undoing and redoing reorder the history, so they wait for
+ * all commands. Waiting for the journal to write a command to disk happens after its locks are released, so the
+ * commands of concurrent sessions are written together.
  */
 public class CommandManager implements CommandInterface {
 
-    private final Stack<Tuple<Command, User>> executedCommandStack = new Stack<>();
-    private final Stack<Tuple<Command,User>> undoneCommandStack = new Stack<>();
+    private static final int DEFAULT_HISTORY_DEPTH = 10;
+    private static final int COMMAND_LOCK_STRIPES = 64;
 
-    public CommandManager() {}
+    private final BoundedStack<HistoryEntry> executedCommandStack;
+    private final BoundedStack<HistoryEntry> undoneCommandStack;
+    private final List<Tuple<CommandData,String>> executedCommandsView;
+    private final List<Tuple<CommandData,String>> undoneCommandsView;
+    private final CommandLocks locks = new CommandLocks(COMMAND_LOCK_STRIPES);
+    private CommandJournal journal;
+    private final List<CommandObserver> observers = new CopyOnWriteArrayList<>();
 
-    private Stack<Tuple<Command,User>> getExecutedStack() {
-        return executedCommandStack;
+    /**
+     * Creates a command manager remembering the last 10 executed commands
+     */
+    public CommandManager() {
+        this(DEFAULT_HISTORY_DEPTH);
     }
-    private Stack<Tuple<Command,User>> getUndoneStack() {
-        return undoneCommandStack;
+
+    /**
+     * Creates a command manager remembering the given amount of executed (and undone) commands
+     *
+     * @param historyDepth Maximum amount of commands kept in the history, older commands can no longer be undone
+     * @throws IllegalArgumentException if historyDepth is not positive
+     */
+    public CommandManager(int historyDepth) {
+        this.executedCommandStack = new BoundedStack<>(historyDepth);
+        this.undoneCommandStack = new BoundedStack<>(historyDepth);
+        this.executedCommandsView = new HistoryView(executedCommandStack);
+        this.undoneCommandsView = new HistoryView(undoneCommandStack);
     }
 
+    /**
+     * @return Maximum amount of commands kept in the history
+     */
+    public int getHistoryDepth() {
+        return getExecutedStack().getCapacity();
+    }
 
-    private void addLastExecutedCommand(Command command, User executingUser){
-        getExecutedStack().push(new Tuple<>(command, executingUser));
+    /**
+     * Sets the journal in which every executed, undone and redone command is recorded from now on
+     *
+     * @param journal The journal, or null to stop recording commands
+     */
+    public synchronized void setJournal(CommandJournal journal) {
+        this.journal = journal;
     }
 
-    private void trimExecutedCommandList(){
-        while(getExecutedStack().size() > 10){
-            getExecutedStack().remove(0);
+    private CommandJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * @param observer Observer to notify every time a command is executed, undone or redone, after the command is
+     *                 recorded and no longer holds any lock of the command manager
+     */
+    public void addObserver(CommandObserver observer) {
+        observers.add(observer);
+    }
+
+    private CommandLocks getLocks() {
+        return locks;
+    }
+
+    /**
+     * Waits until no command is being executed, undone or redone, and keeps all sessions from starting one until the
+     * returned lock is unlocked
+     *
+     * @return The held lock, to unlock by the caller
+     */
+    public Lock lockAllCommands() {
+        Lock lock = getLocks().getExclusiveLock();
+        lock.lock();
+        return lock;
+    }
+
+    /**
+     * Appends the given command to the journal, if a journal is set, without waiting for it to be written
+     *
+     * @return The appended entry, to wait for once the locks of the command are released
+     * @throws UncheckedIOException if the journal is closed
+     */
+    private RecordedEntry record(JournalEntry.Type type, Command command, User user) {
+        if (getJournal() == null) {
+            return new RecordedEntry(null, 0);
+        }
+        try {
+            return new RecordedEntry(getJournal(), getJournal().enqueue(new JournalEntry(type, user.getUsername(), command)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private Command getLastExecutedCommand(){
-        if (getExecutedStack().empty()){
-            return null;
+    private void notifyObservers(Command command) {
+        for (CommandObserver observer : observers) {
+            observer.update(command.getCommandData());
         }
-        Tuple<Command,User> command = getExecutedStack().peek();
-        return command.getFirst();
     }
 
-    private User getUserLastExecutedCommand(){
-        Tuple<Command,User> command = getExecutedStack().peek();
-        return command.getSecond();
+    /**
+     * Replaces the command history by the given one, without executing or undoing any of the commands, used when
+     * restoring a checkpoint
+     *
+     * @param executedCommands The executed commands and the users that executed them, in order of execution
+     * @param undoneCommands   The undone commands and the users that executed them, in order of undoing
+     */
+    public synchronized void restoreHistory(List<Tuple<Command, User>> executedCommands, List<Tuple<Command, User>> undoneCommands) {
+        getExecutedStack().clear();
+        for (Tuple<Command, User> command : executedCommands) {
+            addLastExecutedCommand(command.getFirst(), command.getSecond());
+        }
+        getUndoneStack().clear();
+        for (Tuple<Command, User> command : undoneCommands) {
+            addUndoneCommand(command.getFirst(), command.getSecond());
+        }
+    }
+
+    private BoundedStack<HistoryEntry> getExecutedStack() {
+        return executedCommandStack;
+    }
+    private BoundedStack<HistoryEntry> getUndoneStack() {
+        return undoneCommandStack;
+    }
+
+
+    private void addLastExecutedCommand(Command command, User executingUser){
+        getExecutedStack().push(new HistoryEntry(command, executingUser));
     }
 
-    private void removeLastExecutedCommand(){
-        getExecutedStack().pop();
+    private Command getLastExecutedCommand(){
+        if (getExecutedStack().isEmpty()){
+            return null;
+        }
+        return getExecutedStack().peek().getCommand();
     }
 
 
     private void addUndoneCommand(Command command, User executingUser){
-        getUndoneStack().push(new Tuple<>(command, executingUser));
+        getUndoneStack().push(new HistoryEntry(command, executingUser));
     }
 
     private Command getLastUndoneCommand(){
-        if (getUndoneStack().empty()){
+        if (getUndoneStack().isEmpty()){
             return null;
         }
-        Tuple<Command,User> command = getUndoneStack().peek();
-        return command.getFirst();
+        return getUndoneStack().peek().getCommand();
+    }
+
+    /**
+     * Removes the undone commands of the given user, and the undone commands of other users that conflict with the
+     * given command, as those can no longer be redone after the given command
+     */
+    private void clearUndoneCommands(Command command, User executingUser){
+        for (int i = getUndoneStack().size() - 1; i >= 0; i--) {
+            HistoryEntry entry = getUndoneStack().get(i);
+            if (entry.getUser() == executingUser || conflict(entry.getCommand(), command)) {
+                getUndoneStack().remove(i);
+            }
+        }
     }
 
-    private User getUserLastUndoneCommand(){
-        Tuple<Command,User> command = getUndoneStack().peek();
-        return command.getSecond();
+    /**
+     * @return Position of the newest command of the given user in the given history, or -1 if there is none
+     */
+    private static int findLastCommandOf(BoundedStack<HistoryEntry> history, User user) {
+        for (int i = history.size() - 1; i >= 0; i--) {
+            if (history.get(i).getUser() == user) {
+                return i;
+            }
+        }
+        return -1;
     }
 
-    private void removeLastUndoneCommand(){
-        getUndoneStack().pop();
+    /**
+     * @return The first command newer than the command at the given position in the given history that conflicts
+     * with it, or null if there is none
+     */
+    private static HistoryEntry findConflictingCommand(BoundedStack<HistoryEntry> history, int index) {
+        Command command = history.get(index).getCommand();
+        for (int i = index + 1; i < history.size(); i++) {
+            if (conflict(command, history.get(i).getCommand())) {
+                return history.get(i);
+            }
+        }
+        return null;
     }
 
-    private void clearUndoneCommands(){
-        getUndoneStack().clear();
+    /**
+     * @return Whether the given commands change the same task or project, in which case they have to be undone in
+     * reverse order of execution
+     */
+    private static boolean conflict(Command command1, Command command2) {
+        Set<String> projects1 = command1.getAffectedProjects();
+        Set<String> projects2 = command2.getAffectedProjects();
+        if (projects1 == null || projects2 == null) {
+            return true;
+        }
+        Set<Tuple<String,String>> tasks1 = command1.getAffectedTasks();
+        Set<Tuple<String,String>> tasks2 = command2.getAffectedTasks();
+        for (Tuple<String,String> task : tasks1) {
+            if (tasks2.contains(task) || projects2.contains(task.getFirst())) {
+                return true;
+            }
+        }
+        for (String project : projects1) {
+            if (projects2.contains(project)) {
+                return true;
+            }
+            for (Tuple<String,String> task : tasks2) {
+                if (task.getFirst().equals(project)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isProjectManager(User user) {
+        return user.getRoles().contains(Role.PROJECTMANAGER);
     }
 
 
     /**
-     * Adds a command to the list of executed commands
+     * Starts the execution of the given command, waiting until no command that changes the same projects is being
+     * executed, undone or redone
      *
-     * @param command           The command to be executed
+     * @param command The command that will be executed
+     * @return The execution, which has to be closed once the command is executed
+     */
+    @Override
+    public Execution startExecution(Command command) {
+        return new CommandExecution(command, lockChangedProjects(command));
+    }
+
+    /**
+     * Locks the projects the given command changes, which can only be determined from the system before they are
+     * locked, so they are determined again afterwards until the locked projects include them
+     */
+    private CommandLocks.Locked lockChangedProjects(Command command) {
+        Set<String> projectNames = command.getChangedProjects();
+        while (true) {
+            CommandLocks.Locked locked = getLocks().lock(projectNames);
+            if (projectNames == null) {
+                return locked;
+            }
+            Set<String> changedProjectNames = command.getChangedProjects();
+            if (changedProjectNames != null && projectNames.containsAll(changedProjectNames)) {
+                return locked;
+            }
+            // the projects the command changes changed before they were locked
+            locked.close();
+            if (changedProjectNames == null) {
+                projectNames = null;
+            } else {
+                Set<String> allNames = new HashSet<>(projectNames);
+                allNames.addAll(changedProjectNames);
+                projectNames = allNames;
+            }
+        }
+    }
+
+    /**
+     * Adds a command to the list of executed commands. Undone commands of the executing user, and undone commands of
+     * other users that change the same tasks or projects, can no longer be redone.
+     *
+     * @param command           The executed command
      * @param executingUser     The user that executed the command
      */
+    @Override
     public void addExecutedCommand(Command command, User executingUser) {
+        try (Execution execution = startExecution(command)) {
+            execution.commit(executingUser);
+        }
+    }
+
+    /**
+     * Records the given executed command and adds it to the history
+     *
+     * @return The entry appended to the journal
+     */
+    private synchronized RecordedEntry commitExecutedCommand(Command command, User executingUser) {
+        RecordedEntry entry = record(JournalEntry.Type.EXECUTE, command, executingUser);
         addLastExecutedCommand(command, executingUser);
-        trimExecutedCommandList();
-        clearUndoneCommands();
+        clearUndoneCommands(command, executingUser);
+        return entry;
     }
 
     /**
-     * Undoes the last command executed by the current user
+     * Undoes the last command executed by the current user. A project manager undoes the last command executed by any
+     * user. Other users can undo their last command, even if other users executed commands after it, as long as none
+     * of those commands changed the same tasks or projects.
      *
      * @param currentUser                   The user that wants to undo the last command
      * @throws EmptyCommandStackException   If there are no commands to undo
-     * @throws IncorrectUserException       If the current user is not the user that executed the last command and is not a project manager
-     * @throws UndoNotPossibleException     If the last executed command cannot be undone
+     * @throws IncorrectUserException       If the current user is not a project manager and has no command to undo, or a later command of another user changed the same tasks or projects
+     * @throws UndoNotPossibleException     If the command cannot be undone
      */
     public void undoLastCommand(User currentUser) throws EmptyCommandStackException, IncorrectUserException, UndoNotPossibleException {
-        if (getExecutedStack().empty()) {
+        Lock lock = lockAllCommands();
+        Command command;
+        RecordedEntry recorded;
+        try {
+            synchronized (this) {
+                command = undoLastCommandLocked(currentUser);
+                recorded = record(JournalEntry.Type.UNDO, command, currentUser);
+            }
+        } finally {
+            lock.unlock();
+        }
+        recorded.awaitDurable();
+        notifyObservers(command);
+    }
+
+    /**
+     * Undoes the last command the given user can undo, while no other command can run
+     *
+     * @return The undone command
+     */
+    private Command undoLastCommandLocked(User currentUser) throws EmptyCommandStackException, IncorrectUserException, UndoNotPossibleException {
+        if (getExecutedStack().isEmpty()) {
             throw new EmptyCommandStackException("There are no executed actions to undo");
         }
-        if (getUserLastExecutedCommand() != currentUser &&
-                !currentUser.getRoles().contains(Role.PROJECTMANAGER)) {
-            throw new IncorrectUserException("The current user is not allowed to undo the last executed action");
+        int index = getExecutedStack().size() - 1;
+        if (!isProjectManager(currentUser)) {
+            index = findLastCommandOf(getExecutedStack(), currentUser);
+            if (index == -1) {
+                throw new IncorrectUserException("The current user has no executed actions to undo");
+            }
+            HistoryEntry conflict = findConflictingCommand(getExecutedStack(), index);
+            if (conflict != null) {
+                throw new IncorrectUserException("The last executed action of the current user cannot be undone before the later action '" + conflict.getCommand().getDetails() + "' of " + conflict.getUser().getUsername());
+            }
         }
-        getLastExecutedCommand().undo();
-        addUndoneCommand(getLastExecutedCommand(), getUserLastExecutedCommand());
-        removeLastExecutedCommand();
+        HistoryEntry entry = getExecutedStack().get(index);
+        entry.getCommand().undo();
+        getUndoneStack().push(entry);
+        getExecutedStack().remove(index);
+        return entry.getCommand();
     }
 
     /**
-     * Redoes the last command undone by the current user
+     * Redoes the last command undone by the current user. A project manager redoes the last command undone by any
+     * user. Other users can redo their last undone command, as long as no command undone after it changed the same
+     * tasks or projects.
      *
      * @param currentUser                   The user that wants to redo the last command
      * @throws EmptyCommandStackException   If there are no commands to redo
-     * @throws IncorrectUserException       If the current user is not the user that executed the last command and is not a project manager
+     * @throws IncorrectUserException       If the current user is not a project manager and has no command to redo, or a command of another user undone after it changed the same tasks or projects
      */
     public void redoLast(User currentUser) throws EmptyCommandStackException, IncorrectUserException {
-        if (getUndoneStack().empty()) {
+        Lock lock = lockAllCommands();
+        Command command;
+        RecordedEntry recorded;
+        try {
+            synchronized (this) {
+                command = redoLastLocked(currentUser);
+                recorded = record(JournalEntry.Type.REDO, command, currentUser);
+            }
+        } finally {
+            lock.unlock();
+        }
+        recorded.awaitDurable();
+        notifyObservers(command);
+    }
+
+    /**
+     * Redoes the last command the given user can redo, while no other command can run
+     *
+     * @return The redone command
+     */
+    private Command redoLastLocked(User currentUser) throws EmptyCommandStackException, IncorrectUserException {
+        if (getUndoneStack().isEmpty()) {
             throw new EmptyCommandStackException("There are no undone actions to redo");
         }
-        if (getUserLastUndoneCommand() != currentUser &&
-                !currentUser.getRoles().contains(Role.PROJECTMANAGER)) {
-            throw new IncorrectUserException("The current user is not allowed to redo the last undone action");
+        int index = getUndoneStack().size() - 1;
+        if (!isProjectManager(currentUser)) {
+            index = findLastCommandOf(getUndoneStack(), currentUser);
+            if (index == -1) {
+                throw new IncorrectUserException("The current user has no undone actions to redo");
+            }
+            HistoryEntry conflict = findConflictingCommand(getUndoneStack(), index);
+            if (conflict != null) {
+                throw new IncorrectUserException("The last undone action of the current user cannot be redone before the action '" + conflict.getCommand().getDetails() + "' of " + conflict.getUser().getUsername());
+            }
         }
+        HistoryEntry entry = getUndoneStack().get(index);
         try{
-            getLastUndoneCommand().execute();
+            entry.getCommand().execute();
         } catch (Exception e) {
             throw new RuntimeException();
         }
-        addLastExecutedCommand(getLastUndoneCommand(), getUserLastUndoneCommand());
-        removeLastUndoneCommand();
+        getExecutedStack().push(entry);
+        getUndoneStack().remove(index);
+        return entry.getCommand();
     }
 
     /**
-     * @return a list of tuples containing all the executed commands and the username of the user that executed the command, in order of execution
+     * @return an UNMODIFIABLE view of tuples containing all the executed commands and the username of the user that executed the command, in order of execution
      */
     public List<Tuple<CommandData,String>> getExecutedCommands(){
-        List<Tuple<CommandData,String>> prevCmdList = new LinkedList<>();
-        for (Tuple<Command,User> prevCmd : getExecutedStack()){
-            prevCmdList.add(new Tuple<>(prevCmd.getFirst().getCommandData(), prevCmd.getSecond().getUsername()));
-        }
-        return prevCmdList;
+        return executedCommandsView;
     }
 
     /**
-     * @return a list of tuples containing all the undone commands and the username of the user that executed the command, in order of undoing
+     * @return an UNMODIFIABLE view of tuples containing all the undone commands and the username of the user that executed the command, in order of undoing
      */
     public List<Tuple<CommandData,String>> getUndoneCommands() {
-        List<Tuple<CommandData, String>> undoneCmdList = new LinkedList<>();
-        for (Tuple<Command,User> undoneCmd : getUndoneStack()){
-            undoneCmdList.add(new Tuple<>(undoneCmd.getFirst().getCommandData(), undoneCmd.getSecond().getUsername()));
-        }
-        return undoneCmdList;
+        return undoneCommandsView;
     }
 
     /**
      * @return command data of the last executed command
      */
-    public CommandData getLastExecutedCommandData(){
+    public synchronized CommandData getLastExecutedCommandData(){
         if (getLastExecutedCommand() == null){
             return null;
         }
@@ -174,10 +455,147 @@ public class CommandManager implements CommandInterface {
     /**
      * @return command data of the last undone command
      */
-    public CommandData getLastUndoneCommandData(){
+    public synchronized CommandData getLastUndoneCommandData(){
         if (getLastUndoneCommand() == null){
             return null;
         }
         return getLastUndoneCommand().getCommandData();
     }
-}
\ No newline at end of file
+
+    /**
+     * Execution of a command, holding the locks of the projects the command changes until it is closed
+     */
+    private class CommandExecution implements Execution {
+        private final Command command;
+        private final CommandLocks.Locked locked;
+        private RecordedEntry recorded;
+        private boolean closed = false;
+
+        CommandExecution(Command command, CommandLocks.Locked locked) {
+            this.command = command;
+            this.locked = locked;
+        }
+
+        @Override
+        public void commit(User executingUser) {
+            if (recorded != null || closed) {
+                throw new IllegalStateException("The command was already committed");
+            }
+            recorded = commitExecutedCommand(command, executingUser);
+        }
+
+        /**
+         * @throws UncheckedIOException if writing the committed command to the journal fails
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            locked.close();
+            if (recorded != null) {
+                recorded.awaitDurable();
+                notifyObservers(command);
+            }
+        }
+    }
+
+    /**
+     * Entry appended to the journal, which may not be written to disk yet
+     */
+    private static class RecordedEntry {
+        private final CommandJournal journal;
+        private final long sequence;
+
+        RecordedEntry(CommandJournal journal, long sequence) {
+            this.journal = journal;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Waits until the entry is written to disk
+         *
+         * @throws UncheckedIOException if writing the journal fails
+         */
+        void awaitDurable() {
+            if (journal == null) {
+                return;
+            }
+            try {
+                journal.awaitDurable(sequence);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Command in the history, together with the user that executed it and its data as shown to the user
+     */
+    private static class HistoryEntry {
+        private final Command command;
+        private final User user;
+        private final Tuple<CommandData,String> data;
+
+        HistoryEntry(Command command, User user) {
+            this.command = command;
+            this.user = user;
+            this.data = new Tuple<>(command.getCommandData(), user.getUsername());
+        }
+
+        Command getCommand() {
+            return command;
+        }
+
+        User getUser() {
+            return user;
+        }
+
+        Tuple<CommandData,String> getData() {
+            return data;
+        }
+    }
+
+    /**
+     * Read-only view of the data of the commands in a history stack, iterating over a copy of the history taken at once
+     * so other sessions can change the history meanwhile
+     */
+    private class HistoryView extends AbstractList<Tuple<CommandData,String>> {
+        private final BoundedStack<HistoryEntry> stack;
+
+        HistoryView(BoundedStack<HistoryEntry> stack) {
+            this.stack = stack;
+        }
+
+        @Override
+        public Tuple<CommandData,String> get(int index) {
+            synchronized (CommandManager.this) {
+                return stack.get(index).getData();
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (CommandManager.this) {
+                return stack.size();
+            }
+        }
+
+        @Override
+        public Iterator<Tuple<CommandData,String>> iterator() {
+            return listIterator();
+        }
+
+        @Override
+        public ListIterator<Tuple<CommandData,String>> listIterator(int index) {
+            List<Tuple<CommandData,String>> copy = new ArrayList<>();
+            synchronized (CommandManager.this) {
+                for (HistoryEntry entry : stack) {
+                    copy.add(entry.getData());
+                }
+            }
+            return Collections.unmodifiableList(copy).listIterator(index);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package Application.Command;
+
+/**
+ * Observer of the command manager, notified every time a command is executed, undone or redone
+ */
+public interface CommandObserver {
+
+    /**
+     * Called after the given command was executed, undone or redone and recorded by the command manager
+     *
+     * @param command Data of the command
+     */
+    void update(CommandData command);
+}
@@ -0,0 +1,373 @@
+package Application.Command.Journal;
+
+import Application.Command.Command;
+import Application.Command.CommandData;
+import Application.Command.CommandManager;
+import Application.Command.CommandObserver;
+import Domain.DataClasses.BinaryIO;
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.TaskManSystem.SystemCheckpoint;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.User;
+import Domain.User.UserManager;
+import Domain.User.UserNotFoundException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Periodically checkpoints the system, together with the user assignments and the command history, and compacts the
+ * command journal, so a restart only has to replay the commands executed since the last checkpoint.
+ * <p>
+ * The state is captured in memory at a command boundary, every given amount of commands, after which the journal moves
+ * on to a new generation. Only the sections of projects that changed since the previous capture are encoded again.
+ * Writing the checkpoint happens on a background thread: only sections of projects that changed since the previous
+ * checkpoint are written, unchanged sections are shared by name (a hash of their contents). Once the manifest of the
+ * new checkpoint is on disk, the journals of older generations and unused sections are removed.
+ */
+public class Checkpointer implements CommandObserver, Closeable {
+
+    private static final String MANIFEST = "checkpoint";
+    private static final int MAGIC = 0x544D434B;
+    private static final short VERSION = 2;
+    private static final Pattern JOURNAL_PATTERN = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SECTION_PATTERN = Pattern.compile("section-[0-9a-f]+\\.bin");
+
+    private final Path directory;
+    private final TaskManSystem taskManSystem;
+    private final UserManager userManager;
+    private final CommandManager commandManager;
+    private final int interval;
+    private final ExecutorService writer;
+
+    private CommandJournal journal;
+    private long generation = 0;
+    private int commandsSinceCheckpoint = 0;
+    private Future<?> lastCheckpoint;
+    private SystemCheckpoint lastCaptured;
+    private volatile IOException checkpointFailure;
+
+    /**
+     * Creates a checkpointer keeping its checkpoints and journals in the given directory
+     *
+     * @param directory      Directory holding the checkpoints and journals, created if it does not exist
+     * @param taskManSystem  The system to checkpoint
+     * @param userManager    The manager holding all users of the system
+     * @param commandManager The command manager of which to checkpoint the history and journal the commands
+     * @param interval       Amount of commands after which a new checkpoint is taken
+     */
+    public Checkpointer(Path directory, TaskManSystem taskManSystem, UserManager userManager, CommandManager commandManager, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The checkpoint interval must be positive");
+        }
+        this.directory = directory;
+        this.taskManSystem = taskManSystem;
+        this.userManager = userManager;
+        this.commandManager = commandManager;
+        this.interval = interval;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Restores the latest checkpoint and replays the journals written since, then starts journalling the commands of
+     * the command manager and taking checkpoints
+     *
+     * @throws IOException if the checkpoint or journals cannot be read or replayed
+     */
+    public void recover() throws IOException {
+        Files.createDirectories(directory);
+        JournalRecovery recovery = new JournalRecovery(taskManSystem, userManager, commandManager);
+
+        long startGeneration = 0;
+        Path manifest = directory.resolve(MANIFEST);
+        if (Files.exists(manifest)) {
+            startGeneration = readManifest(manifest, recovery);
+        }
+
+        generation = startGeneration;
+        for (long journalGeneration : getJournalGenerations()) {
+            if (journalGeneration >= startGeneration) {
+                recovery.recover(getJournalFile(journalGeneration));
+                generation = journalGeneration;
+            }
+        }
+
+        journal = new CommandJournal(getJournalFile(generation));
+        commandManager.setJournal(journal);
+        commandManager.addObserver(this);
+    }
+
+    /**
+     * Counts the recorded command, and takes a checkpoint once the interval is reached. If the checkpoint cannot be
+     * taken, the command is not affected: the failure is kept to be reported by {@link #awaitCheckpoint()}, and the
+     * checkpoint is tried again after the next command.
+     */
+    @Override
+    public void update(CommandData command) {
+        commandsSinceCheckpoint++;
+        if (commandsSinceCheckpoint >= interval) {
+            try {
+                checkpoint();
+            } catch (IOException e) {
+                checkpointFailure = e;
+            }
+        }
+    }
+
+    /**
+     * Captures the current state and command history, moves the journal on to a new generation, and writes the
+     * checkpoint in the background. Commands of other sessions wait until the capture is done.
+     *
+     * @return Future completing when the checkpoint is on disk
+     * @throws IOException if the journal of the new generation cannot be opened
+     */
+    public Future<?> checkpoint() throws IOException {
+        // no command may change the system or the history while both are captured
+        Lock lock = commandManager.lockAllCommands();
+        try {
+            SystemCheckpoint checkpoint = SystemCheckpoint.capture(taskManSystem, lastCaptured);
+            List<JournalEntry> executedCommands = toEntries(JournalEntry.Type.EXECUTE, commandManager.getExecutedCommands());
+            List<JournalEntry> undoneCommands = toEntries(JournalEntry.Type.UNDO, commandManager.getUndoneCommands());
+
+            long nextGeneration = generation + 1;
+            CommandJournal nextJournal = new CommandJournal(getJournalFile(nextGeneration));
+            commandManager.setJournal(nextJournal);
+            journal.close();
+            journal = nextJournal;
+            generation = nextGeneration;
+            commandsSinceCheckpoint = 0;
+            lastCaptured = checkpoint;
+
+            lastCheckpoint = writer.submit(() -> {
+                persist(checkpoint, executedCommands, undoneCommands, nextGeneration);
+                return null;
+            });
+            return lastCheckpoint;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the last checkpoint taken is on disk
+     *
+     * @throws IOException if writing the checkpoint failed, or taking a checkpoint after a command failed since the
+     *                     last call
+     */
+    public void awaitCheckpoint() throws IOException {
+        IOException failure = checkpointFailure;
+        if (failure != null) {
+            checkpointFailure = null;
+            throw new IOException("Taking the checkpoint failed", failure);
+        }
+        if (lastCheckpoint == null) {
+            return;
+        }
+        try {
+            lastCheckpoint.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the checkpoint");
+        } catch (ExecutionException e) {
+            throw new IOException("Writing the checkpoint failed", e.getCause());
+        }
+    }
+
+    /**
+     * Waits for the last checkpoint, stops the background writer and closes the journal
+     *
+     * @throws IOException if writing the last checkpoint or closing the journal failed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            awaitCheckpoint();
+        } finally {
+            writer.shutdown();
+            if (journal != null) {
+                journal.close();
+            }
+        }
+    }
+
+    private static List<JournalEntry> toEntries(JournalEntry.Type type, List<Tuple<CommandData, String>> commands) {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (Tuple<CommandData, String> command : commands) {
+            entries.add(new JournalEntry(type, command.getSecond(), command.getFirst()));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the sections that are not on disk yet and the manifest of the given checkpoint, then removes the journals
+     * and sections the new checkpoint no longer needs
+     */
+    private void persist(SystemCheckpoint checkpoint, List<JournalEntry> executedCommands, List<JournalEntry> undoneCommands, long journalGeneration) throws IOException {
+        List<String> sectionNames = new ArrayList<>();
+        for (byte[] section : checkpoint.getSections()) {
+            String sectionName = "section-" + hash(section) + ".bin";
+            Path sectionFile = directory.resolve(sectionName);
+            if (!Files.exists(sectionFile)) {
+                writeDurably(sectionFile, section);
+            }
+            sectionNames.add(sectionName);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        BinaryIO.writeTime(data, checkpoint.getSystemTime());
+        data.writeLong(journalGeneration);
+        writeStrings(data, checkpoint.getProjectNames());
+        writeStrings(data, sectionNames);
+        writeEntries(data, executedCommands);
+        writeEntries(data, undoneCommands);
+        data.flush();
+        writeDurably(directory.resolve(MANIFEST), bytes.toByteArray());
+
+        for (long oldGeneration : getJournalGenerations()) {
+            if (oldGeneration < journalGeneration) {
+                Files.deleteIfExists(getJournalFile(oldGeneration));
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (SECTION_PATTERN.matcher(name).matches() && !sectionNames.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores the checkpoint described by the given manifest
+     *
+     * @return The generation of the first journal written after the checkpoint
+     */
+    private long readManifest(Path manifest, JournalRecovery recovery) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(manifest)));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a checkpoint manifest");
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version " + version);
+        }
+        Time systemTime = BinaryIO.readTime(data);
+        long journalGeneration = data.readLong();
+        List<String> projectNames = readStrings(data);
+        List<byte[]> sections = new ArrayList<>();
+        for (String sectionName : readStrings(data)) {
+            sections.add(Files.readAllBytes(directory.resolve(sectionName)));
+        }
+        List<JournalEntry> executedCommands = readEntries(data);
+        List<JournalEntry> undoneCommands = readEntries(data);
+
+        SystemCheckpoint.of(systemTime, projectNames, sections).restore(taskManSystem, userManager);
+        commandManager.restoreHistory(toCommands(executedCommands, recovery), toCommands(undoneCommands, recovery));
+        return journalGeneration;
+    }
+
+    private List<Tuple<Command, User>> toCommands(List<JournalEntry> entries, JournalRecovery recovery) throws IOException {
+        List<Tuple<Command, User>> commands = new ArrayList<>();
+        for (JournalEntry entry : entries) {
+            try {
+                commands.add(new Tuple<>(
+                        recovery.createCommand(entry.getCommandName(), entry.getArguments()),
+                        userManager.getUser(entry.getUserName())
+                ));
+            } catch (UserNotFoundException e) {
+                throw new IOException("Unknown user in checkpoint: " + entry.getUserName(), e);
+            }
+        }
+        return commands;
+    }
+
+    private List<Long> getJournalGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = JOURNAL_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    generations.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private Path getJournalFile(long journalGeneration) {
+        return directory.resolve("journal-" + journalGeneration + ".log");
+    }
+
+    /**
+     * Writes the given bytes to a temporary file, forces it to disk and moves it in place atomically
+     */
+    private static void writeDurably(Path file, byte[] bytes) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(bytes));
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeStrings(DataOutput out, List<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            BinaryIO.writeString(out, string);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            strings.add(BinaryIO.readString(in));
+        }
+        return strings;
+    }
+
+    private static void writeEntries(DataOutput out, List<JournalEntry> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (JournalEntry entry : entries) {
+            entry.write(out);
+        }
+    }
+
+    private static List<JournalEntry> readEntries(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(JournalEntry.read(in));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,258 @@
+package Application.Command.Journal;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of executed, undone and redone commands, used to recover the system after a crash.
+ * <p>
+ * Every entry is framed by its length and a CRC32 checksum, so an entry that was only partially written when the
+ * system crashed is detected and dropped. Entries appended concurrently are written and forced together by a single
+ * writer thread (group commit), so throughput is not bound by one fsync per command. Appending an entry and waiting
+ * for it to be forced to disk are separate steps, so callers can fix the order of their entries under their own lock
+ * and wait for the disk after releasing it.
+ */
+public class CommandJournal implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+
+    private final FileChannel channel;
+    private final Thread writer;
+    private final Object lock = new Object();
+
+    private List<byte[]> pendingEntries = new ArrayList<>();
+    private long appendedCount = 0;
+    private long durableCount = 0;
+    private IOException failure;
+    private boolean closed = false;
+
+    /**
+     * Opens the journal in the given file for appending, creating it if it does not exist. An incomplete entry at the
+     * end of the file, left by a crash, is truncated.
+     *
+     * @param file The journal file
+     * @throws IOException if the file cannot be opened
+     */
+    public CommandJournal(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(readEntries(channel, new ArrayList<>()));
+        channel.position(channel.size());
+
+        this.writer = new Thread(this::writeEntries, "command-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Reads all complete entries of the journal in the given file
+     *
+     * @param file The journal file
+     * @return The entries in order of appending, empty if the file does not exist
+     * @throws IOException if reading fails
+     */
+    public static List<JournalEntry> read(Path file) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        if (Files.exists(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                readEntries(channel, entries);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Appends the given entry to the journal, and waits until it is forced to disk
+     *
+     * @param entry The entry to append
+     * @throws IOException if the journal is closed or writing to it failed
+     */
+    public void append(JournalEntry entry) throws IOException {
+        awaitDurable(enqueue(entry));
+    }
+
+    /**
+     * Appends the given entry to the journal without waiting for it to be written. Entries are written in order of
+     * appending, so the order in which concurrent threads call this method is the order in which they are recovered.
+     *
+     * @param entry The entry to append
+     * @return The sequence number of the entry, to wait for with {@link #awaitDurable(long)}
+     * @throws IOException if the journal is closed
+     */
+    public long enqueue(JournalEntry entry) throws IOException {
+        byte[] record = encode(entry);
+        synchronized (lock) {
+            if (closed) {
+                throw new IOException("The command journal is closed");
+            }
+            pendingEntries.add(record);
+            lock.notifyAll();
+            return ++appendedCount;
+        }
+    }
+
+    /**
+     * Waits until the entry with the given sequence number, and all entries appended before it, are forced to disk.
+     * Entries appended before the journal was closed are still written by closing it.
+     *
+     * @param sequence The sequence number returned when appending the entry
+     * @throws IOException if writing the entry failed
+     */
+    public void awaitDurable(long sequence) throws IOException {
+        synchronized (lock) {
+            while (durableCount < sequence && failure == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the command journal");
+                }
+            }
+            if (durableCount < sequence) {
+                throw new IOException("Writing the command journal failed", failure);
+            }
+        }
+    }
+
+    /**
+     * Writes all entries that are still pending and closes the journal
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    /**
+     * Body of the writer thread, writes and forces all pending entries in one batch until the journal is closed
+     */
+    private void writeEntries() {
+        while (true) {
+            List<byte[]> batch;
+            synchronized (lock) {
+                while (pendingEntries.isEmpty() && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pendingEntries.isEmpty()) {
+                    return;
+                }
+                batch = pendingEntries;
+                pendingEntries = new ArrayList<>();
+            }
+
+            IOException batchFailure = null;
+            try {
+                int size = 0;
+                for (byte[] record : batch) {
+                    size += record.length;
+                }
+                ByteBuffer buffer = ByteBuffer.allocate(size);
+                for (byte[] record : batch) {
+                    buffer.put(record);
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                batchFailure = e;
+            }
+
+            synchronized (lock) {
+                if (batchFailure == null) {
+                    durableCount += batch.size();
+                } else {
+                    failure = batchFailure;
+                    closed = true;
+                }
+                lock.notifyAll();
+                if (batchFailure != null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The given entry framed by its length and checksum
+     */
+    private static byte[] encode(JournalEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        entry.write(data);
+        data.flush();
+        byte[] payload = bytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        record.putInt(payload.length);
+        record.putInt((int) crc.getValue());
+        record.put(payload);
+        return record.array();
+    }
+
+    /**
+     * Reads all complete entries from the start of the given channel
+     *
+     * @param channel The channel to read from
+     * @param entries List to add the read entries to
+     * @return The position right after the last complete entry
+     * @throws IOException if reading fails
+     */
+    private static long readEntries(FileChannel channel, List<JournalEntry> entries) throws IOException {
+        long position = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_SIZE);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            entries.add(JournalEntry.read(new DataInputStream(new ByteArrayInputStream(payload.array()))));
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+}
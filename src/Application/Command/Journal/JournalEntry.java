@@ -0,0 +1,132 @@
+package Application.Command.Journal;
+
+import Application.Command.CommandData;
+import Domain.DataClasses.BinaryIO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable entry of the command journal, recording that a user executed, undid or redid a command
+ */
+public class JournalEntry {
+
+    /**
+     * What happened to the command of a journal entry
+     */
+    public enum Type {
+        EXECUTE,
+        UNDO,
+        REDO
+    }
+
+    private final Type type;
+    private final String userName;
+    private final String commandName;
+    private final Map<String, String> arguments;
+
+    /**
+     * Creates a journal entry
+     *
+     * @param type        What happened to the command
+     * @param userName    Name of the user that executed, undid or redid the command
+     * @param commandName Name of the command
+     * @param arguments   Arguments of the command, by name
+     */
+    public JournalEntry(Type type, String userName, String commandName, Map<String, String> arguments) {
+        this.type = type;
+        this.userName = userName;
+        this.commandName = commandName;
+        this.arguments = Collections.unmodifiableMap(new LinkedHashMap<>(arguments));
+    }
+
+    /**
+     * Creates a journal entry of the given command
+     *
+     * @param type     What happened to the command
+     * @param userName Name of the user that executed, undid or redid the command
+     * @param command  The command, of which the name and arguments are recorded
+     */
+    public JournalEntry(Type type, String userName, CommandData command) {
+        this(type, userName, command.getName(), getOrderedArguments(command));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * @return IMMUTABLE map of the arguments of the command, in the order of the commands argument names
+     */
+    public Map<String, String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return The arguments of the given command, in the order of its argument names
+     */
+    private static Map<String, String> getOrderedArguments(CommandData command) {
+        Map<String, String> arguments = command.getArguments();
+        Map<String, String> ordered = new LinkedHashMap<>();
+        for (String name : command.getArgumentNames()) {
+            ordered.put(name, arguments.get(name));
+        }
+        return ordered;
+    }
+
+    /**
+     * Writes this entry to the given output
+     *
+     * @param out Output to write to
+     * @throws IOException if writing fails
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeByte(getType().ordinal());
+        BinaryIO.writeString(out, getUserName());
+        BinaryIO.writeString(out, getCommandName());
+        out.writeInt(getArguments().size());
+        for (Map.Entry<String, String> argument : getArguments().entrySet()) {
+            BinaryIO.writeString(out, argument.getKey());
+            BinaryIO.writeString(out, argument.getValue());
+        }
+    }
+
+    /**
+     * Reads an entry written by {@link #write(DataOutput)}
+     *
+     * @param in Input to read from
+     * @return The read entry
+     * @throws IOException if reading fails or the entry is invalid
+     */
+    static JournalEntry read(DataInput in) throws IOException {
+        int type = in.readUnsignedByte();
+        if (type >= Type.values().length) {
+            throw new IOException("Invalid journal entry type: " + type);
+        }
+        String userName = BinaryIO.readString(in);
+        String commandName = BinaryIO.readString(in);
+        int argumentCount = in.readInt();
+        Map<String, String> arguments = new LinkedHashMap<>();
+        for (int i = 0; i < argumentCount; i++) {
+            arguments.put(BinaryIO.readString(in), BinaryIO.readString(in));
+        }
+        return new JournalEntry(Type.values()[type], userName, commandName, arguments);
+    }
+
+    @Override
+    public String toString() {
+        return getType() + " " + getCommandName() + " by " + getUserName() + " " + getArguments();
+    }
+}
@@ -0,0 +1,254 @@
+package Application.Command.Journal;
+
+import Application.Command.BatchCommand;
+import Application.Command.Command;
+import Application.Command.CommandManager;
+import Application.Command.UndoNotPossibleException;
+import Application.Command.AdvanceTimeCommands.AdvanceTimeCommand;
+import Application.Command.AdvanceTimeCommands.SetNewTimeCommand;
+import Application.Command.LoadSystemCommands.LoadSystemCommand;
+import Application.Command.ProjectCommands.CreateProjectCommand;
+import Application.Command.ProjectCommands.DeleteProjectCommand;
+import Application.Command.TaskCommands.*;
+import Application.Command.UpdateDependenciesCommands.AddNextTaskCommand;
+import Application.Command.UpdateDependenciesCommands.AddPrevTaskCommand;
+import Application.Command.UpdateDependenciesCommands.RemoveNextTaskCommand;
+import Application.Command.UpdateDependenciesCommands.RemovePrevTaskCommand;
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import Domain.User.UserNotFoundException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recovers the system after a crash by replaying the command journal, rebuilding every journalled command from its
+ * name and arguments
+ */
+public class JournalRecovery {
+
+    private static final Pattern TIME_PATTERN = Pattern.compile("(\\d+) hour\\(s\\), (\\d+) minute\\(s\\)");
+
+    private final TaskManSystem taskManSystem;
+    private final UserManager userManager;
+    private final CommandManager commandManager;
+
+    /**
+     * Creates a recovery that replays journals into the given objects
+     *
+     * @param taskManSystem  The system to replay the commands on
+     * @param userManager    The manager holding all users that executed the commands
+     * @param commandManager The command manager to register the replayed commands with, without a journal set
+     */
+    public JournalRecovery(TaskManSystem taskManSystem, UserManager userManager, CommandManager commandManager) {
+        this.taskManSystem = taskManSystem;
+        this.userManager = userManager;
+        this.commandManager = commandManager;
+    }
+
+    private TaskManSystem getTaskManSystem() {
+        return taskManSystem;
+    }
+
+    private UserManager getUserManager() {
+        return userManager;
+    }
+
+    private CommandManager getCommandManager() {
+        return commandManager;
+    }
+
+    /**
+     * Replays all entries of the journal in the given file
+     *
+     * @param file The journal file
+     * @return The amount of replayed entries
+     * @throws IOException if reading the journal fails, or one of its entries cannot be replayed
+     */
+    public int recover(Path file) throws IOException {
+        List<JournalEntry> entries = CommandJournal.read(file);
+        for (JournalEntry entry : entries) {
+            replay(entry);
+        }
+        return entries.size();
+    }
+
+    /**
+     * Replays the given entry, executing, undoing or redoing its command
+     *
+     * @param entry The entry to replay
+     * @throws IOException if the entry cannot be replayed
+     */
+    public void replay(JournalEntry entry) throws IOException {
+        try {
+            User user = getUserManager().getUser(entry.getUserName());
+            switch (entry.getType()) {
+                case EXECUTE -> {
+                    Command command = createCommand(entry.getCommandName(), entry.getArguments());
+                    command.execute();
+                    getCommandManager().addExecutedCommand(command, user);
+                }
+                case UNDO -> getCommandManager().undoLastCommand(user);
+                case REDO -> getCommandManager().redoLast(user);
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not replay journal entry " + entry, e);
+        }
+    }
+
+    /**
+     * Rebuilds the command with the given name from the given arguments
+     *
+     * @param name      Name of the command, as returned by its getName()
+     * @param arguments Arguments of the command, as returned by its getArguments()
+     * @return The rebuilt command, not executed yet
+     * @throws IOException           if there is no command with the given name, or the arguments are invalid
+     * @throws UserNotFoundException if one of the arguments refers to a user that does not exist
+     */
+    Command createCommand(String name, Map<String, String> arguments) throws IOException, UserNotFoundException {
+        TaskManSystem system = getTaskManSystem();
+        return switch (name) {
+            case "Advance time" -> new AdvanceTimeCommand(system, parseInt(get(arguments, "minutes")));
+            case "Set new time" -> new SetNewTimeCommand(system, parseTime(get(arguments, "newTime")));
+            case "Load system" -> new LoadSystemCommand(get(arguments, "path"), system, getUserManager());
+            case "Create project" -> new CreateProjectCommand(system, get(arguments, "projectName"),
+                    get(arguments, "projectDescription"), parseTime(get(arguments, "dueTime")));
+            case "Delete project" -> new DeleteProjectCommand(system, get(arguments, "projectName"));
+            case "Create task" -> new CreateTaskCommand(system, get(arguments, "projectName"),
+                    get(arguments, "taskName"), get(arguments, "description"),
+                    parseTime(get(arguments, "durationTime")), parseDouble(get(arguments, "deviation")),
+                    parseRoles(arguments), parseTasks(arguments, "previousTasks"), parseTasks(arguments, "nextTasks"));
+            case "Replace task" -> new ReplaceTaskCommand(system, get(arguments, "projectName"),
+                    get(arguments, "taskName"), get(arguments, "description"),
+                    parseTime(get(arguments, "durationTime")), parseDouble(get(arguments, "deviation")),
+                    get(arguments, "replaces"));
+            case "Delete task" -> new DeleteTaskCommand(system, get(arguments, "projectName"), get(arguments, "taskName"));
+            case "Start task" -> new StartTaskCommand(system, get(arguments, "projectName"), get(arguments, "taskName"),
+                    getUserManager().getUser(get(arguments, "user")), parseRole(get(arguments, "role")));
+            case "Finish task" -> new FinishTaskCommand(system, get(arguments, "projectName"), get(arguments, "taskName"),
+                    getUserManager().getUser(get(arguments, "user")));
+            case "Fail task" -> new FailTaskCommand(system, get(arguments, "projectName"), get(arguments, "taskName"),
+                    getUserManager().getUser(get(arguments, "user")));
+            case "Add next task" -> new AddNextTaskCommand(system, get(arguments, "projectName"),
+                    get(arguments, "taskName"), get(arguments, "nextProjectName"), get(arguments, "nextTaskName"));
+            case "Add previous task" -> new AddPrevTaskCommand(system, get(arguments, "projectName"),
+                    get(arguments, "taskName"), get(arguments, "previousProjectName"), get(arguments, "previousTaskName"));
+            case "Remove next task" -> new RemoveNextTaskCommand(system, get(arguments, "projectName"),
+                    get(arguments, "taskName"), get(arguments, "nextProjectName"), get(arguments, "nextTaskName"));
+            case "Remove previous task" -> new RemovePrevTaskCommand(system, get(arguments, "projectName"),
+                    get(arguments, "taskName"), get(arguments, "previousProjectName"), get(arguments, "previousTaskName"));
+            case "Batch" -> createBatch(arguments);
+            default -> throw new IOException("Unknown command in journal: " + name);
+        };
+    }
+
+    /**
+     * Rebuilds a batch from the arguments of its commands, which are prefixed by their position in the batch
+     */
+    private Command createBatch(Map<String, String> arguments) throws IOException, UserNotFoundException {
+        int size = parseInt(get(arguments, "commands"));
+        List<Map<String, String>> commandArguments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            commandArguments.add(new HashMap<>());
+        }
+        for (Map.Entry<String, String> argument : arguments.entrySet()) {
+            int separator = argument.getKey().indexOf('.');
+            if (separator != -1) {
+                int index = parseInt(argument.getKey().substring(0, separator));
+                if (index < 0 || index >= size) {
+                    throw new IOException("Invalid batch argument in journal: " + argument.getKey());
+                }
+                commandArguments.get(index).put(argument.getKey().substring(separator + 1), argument.getValue());
+            }
+        }
+        List<Command> commands = new ArrayList<>();
+        for (Map<String, String> command : commandArguments) {
+            commands.add(createCommand(get(command, "command"), command));
+        }
+        try {
+            return new BatchCommand(getTaskManSystem(), commands);
+        } catch (UndoNotPossibleException e) {
+            throw new IOException("Batch in journal contains a command that cannot be undone", e);
+        }
+    }
+
+    private static String get(Map<String, String> arguments, String name) throws IOException {
+        String value = arguments.get(name);
+        if (value == null) {
+            throw new IOException("Missing argument in journal: " + name);
+        }
+        return value;
+    }
+
+    private static int parseInt(String value) throws IOException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number in journal: " + value, e);
+        }
+    }
+
+    private static double parseDouble(String value) throws IOException {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number in journal: " + value, e);
+        }
+    }
+
+    /**
+     * @return The time written by Time.toString()
+     */
+    private static Time parseTime(String value) throws IOException {
+        Matcher matcher = TIME_PATTERN.matcher(value);
+        if (!matcher.matches()) {
+            throw new IOException("Invalid time in journal: " + value);
+        }
+        return Time.of(Long.parseLong(matcher.group(1)) * 60 + Long.parseLong(matcher.group(2)));
+    }
+
+    /**
+     * @return The role written by Role.toString()
+     */
+    private static Role parseRole(String value) throws IOException {
+        for (Role role : Role.values()) {
+            if (role.toString().equals(value)) {
+                return role;
+            }
+        }
+        throw new IOException("Invalid role in journal: " + value);
+    }
+
+    /**
+     * @return The roles stored one per key, after the amount of roles
+     */
+    private static List<Role> parseRoles(Map<String, String> arguments) throws IOException {
+        int size = parseInt(get(arguments, "roles"));
+        List<Role> roles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            roles.add(parseRole(get(arguments, "roles." + i)));
+        }
+        return roles;
+    }
+
+    /**
+     * @return The (project name, task name) tuples stored with one key per name, after the amount of tuples
+     */
+    private static Set<Tuple<String, String>> parseTasks(Map<String, String> arguments, String name) throws IOException {
+        int size = parseInt(get(arguments, name));
+        Set<Tuple<String, String>> tasks = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            tasks.add(new Tuple<>(get(arguments, name + "." + i + ".project"), get(arguments, name + "." + i + ".task")));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,85 @@
+package Application.Command.LoadSystemCommands;
+
+import Domain.DataClasses.InvalidTimeException;
+import Domain.DataClasses.Time;
+import org.json.simple.JSONObject;
+
+/**
+ * Compact description of a project read from a system file
+ */
+class ProjectRecord {
+
+    private final String name;
+    private final String description;
+    private final Time startTime;
+    private final Time dueTime;
+
+    private ProjectRecord(String name, String description, Time startTime, Time dueTime) {
+        this.name = name;
+        this.description = description;
+        this.startTime = startTime;
+        this.dueTime = dueTime;
+    }
+
+    /**
+     * Reads a project from the given JSON object
+     *
+     * @param project JSON object containing the project fields
+     * @return The project record corresponding to the given object
+     * @throws InvalidTimeException if the start or due time of the project is invalid
+     * @throws InvalidFileException if a field of the project is missing or of the wrong type
+     */
+    static ProjectRecord fromJSON(JSONObject project) throws InvalidTimeException, InvalidFileException {
+        return new ProjectRecord(
+                getString(project, "name"),
+                getString(project, "description"),
+                new Time(getInt(project, "startHour"), getInt(project, "startMinute")),
+                new Time(getInt(project, "endHour"), getInt(project, "endMinute"))
+        );
+    }
+
+    /**
+     * @return The string in the given field of the given JSON object
+     * @throws InvalidFileException if the field is missing or not a string
+     */
+    static String getString(JSONObject object, String key) throws InvalidFileException {
+        if (!(object.get(key) instanceof String value)) {
+            throw new InvalidFileException(key + " invalid format");
+        }
+        return value;
+    }
+
+    /**
+     * @return The number in the given field of the given JSON object, as an int
+     * @throws InvalidFileException if the field is missing or not a number
+     */
+    static int getInt(JSONObject object, String key) throws InvalidFileException {
+        if (!(object.get(key) instanceof Number)) {
+            throw new InvalidFileException(key + " invalid format");
+        }
+        return toInt(object.get(key));
+    }
+
+    /**
+     * @return The given JSON number as an int
+     */
+    static int toInt(Object number) {
+        return ((Number) number).intValue();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    Time getStartTime() {
+        return startTime;
+    }
+
+    Time getDueTime() {
+        return dueTime;
+    }
+}
@@ -0,0 +1,96 @@
+package Application.Command.LoadSystemCommands;
+
+import Domain.DataClasses.Time;
+
+/**
+ * An event that happened at a given time while the loaded system was being built up, replayed in chronological order
+ */
+abstract class ReplayEvent {
+
+    private final Time time;
+
+    ReplayEvent(Time time) {
+        this.time = time;
+    }
+
+    /**
+     * @return The time at which this event happened
+     */
+    Time getTime() {
+        return time;
+    }
+
+    /**
+     * @return The priority of this event among events happening at the same time, events with a lower priority are replayed first
+     */
+    abstract int getPriority();
+
+    /**
+     * The creation of a project
+     */
+    static final class ProjectCreated extends ReplayEvent {
+        private final ProjectRecord project;
+
+        ProjectCreated(ProjectRecord project) {
+            super(project.getStartTime());
+            this.project = project;
+        }
+
+        ProjectRecord getProject() {
+            return project;
+        }
+
+        /**
+         * Projects are created before anything else happens at the same time, so their tasks can be added
+         */
+        @Override
+        int getPriority() {
+            return 0;
+        }
+    }
+
+    /**
+     * The end (finish or failure) of a task
+     */
+    static final class TaskEnded extends ReplayEvent {
+        private final TaskRecord task;
+
+        TaskEnded(TaskRecord task) {
+            super(task.getEndTime());
+            this.task = task;
+        }
+
+        TaskRecord getTask() {
+            return task;
+        }
+
+        /**
+         * Tasks end before other tasks start at the same time, so next tasks can start as soon as their previous tasks end
+         */
+        @Override
+        int getPriority() {
+            return 1;
+        }
+    }
+
+    /**
+     * The creation and start of a task
+     */
+    static final class TaskStarted extends ReplayEvent {
+        private final TaskRecord task;
+
+        TaskStarted(TaskRecord task) {
+            super(task.getStartTime());
+            this.task = task;
+        }
+
+        TaskRecord getTask() {
+            return task;
+        }
+
+        @Override
+        int getPriority() {
+            return 2;
+        }
+    }
+}
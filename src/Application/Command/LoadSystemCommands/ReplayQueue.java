@@ -0,0 +1,75 @@
+package Application.Command.LoadSystemCommands;
+
+import Domain.DataClasses.Time;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Orders replay events chronologically and hands them out in batches of events happening at the same time.
+ * Events at the same time are ordered on their priority, and events with the same priority keep the order in which
+ * they were added.
+ *
+ * @param <E> Type of the queued events
+ */
+class ReplayQueue<E extends ReplayEvent> {
+
+    /**
+     * An event together with the position at which it was added, used to break ties
+     */
+    private static final class Entry<E> {
+        private final E event;
+        private final long sequence;
+
+        private Entry(E event, long sequence) {
+            this.event = event;
+            this.sequence = sequence;
+        }
+    }
+
+    private final PriorityQueue<Entry<E>> events = new PriorityQueue<>(
+            Comparator.<Entry<E>, Time>comparing(entry -> entry.event.getTime())
+                    .thenComparingInt(entry -> entry.event.getPriority())
+                    .thenComparingLong(entry -> entry.sequence)
+    );
+    private long nextSequence = 0;
+
+    /**
+     * @param event The event to add to this queue
+     */
+    void add(E event) {
+        events.add(new Entry<>(event, nextSequence++));
+    }
+
+    /**
+     * @return true if there are no events left in this queue
+     */
+    boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * @return The time of the earliest event in this queue
+     * @pre !isEmpty()
+     */
+    Time getNextTime() {
+        return events.element().event.getTime();
+    }
+
+    /**
+     * Removes and returns all events happening at the time of the earliest event in this queue
+     *
+     * @return The removed events, in replay order
+     * @pre !isEmpty()
+     */
+    List<E> pollBatch() {
+        Time time = getNextTime();
+        List<E> batch = new ArrayList<>();
+        while (!events.isEmpty() && events.element().event.getTime().equals(time)) {
+            batch.add(events.poll().event);
+        }
+        return batch;
+    }
+}
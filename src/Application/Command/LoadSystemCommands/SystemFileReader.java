@@ -0,0 +1,225 @@
+package Application.Command.LoadSystemCommands;
+
+import Domain.DataClasses.InvalidTimeException;
+import Domain.DataClasses.Time;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streams a system file, handing every project and task to the given handlers as soon as it has been read.
+ * Only the project or task that is currently being read is kept as a JSON tree, the document itself is never
+ * built in memory.
+ */
+class SystemFileReader implements ContentHandler {
+
+    /**
+     * Handles a record read from the file
+     *
+     * @param <R> Type of the handled record
+     */
+    @FunctionalInterface
+    interface RecordHandler<R> {
+        void handle(R record);
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final RecordHandler<ProjectRecord> projectHandler;
+    private final RecordHandler<TaskRecord> taskHandler;
+
+    private final Deque<Object> elements = new ArrayDeque<>();
+    private final Deque<String> keys = new ArrayDeque<>();
+    private final Map<String, Object> rootValues = new HashMap<>();
+    private String rootKey;
+    private int depth;
+
+    private InvalidTimeException invalidTime;
+    private InvalidFileException invalidFile;
+
+    /**
+     * Creates a reader handing all read projects and tasks to the given handlers
+     *
+     * @param projectHandler Handles every read project, in file order
+     * @param taskHandler    Handles every read task, in file order
+     */
+    SystemFileReader(RecordHandler<ProjectRecord> projectHandler, RecordHandler<TaskRecord> taskHandler) {
+        this.projectHandler = projectHandler;
+        this.taskHandler = taskHandler;
+    }
+
+    /**
+     * Reads the file at the given path
+     *
+     * @param path Path of the system file to read
+     * @throws IOException          if the file can not be read
+     * @throws ParseException       if the file is not valid JSON
+     * @throws InvalidTimeException if a time in the file is invalid
+     * @throws InvalidFileException if a project or task in the file is not in the expected format, or the file has no
+     *                              system time
+     */
+    void read(String path) throws IOException, ParseException, InvalidTimeException, InvalidFileException {
+        try (Reader reader = new BufferedReader(new FileReader(path), BUFFER_SIZE)) {
+            new JSONParser().parse(reader, this);
+        }
+        if (invalidTime != null) {
+            throw invalidTime;
+        }
+        if (invalidFile != null) {
+            throw invalidFile;
+        }
+        if (!(rootValues.get("systemHour") instanceof Number) || !(rootValues.get("systemMinute") instanceof Number)) {
+            throw new InvalidFileException("systemTime invalid format");
+        }
+    }
+
+    /**
+     * @return The system time stored in the read file
+     * @throws InvalidTimeException if the stored system time is invalid
+     */
+    Time getSystemTime() throws InvalidTimeException {
+        return new Time(ProjectRecord.toInt(rootValues.get("systemHour")), ProjectRecord.toInt(rootValues.get("systemMinute")));
+    }
+
+    /**
+     * @return true if the parser is inside a project or task object
+     */
+    private boolean inRecord() {
+        return !elements.isEmpty();
+    }
+
+    /**
+     * @return true if a container starting at the current depth is a project or task object
+     */
+    private boolean startsRecord() {
+        return depth == 2 && ("projects".equals(rootKey) || "tasks".equals(rootKey));
+    }
+
+    @Override
+    public void startJSON() {
+        elements.clear();
+        keys.clear();
+        rootValues.clear();
+        rootKey = null;
+        depth = 0;
+    }
+
+    @Override
+    public void endJSON() {
+    }
+
+    @Override
+    public boolean startObject() {
+        if (inRecord() || startsRecord()) {
+            elements.push(new JSONObject());
+        }
+        depth++;
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        depth--;
+        return endElement();
+    }
+
+    @Override
+    public boolean startArray() {
+        if (inRecord()) {
+            elements.push(new JSONArray());
+        }
+        depth++;
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        depth--;
+        return endElement();
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        if (inRecord()) {
+            keys.push(key);
+        } else if (depth == 1) {
+            rootKey = key;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+        if (inRecord()) {
+            keys.pop();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+        if (inRecord()) {
+            addValue(value);
+        } else if (depth == 1) {
+            rootValues.put(rootKey, value);
+        }
+        return true;
+    }
+
+    /**
+     * Finishes the container that was being read, handing it to the right handler if it is a complete record
+     *
+     * @return false if reading must stop because the finished record is invalid
+     */
+    private boolean endElement() {
+        if (!inRecord()) {
+            return true;
+        }
+        Object element = elements.pop();
+        if (inRecord()) {
+            addValue(element);
+            return true;
+        }
+        try {
+            if (!(element instanceof JSONObject record)) {
+                throw new InvalidFileException(("projects".equals(rootKey) ? "project" : "task") + " invalid format");
+            }
+            if ("projects".equals(rootKey)) {
+                projectHandler.handle(ProjectRecord.fromJSON(record));
+            } else {
+                taskHandler.handle(TaskRecord.fromJSON(record));
+            }
+        } catch (InvalidTimeException e) {
+            invalidTime = e;
+            return false;
+        } catch (InvalidFileException e) {
+            invalidFile = e;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the given value to the container that is currently being read
+     */
+    @SuppressWarnings("unchecked")
+    private void addValue(Object value) {
+        Object parent = elements.peek();
+        if (parent instanceof JSONObject object) {
+            object.put(keys.peek(), value);
+        } else {
+            ((JSONArray) parent).add(value);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package Application.Command.LoadSystemCommands;
+
+import Domain.DataClasses.InvalidTimeException;
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static Application.Command.LoadSystemCommands.ProjectRecord.getInt;
+import static Application.Command.LoadSystemCommands.ProjectRecord.getString;
+
+/**
+ * Compact description of a task read from a system file
+ */
+class TaskRecord {
+
+    private final String name;
+    private final String projectName;
+    private final String description;
+    private final Time duration;
+    private final double acceptableDeviation;
+    private final Time startTime;
+    private final Time endTime;
+    private final String replaces;
+    private final List<Tuple<String, String>> prevTasks;
+    private final List<Tuple<String, String>> users;
+    private final List<String> roles;
+
+    private TaskRecord(String name,
+                       String projectName,
+                       String description,
+                       Time duration,
+                       double acceptableDeviation,
+                       Time startTime,
+                       Time endTime,
+                       String replaces,
+                       List<Tuple<String, String>> prevTasks,
+                       List<Tuple<String, String>> users,
+                       List<String> roles) {
+        this.name = name;
+        this.projectName = projectName;
+        this.description = description;
+        this.duration = duration;
+        this.acceptableDeviation = acceptableDeviation;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.replaces = replaces;
+        this.prevTasks = prevTasks;
+        this.users = users;
+        this.roles = roles;
+    }
+
+    /**
+     * Reads a task from the given JSON object
+     *
+     * @param task JSON object containing the task fields
+     * @return The task record corresponding to the given object
+     * @throws InvalidTimeException if any of the times of the task is invalid
+     * @throws InvalidFileException if a field of the task is missing or of the wrong type, or a previous task is not
+     *                              given as a (project name, task name) pair
+     */
+    static TaskRecord fromJSON(JSONObject task) throws InvalidTimeException, InvalidFileException {
+        List<Tuple<String, String>> prevTasks = new ArrayList<>();
+        for (Object prevTask : getList(task, "previousTasks")) {
+            if (!(prevTask instanceof List<?> prev) || prev.size() < 2
+                    || !(prev.get(0) instanceof String projectName) || !(prev.get(1) instanceof String taskName)) {
+                throw new InvalidFileException("previousTask invalid format");
+            }
+            prevTasks.add(new Tuple<>(projectName, taskName));
+        }
+
+        List<Tuple<String, String>> users = new ArrayList<>();
+        for (Object user : getList(task, "users")) {
+            if (!(user instanceof JSONObject userObject)) {
+                throw new InvalidFileException("users invalid format");
+            }
+            users.add(new Tuple<>(getString(userObject, "user"), getString(userObject, "role")));
+        }
+
+        List<String> roles = new ArrayList<>();
+        for (Object role : getList(task, "roles")) {
+            if (!(role instanceof String roleName)) {
+                throw new InvalidFileException("roles invalid format");
+            }
+            roles.add(roleName);
+        }
+
+        if (!(task.get("acceptableDeviation") instanceof Number acceptableDeviation)) {
+            throw new InvalidFileException("acceptableDeviation invalid format");
+        }
+        if (task.get("replaces") != null && !(task.get("replaces") instanceof String)) {
+            throw new InvalidFileException("replaces invalid format");
+        }
+
+        return new TaskRecord(
+                getString(task, "name"),
+                getString(task, "project"),
+                getString(task, "description"),
+                new Time(getInt(task, "dueHour"), getInt(task, "dueMinute")),
+                acceptableDeviation.doubleValue(),
+                readTime(task, "startHour", "startMinute"),
+                readTime(task, "endHour", "endMinute"),
+                (String) task.get("replaces"),
+                prevTasks,
+                users,
+                roles
+        );
+    }
+
+    /**
+     * @return The list in the given field of the given task
+     * @throws InvalidFileException if the field is missing or not a list
+     */
+    private static List<?> getList(JSONObject task, String key) throws InvalidFileException {
+        if (!(task.get(key) instanceof List<?> list)) {
+            throw new InvalidFileException(key + " invalid format");
+        }
+        return list;
+    }
+
+    /**
+     * @return The time in the given fields of the given task, or null if either field is not set
+     * @throws InvalidFileException if a field is set to something else than a number
+     */
+    private static Time readTime(JSONObject task, String hourKey, String minuteKey) throws InvalidTimeException, InvalidFileException {
+        if (task.get(hourKey) == null || task.get(minuteKey) == null) {
+            return null;
+        }
+        return new Time(getInt(task, hourKey), getInt(task, minuteKey));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getProjectName() {
+        return projectName;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    Time getDuration() {
+        return duration;
+    }
+
+    double getAcceptableDeviation() {
+        return acceptableDeviation;
+    }
+
+    /**
+     * @return The time at which this task started, or null if it has not started
+     */
+    Time getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return The time at which this task ended, or null if it has not ended
+     */
+    Time getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @return The name of the task this task replaces, or null
+     */
+    String getReplaces() {
+        return replaces;
+    }
+
+    /**
+     * @return (project name, task name) pairs of the previous tasks of this task
+     */
+    List<Tuple<String, String>> getPrevTasks() {
+        return prevTasks;
+    }
+
+    /**
+     * @return (user name, role) pairs of the users working on this task
+     */
+    List<Tuple<String, String>> getUsers() {
+        return users;
+    }
+
+    List<String> getRoles() {
+        return roles;
+    }
+}
@@ -1,5 +1,6 @@
 package Application.Command.ProjectCommands;
 
+ import Application.Command.BatchNames;
  import Application.Command.Command;
  import Domain.DataClasses.Time;
  import Domain.Project.ProjectNameAlreadyInUseException;
@@ -11,6 +12,7 @@ package Application.Command.ProjectCommands;
  import java.util.LinkedList;
  import java.util.List;
  import java.util.Map;
+ import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to create a project.
@@ -81,6 +83,16 @@ public class CreateProjectCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNameAlreadyInUseException {
+        names.addProject(getProjectName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of(getProjectName());
+    }
+
     @Override
     public String getName(){
         return "Create project";
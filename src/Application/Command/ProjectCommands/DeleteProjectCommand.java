@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to delete a project.
@@ -41,6 +42,19 @@ public class DeleteProjectCommand implements Command {
         getTaskManSystem().deleteProject(getProjectName());
     }
 
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of(getProjectName());
+    }
+
+    /**
+     * @return null, as deleting the tasks of the project changes the tasks of other projects depending on them
+     */
+    @Override
+    public Set<String> getChangedProjects(){
+        return null;
+    }
+
     @Override
     public String getName(){
         return "Delete project";
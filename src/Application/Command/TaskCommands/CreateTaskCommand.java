@@ -1,5 +1,6 @@
 package Application.Command.TaskCommands;
 
+ import Application.Command.BatchNames;
  import Application.Command.Command;
  import Domain.DataClasses.Time;
  import Domain.DataClasses.Tuple;
@@ -123,6 +124,30 @@ public class CreateTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException, TaskNameAlreadyInUseException {
+        for (Tuple<String,String> task : getPreviousTasks()) {
+            names.checkTask(task.getFirst(), task.getSecond());
+        }
+        for (Tuple<String,String> task : getNextTasks()) {
+            names.checkTask(task.getFirst(), task.getSecond());
+        }
+        names.addTask(getProjectName(), getTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        Set<Tuple<String,String>> affectedTasks = new HashSet<>(getPreviousTasks());
+        affectedTasks.addAll(getNextTasks());
+        affectedTasks.add(new Tuple<>(getProjectName(), getTaskName()));
+        return affectedTasks;
+    }
+
     @Override
     public String getName(){
         return "Create task";
@@ -141,14 +166,46 @@ public class CreateTaskCommand implements Command {
         arguments.put("description", getDescription());
         arguments.put("durationTime", getDurationTime().toString());
         arguments.put("deviation", Double.toString(getDeviation()));
-        arguments.put("roles", getRoles().toString());
-        arguments.put("previousTasks", getPreviousTasks().toString());
-        arguments.put("nextTasks", getNextTasks().toString());
+        List<Role> roles = getRoles();
+        arguments.put("roles", Integer.toString(roles.size()));
+        for (int i = 0; i < roles.size(); i++) {
+            arguments.put("roles." + i, roles.get(i).toString());
+        }
+        putTasks(arguments, "previousTasks", getPreviousTasks());
+        putTasks(arguments, "nextTasks", getNextTasks());
         return arguments;
     }
 
+    /**
+     * Puts the amount of given tasks under the given name, and the project and task name of each task under a key of
+     * its own, so names are never split or joined
+     */
+    private static void putTasks(Map<String,String> arguments, String name, Set<Tuple<String,String>> tasks) {
+        arguments.put(name, Integer.toString(tasks.size()));
+        int i = 0;
+        for (Tuple<String,String> task : tasks) {
+            arguments.put(name + "." + i + ".project", task.getFirst());
+            arguments.put(name + "." + i + ".task", task.getSecond());
+            i++;
+        }
+    }
+
     @Override
     public List<String> getArgumentNames(){
-        return new LinkedList<>(List.of("projectName", "taskName", "description", "durationTime", "deviation", "roles", "previousTasks", "nextTasks"));
+        List<String> names = new LinkedList<>(List.of("projectName", "taskName", "description", "durationTime", "deviation", "roles"));
+        for (int i = 0; i < roles.size(); i++) {
+            names.add("roles." + i);
+        }
+        addTaskNames(names, "previousTasks", previousTasks.size());
+        addTaskNames(names, "nextTasks", nextTasks.size());
+        return names;
+    }
+
+    private static void addTaskNames(List<String> names, String name, int size) {
+        names.add(name);
+        for (int i = 0; i < size; i++) {
+            names.add(name + "." + i + ".project");
+            names.add(name + "." + i + ".task");
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package Application.Command.TaskCommands;
 
 import Application.Command.Command;
+import Domain.DataClasses.Tuple;
 import Domain.TaskManSystem.ProjectNotFoundException;
 import Domain.TaskManSystem.TaskManSystem;
 import Domain.Project.TaskNotFoundException;
@@ -9,6 +10,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to delete a task.
@@ -51,6 +53,30 @@ public class DeleteTaskCommand implements Command {
         getTaskManSystem().deleteTask(getProjectName(), getTaskName());
     }
 
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        return Set.of(new Tuple<>(getProjectName(), getTaskName()));
+    }
+
+    /**
+     * @return The names of the projects of the task and of the tasks it depends on or that depend on it, which are
+     * changed by deleting it
+     */
+    @Override
+    public Set<String> getChangedProjects(){
+        try {
+            return getTaskManSystem().getNeighbourProjectNames(getProjectName(), getTaskName());
+        } catch (ProjectNotFoundException | TaskNotFoundException e) {
+            // the command will fail without changing anything
+            return Set.of(getProjectName());
+        }
+    }
+
     @Override
     public String getName(){
         return "Delete task";
@@ -1,7 +1,9 @@
 package Application.Command.TaskCommands;
 
+import Application.Command.BatchNames;
 import Application.Command.Command;
 import Domain.DataClasses.EndTimeBeforeStartTimeException;
+import Domain.DataClasses.Tuple;
 import Domain.Project.TaskNotFoundException;
 import Domain.Task.IncorrectTaskStatusException;
 import Domain.TaskManSystem.ProjectNotFoundException;
@@ -15,6 +17,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to fail a task.
@@ -83,6 +86,21 @@ public class FailTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException {
+        names.checkTask(getProjectName(), getTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        return Set.of(new Tuple<>(getProjectName(), getTaskName()));
+    }
+
     @Override
     public String getName(){
         return "Fail task";
@@ -1,20 +1,25 @@
 package Application.Command.TaskCommands;
 
+import Application.Command.BatchNames;
 import Application.Command.Command;
 import Domain.DataClasses.EndTimeBeforeStartTimeException;
+import Domain.DataClasses.Tuple;
 import Domain.Project.TaskNotFoundException;
 import Domain.Task.IncorrectTaskStatusException;
 import Domain.TaskManSystem.ProjectNotFoundException;
 import Domain.TaskManSystem.TaskManSystem;
 import Domain.Task.IncorrectRoleException;
+import Domain.Task.TaskData;
 import Domain.User.IncorrectUserException;
 import Domain.User.User;
 import Domain.User.UserAlreadyAssignedToTaskException;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to finish a task.
@@ -27,12 +32,14 @@ public class FinishTaskCommand implements Command {
     private final String projectName;
     private final String taskName;
     private final User user;
+    private Set<Tuple<String,String>> affectedTasks;
 
     public FinishTaskCommand(TaskManSystem taskManSystem, String projectName, String taskName, User user){
         this.taskManSystem = taskManSystem;
         this.projectName = projectName;
         this.taskName = taskName;
         this.user = user;
+        this.affectedTasks = Set.of(new Tuple<>(projectName, taskName));
     }
 
     private TaskManSystem getTaskManSystem() {
@@ -52,7 +59,8 @@ public class FinishTaskCommand implements Command {
     }
 
     /**
-     * Executes the command to finish a task.
+     * Executes the command to finish a task, and records the next tasks of the task, of which finishing it can change
+     * the availability.
      *
      * @throws ProjectNotFoundException         if the given projectName does not correspond to an existing project
      * @throws EndTimeBeforeStartTimeException  if the finish time of the task is before the start time
@@ -63,6 +71,12 @@ public class FinishTaskCommand implements Command {
     @Override
     public void execute() throws ProjectNotFoundException, EndTimeBeforeStartTimeException, TaskNotFoundException, IncorrectTaskStatusException, IncorrectUserException {
         getTaskManSystem().finishTask(getProjectName(), getTaskName(), getUser());
+        Set<Tuple<String,String>> finishedAffectedTasks = new HashSet<>();
+        finishedAffectedTasks.add(new Tuple<>(getProjectName(), getTaskName()));
+        for (TaskData nextTask : getTaskManSystem().getTaskData(getProjectName(), getTaskName()).getNextTasksData()) {
+            finishedAffectedTasks.add(new Tuple<>(nextTask.getProjectName(), nextTask.getName()));
+        }
+        this.affectedTasks = finishedAffectedTasks;
     }
 
     /**
@@ -85,6 +99,39 @@ public class FinishTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException {
+        names.checkTask(getProjectName(), getTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    /**
+     * @return The finished task together with its next tasks as they were when the task was finished, or only the task
+     * itself if it was not finished yet
+     */
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        return affectedTasks;
+    }
+
+    /**
+     * @return The projects of the task and of the tasks it depends on or that depend on it, as they are now, as the
+     * next tasks are only recorded once the task is finished
+     */
+    @Override
+    public Set<String> getChangedProjects(){
+        try {
+            return getTaskManSystem().getNeighbourProjectNames(getProjectName(), getTaskName());
+        } catch (ProjectNotFoundException | TaskNotFoundException e) {
+            // the command will fail without changing anything
+            return Set.of(getProjectName());
+        }
+    }
+
     @Override
     public String getName(){
         return "Finish task";
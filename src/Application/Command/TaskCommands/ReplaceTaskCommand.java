@@ -1,7 +1,9 @@
 package Application.Command.TaskCommands;
 
+import Application.Command.BatchNames;
 import Application.Command.Command;
 import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
 import Domain.Project.TaskNotFoundException;
 import Domain.Task.IncorrectTaskStatusException;
 import Domain.Task.TaskNameAlreadyInUseException;
@@ -12,6 +14,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to replace a task.
@@ -106,6 +109,36 @@ public class ReplaceTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException, TaskNameAlreadyInUseException {
+        names.checkTask(getProjectName(), getReplaces());
+        names.addTask(getProjectName(), getTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        return Set.of(new Tuple<>(getProjectName(), getTaskName()), new Tuple<>(getProjectName(), getReplaces()));
+    }
+
+    /**
+     * @return The names of the projects of the task and of the tasks it depends on or that depend on it, which are
+     * changed by the replacement taking over its dependencies
+     */
+    @Override
+    public Set<String> getChangedProjects(){
+        try {
+            return getTaskManSystem().getNeighbourProjectNames(getProjectName(), getReplaces());
+        } catch (ProjectNotFoundException | TaskNotFoundException e) {
+            // the command will fail without changing anything
+            return Set.of(getProjectName());
+        }
+    }
+
     @Override
     public String getName(){
         return "Replace task";
@@ -1,6 +1,8 @@
 package Application.Command.TaskCommands;
 
+import Application.Command.BatchNames;
 import Application.Command.Command;
+import Domain.DataClasses.Tuple;
 import Domain.Project.TaskNotFoundException;
 import Domain.Task.IncorrectTaskStatusException;
 import Domain.TaskManSystem.ProjectNotFoundException;
@@ -13,9 +15,11 @@ import Domain.User.User;
 import Domain.User.UserAlreadyAssignedToTaskException;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to start a task.
@@ -124,6 +128,28 @@ public class StartTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException {
+        names.checkTask(getProjectName(), getTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        if (getPreviousTaskName() == null) {
+            return Set.of(new Tuple<>(getProjectName(), getTaskName()));
+        }
+        // the user may start the task it is already assigned to
+        Set<Tuple<String,String>> affectedTasks = new HashSet<>();
+        affectedTasks.add(new Tuple<>(getProjectName(), getTaskName()));
+        affectedTasks.add(new Tuple<>(getPreviousProjectName(), getPreviousTaskName()));
+        return affectedTasks;
+    }
+
     @Override
     public String getName(){
         return "Start task";
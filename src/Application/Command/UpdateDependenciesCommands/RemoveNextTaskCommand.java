@@ -1,6 +1,8 @@
 package Application.Command.UpdateDependenciesCommands;
 
+ import Application.Command.BatchNames;
  import Application.Command.Command;
+ import Domain.DataClasses.Tuple;
  import Domain.Task.IncorrectTaskStatusException;
  import Domain.TaskManSystem.ProjectNotFoundException;
 import Domain.TaskManSystem.TaskManSystem;
@@ -11,6 +13,7 @@ import Domain.Project.TaskNotFoundException;
  import java.util.LinkedList;
  import java.util.List;
  import java.util.Map;
+ import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to remove a next task.
@@ -84,6 +87,22 @@ public class RemoveNextTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException {
+        names.checkTask(getProjectName(), getTaskName());
+        names.checkTask(getNextProjectName(), getNextTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        return Set.of(new Tuple<>(getProjectName(), getTaskName()), new Tuple<>(getNextProjectName(), getNextTaskName()));
+    }
+
     @Override
     public String getName(){
         return "Remove next task";
@@ -1,6 +1,8 @@
 package Application.Command.UpdateDependenciesCommands;
 
+ import Application.Command.BatchNames;
  import Application.Command.Command;
+ import Domain.DataClasses.Tuple;
  import Domain.Task.IncorrectTaskStatusException;
  import Domain.TaskManSystem.ProjectNotFoundException;
 import Domain.TaskManSystem.TaskManSystem;
@@ -11,6 +13,7 @@ import Domain.Project.TaskNotFoundException;
  import java.util.LinkedList;
  import java.util.List;
  import java.util.Map;
+ import java.util.Set;
 
 /**
  * Implements the Command interface and contains all the data needed to remove a next task.
@@ -81,6 +84,22 @@ public class RemovePrevTaskCommand implements Command {
         return true;
     }
 
+    @Override
+    public void checkNames(BatchNames names) throws ProjectNotFoundException, TaskNotFoundException {
+        names.checkTask(getProjectName(), getTaskName());
+        names.checkTask(getPrevProjectName(), getPrevTaskName());
+    }
+
+    @Override
+    public Set<String> getAffectedProjects(){
+        return Set.of();
+    }
+
+    @Override
+    public Set<Tuple<String,String>> getAffectedTasks(){
+        return Set.of(new Tuple<>(getProjectName(), getTaskName()), new Tuple<>(getPrevProjectName(), getPrevTaskName()));
+    }
+
     @Override
     public String getName(){
         return "Remove previous task";
@@ -83,8 +83,10 @@ public class CreateProjectController {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
         CreateProjectCommand createProjectCommand = new CreateProjectCommand(getTaskManSystem(), projectName, projectDescription, dueTime);
-        createProjectCommand.execute();
-        getCommandManager().addExecutedCommand(createProjectCommand, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(createProjectCommand)) {
+            createProjectCommand.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
 
@@ -99,7 +101,7 @@ public class CreateProjectController {
         if (!projectPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -113,6 +115,6 @@ public class CreateProjectController {
         if (!projectPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 }
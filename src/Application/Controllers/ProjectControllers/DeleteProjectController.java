@@ -70,8 +70,10 @@ public class DeleteProjectController {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
         DeleteProjectCommand deleteProjectCommand = new DeleteProjectCommand(taskManSystem, projectName);
-        deleteProjectCommand.execute();
-        getCommandManager().addExecutedCommand(deleteProjectCommand, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(deleteProjectCommand)) {
+            deleteProjectCommand.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
 
@@ -86,7 +88,7 @@ public class DeleteProjectController {
         if (!deleteProjectPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -100,6 +102,6 @@ public class DeleteProjectController {
         if (!deleteProjectPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 }
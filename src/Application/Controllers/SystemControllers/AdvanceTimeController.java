@@ -85,8 +85,10 @@ public class AdvanceTimeController {
             throw new IncorrectPermissionException("Incorrect permission: User is not a project manager or developer");
         }
         SetNewTimeCommand cmd = new SetNewTimeCommand(getTaskManSystem(), newTime);
-        cmd.execute();
-        getCommandManager().addExecutedCommand(cmd, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(cmd)) {
+            cmd.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -102,7 +104,9 @@ public class AdvanceTimeController {
             throw new IncorrectPermissionException("Incorrect permission: User is not a project manager or developer");
         }
         AdvanceTimeCommand cmd = new AdvanceTimeCommand(getTaskManSystem(), advanceMinutes);
-        cmd.execute();
-        getCommandManager().addExecutedCommand(cmd, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(cmd)) {
+            cmd.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 }
@@ -77,8 +77,10 @@ public class LoadSystemController {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
         LoadSystemCommand cmd = new LoadSystemCommand(filepath, getTaskManSystem(), getUserManager());
-        cmd.execute();
-        getCommandManager().addExecutedCommand(cmd, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(cmd)) {
+            cmd.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
 }
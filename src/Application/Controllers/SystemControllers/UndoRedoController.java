@@ -46,7 +46,7 @@ public class UndoRedoController {
     /**
     * Undoes the last command executed by the current user
     *
-    * @throws IncorrectUserException       If the current user is not the one who executed the last command
+    * @throws IncorrectUserException       If the current user has no command to undo, or a later command of another user changed the same tasks or projects
     * @throws EmptyCommandStackException   If there are no commands to undo
     * @throws UndoNotPossibleException     If the last command cannot be undone
     */
@@ -57,7 +57,7 @@ public class UndoRedoController {
     /**
     * Redoes the last command undone by the current user
     *
-    * @throws IncorrectUserException       If the current user is not the one who undid the last command
+    * @throws IncorrectUserException       If the current user has no command to redo, or a command of another user undone after it changed the same tasks or projects
     * @throws EmptyCommandStackException   If there are no commands to redo
     */
     public void redoLastUndoneCommand() throws IncorrectUserException, EmptyCommandStackException {
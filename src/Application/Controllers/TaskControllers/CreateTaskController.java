@@ -2,23 +2,34 @@ package Application.Controllers.TaskControllers;
 
 import Application.IncorrectPermissionException;
 import Application.Session.SessionProxy;
+import Application.Command.BatchCommand;
+import Application.Command.Command;
 import Application.Command.CommandInterface;
 import Application.Command.TaskCommands.CreateTaskCommand;
 import Application.Command.TaskCommands.ReplaceTaskCommand;
+import Application.Command.UndoNotPossibleException;
+import Application.Command.LoadSystemCommands.InvalidFileException;
+import Domain.DataClasses.EndTimeBeforeStartTimeException;
 import Domain.DataClasses.InvalidTimeException;
 import Domain.DataClasses.Time;
 import Domain.DataClasses.Tuple;
 import Domain.Project.ProjectData;
+import Domain.Project.ProjectNameAlreadyInUseException;
 import Domain.Project.ProjectNotOngoingException;
 import Domain.Project.TaskNotFoundException;
 import Domain.Task.*;
 import Domain.Task.IncorrectTaskStatusException;
 import Domain.Task.LoopDependencyGraphException;
+import Domain.TaskManSystem.DueBeforeSystemTimeException;
+import Domain.TaskManSystem.NewTimeBeforeSystemTimeException;
 import Domain.TaskManSystem.ProjectNotFoundException;
 import Domain.TaskManSystem.TaskManSystem;
 import Domain.TaskManSystem.TaskManSystemData;
+import Domain.User.IncorrectUserException;
 import Domain.User.Role;
+import Domain.User.UserAlreadyAssignedToTaskException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -122,8 +133,61 @@ public class CreateTaskController {
                 prevTasks,
                 nextTasks
         );
-        createTaskCommand.execute();
-        getCommandManager().addExecutedCommand(createTaskCommand, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(createTaskCommand)) {
+            createTaskCommand.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
+    }
+
+    /**
+     * Creates all given tasks in the given project as one command, so either all or none of them are created, and
+     * undoing the command removes all of them. The tasks may depend on tasks created before them in the list.
+     *
+     * @param projectName Name of the project the tasks will be added to
+     * @param tasks       The tasks to create, in order of creation
+     * @throws ProjectNotFoundException      If the given project name does not correspond to an existing project
+     * @throws ProjectNotOngoingException    If the project corresponding to the given project name is not ongoing
+     * @throws TaskNotFoundException         If one of the next or previous tasks of a task does not exist when it is created
+     * @throws IncorrectTaskStatusException  If one of the next tasks of a task is not AVAILABLE or UNAVAILABLE
+     * @throws LoopDependencyGraphException  If adding a task would create a loop in the dependency graph
+     * @throws IllegalTaskRolesException     If the list of roles of a task is empty and/or contains a non-developer role
+     * @throws TaskNameAlreadyInUseException If the name of a task is already in use within the given project
+     * @throws IncorrectPermissionException  If the user is not logged in as project manager
+     */
+    public void createTasks(String projectName, List<TaskDefinition> tasks) throws ProjectNotFoundException, TaskNameAlreadyInUseException, IncorrectPermissionException, TaskNotFoundException, IncorrectTaskStatusException, LoopDependencyGraphException, IllegalTaskRolesException, ProjectNotOngoingException {
+        if (!taskPreconditions()) {
+            throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
+        }
+        List<Command> commands = new ArrayList<>();
+        for (TaskDefinition task : tasks) {
+            commands.add(new CreateTaskCommand(
+                    getTaskManSystem(),
+                    projectName,
+                    task.getTaskName(),
+                    task.getDescription(),
+                    task.getDurationTime(),
+                    task.getDeviation(),
+                    task.getRoles(),
+                    task.getPrevTasks(),
+                    task.getNextTasks()
+            ));
+        }
+        BatchCommand batchCommand;
+        try {
+            batchCommand = new BatchCommand(getTaskManSystem(), commands);
+        } catch (UndoNotPossibleException e) {
+            // This should never happen, creating a task can always be undone
+            throw new RuntimeException(e);
+        }
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(batchCommand)) {
+            batchCommand.execute();
+            execution.commit(getSession().getCurrentUser());
+        } catch (ProjectNameAlreadyInUseException | DueBeforeSystemTimeException | NewTimeBeforeSystemTimeException |
+                 EndTimeBeforeStartTimeException | IncorrectUserException | UserAlreadyAssignedToTaskException |
+                 IncorrectRoleException | InvalidFileException e) {
+            // This should never happen, creating tasks does none of these things
+            throw new RuntimeException(e);
+        }
     }
 
     /**
@@ -161,15 +225,17 @@ public class CreateTaskController {
                 deviation,
                 replaces
         );
-        replaceTaskCommand.execute();
-        getCommandManager().addExecutedCommand(replaceTaskCommand, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(replaceTaskCommand)) {
+            replaceTaskCommand.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
      * @return  A read-only data object containing information about the current task manager system
      */
     public TaskManSystemData getTaskManSystemData() {
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -180,7 +246,7 @@ public class CreateTaskController {
      * @throws ProjectNotFoundException     If projectName does not correspond to an existing project in the current system
      */
     public ProjectData getProjectData(String projectName) throws ProjectNotFoundException {
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 
     /**
@@ -194,6 +260,6 @@ public class CreateTaskController {
      * @throws TaskNotFoundException    If taskName does not correspond to an existing task within the given project
      */
     public TaskData getTaskData(String projectName, String taskName) throws ProjectNotFoundException, TaskNotFoundException {
-        return getTaskManSystem().getTaskData(projectName, taskName);
+        return getTaskManSystem().getTaskView(projectName, taskName);
     }
 }
@@ -100,8 +100,10 @@ public class DeleteTaskController {
             throw new UnconfirmedActionException("Deleting a Pending or Executing task is not confirmed.");
         }
         DeleteTaskCommand deleteTaskCommand = new DeleteTaskCommand(getTaskManSystem(), projectName, taskName);
-        deleteTaskCommand.execute();
-        getCommandManager().addExecutedCommand(deleteTaskCommand, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(deleteTaskCommand)) {
+            deleteTaskCommand.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -111,7 +113,7 @@ public class DeleteTaskController {
         if (!deleteTaskPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -125,7 +127,7 @@ public class DeleteTaskController {
         if (!deleteTaskPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 
     /**
@@ -142,6 +144,6 @@ public class DeleteTaskController {
         if (!deleteTaskPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with the " + Role.PROJECTMANAGER + " role to call this function");
         }
-        return getTaskManSystem().getTaskData(projectName, taskName);
+        return getTaskManSystem().getTaskView(projectName, taskName);
     }
 }
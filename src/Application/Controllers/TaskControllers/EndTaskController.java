@@ -95,8 +95,10 @@ public class EndTaskController {
             throw new NoCurrentTaskException("You are not assigned to a task");
         }
         FinishTaskCommand cmd = new FinishTaskCommand(getTaskManSystem(), userTaskData.getProjectName(), userTaskData.getName(), getSession().getCurrentUser());
-        cmd.execute();
-        getCommandManager().addExecutedCommand(cmd, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(cmd)) {
+            cmd.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -118,8 +120,10 @@ public class EndTaskController {
             throw new NoCurrentTaskException("You are not assigned to a task");
         }
         FailTaskCommand cmd = new FailTaskCommand(getTaskManSystem(), userTaskData.getProjectName(), userTaskData.getName(), getSession().getCurrentUser());
-        cmd.execute();
-        getCommandManager().addExecutedCommand(cmd, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(cmd)) {
+            cmd.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -132,7 +136,7 @@ public class EndTaskController {
         if (!endTaskPreconditions()) {
             throw new IncorrectPermissionException("You need a developer role to call this function");
         }
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -146,7 +150,7 @@ public class EndTaskController {
         if (!endTaskPreconditions()) {
             throw new IncorrectPermissionException("You need a developer role to call this function");
         }
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 
     /**
@@ -163,7 +167,7 @@ public class EndTaskController {
         if (!endTaskPreconditions()) {
             throw new IncorrectPermissionException("You need a developer role to call this function");
         }
-        return getTaskManSystem().getTaskData(projectName, taskName);
+        return getTaskManSystem().getTaskView(projectName, taskName);
     }
 
     /**
@@ -95,8 +95,10 @@ public class StartTaskController {
             throw new UnconfirmedActionException("Starting of the task needs confirmation and isn't confirmed");
         }
         StartTaskCommand cmd = new StartTaskCommand(getTaskManSystem(), projectName, taskName, getSession().getCurrentUser(), role);
-        cmd.execute();
-        getCommandManager().addExecutedCommand(cmd, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(cmd)) {
+            cmd.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     public boolean startTaskNeedsConfirmation(){
@@ -115,7 +117,7 @@ public class StartTaskController {
         if (!startTaskPreconditions()) {
             throw new IncorrectPermissionException("You must be logged in with a developer role to call this function");
         }
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -129,7 +131,7 @@ public class StartTaskController {
         if (!startTaskPreconditions()) {
             throw new IncorrectPermissionException("You need a developer role to call this function");
         }
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 
     /**
@@ -146,7 +148,7 @@ public class StartTaskController {
         if (!startTaskPreconditions()) {
             throw new IncorrectPermissionException("You need a developer role to call this function");
         }
-        return getTaskManSystem().getTaskData(projectName, taskName);
+        return getTaskManSystem().getTaskView(projectName, taskName);
     }
 
     /**
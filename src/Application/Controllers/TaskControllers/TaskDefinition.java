@@ -0,0 +1,86 @@
+package Application.Controllers.TaskControllers;
+
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.User.Role;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable description of a task to create, as given to {@link CreateTaskController#createTasks(String, List)}
+ */
+public class TaskDefinition {
+
+    private final String taskName;
+    private final String description;
+    private final Time durationTime;
+    private final double deviation;
+    private final List<Role> roles;
+    private final Set<Tuple<String,String>> prevTasks;
+    private final Set<Tuple<String,String>> nextTasks;
+
+    /**
+     * @param taskName     Name of the new task
+     * @param description  Description of the new task
+     * @param durationTime Time the task is estimated to take
+     * @param deviation    Acceptable deviation from the given duration
+     * @param roles        List of roles the task needs for it to execute
+     * @param prevTasks    (project name, task name) tuples of the tasks that should be completed before this one
+     * @param nextTasks    (project name, task name) tuples of the tasks that this task should be completed before
+     */
+    public TaskDefinition(
+            String taskName,
+            String description,
+            Time durationTime,
+            double deviation,
+            List<Role> roles,
+            Set<Tuple<String,String>> prevTasks,
+            Set<Tuple<String,String>> nextTasks
+    ) {
+        this.taskName = taskName;
+        this.description = description;
+        this.durationTime = durationTime;
+        this.deviation = deviation;
+        this.roles = List.copyOf(roles);
+        this.prevTasks = Set.copyOf(prevTasks);
+        this.nextTasks = Set.copyOf(nextTasks);
+    }
+
+    public String getTaskName() {
+        return taskName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Time getDurationTime() {
+        return durationTime;
+    }
+
+    public double getDeviation() {
+        return deviation;
+    }
+
+    /**
+     * @return IMMUTABLE list of the roles the task needs for it to execute
+     */
+    public List<Role> getRoles() {
+        return roles;
+    }
+
+    /**
+     * @return IMMUTABLE set of the tasks that should be completed before this one
+     */
+    public Set<Tuple<String,String>> getPrevTasks() {
+        return prevTasks;
+    }
+
+    /**
+     * @return IMMUTABLE set of the tasks that this task should be completed before
+     */
+    public Set<Tuple<String,String>> getNextTasks() {
+        return nextTasks;
+    }
+}
@@ -79,8 +79,10 @@ public class UpdateDependenciesController {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
         AddPrevTaskCommand command = new AddPrevTaskCommand(getTaskManSystem(), projectName, taskName, prevProjectName, prevTaskName);
-        command.execute();
-        getCommandManager().addExecutedCommand(command, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(command)) {
+            command.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -101,8 +103,10 @@ public class UpdateDependenciesController {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
         AddNextTaskCommand command = new AddNextTaskCommand(getTaskManSystem(), projectName, taskName, nextProjectName, nextTaskName);
-        command.execute();
-        getCommandManager().addExecutedCommand(command, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(command)) {
+            command.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -122,8 +126,10 @@ public class UpdateDependenciesController {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
         RemovePrevTaskCommand command = new RemovePrevTaskCommand(getTaskManSystem(), projectName, taskName, prevProjectName, prevTaskName);
-        command.execute();
-        getCommandManager().addExecutedCommand(command, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(command)) {
+            command.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
     /**
@@ -143,8 +149,10 @@ public class UpdateDependenciesController {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
         RemoveNextTaskCommand command = new RemoveNextTaskCommand(getTaskManSystem(), projectName, taskName, nextProjectName, nextTaskName);
-        command.execute();
-        getCommandManager().addExecutedCommand(command, getSession().getCurrentUser());
+        try (CommandInterface.Execution execution = getCommandManager().startExecution(command)) {
+            command.execute();
+            execution.commit(getSession().getCurrentUser());
+        }
     }
 
 
@@ -159,7 +167,7 @@ public class UpdateDependenciesController {
         if (!updateDependenciesPreconditions()) {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
-        return getTaskManSystem().getTaskManSystemData();
+        return getTaskManSystem().getSystemView();
     }
 
     /**
@@ -173,7 +181,7 @@ public class UpdateDependenciesController {
         if (!updateDependenciesPreconditions()) {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
-        return getTaskManSystem().getProjectData(projectName);
+        return getTaskManSystem().getProjectView(projectName);
     }
 
     /**
@@ -190,7 +198,7 @@ public class UpdateDependenciesController {
         if (!updateDependenciesPreconditions()) {
             throw new IncorrectPermissionException("You need a project manager role to call this function");
         }
-        return getTaskManSystem().getTaskData(projectName, taskName);
+        return getTaskManSystem().getTaskView(projectName, taskName);
     }
 
 }
@@ -0,0 +1,145 @@
+package Benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Minimal micro-benchmark harness: runs warmup iterations, then measures a number of iterations and reports the
+ * average, median, best and worst time per operation
+ */
+public class BenchmarkRunner {
+
+    /**
+     * A benchmarked operation on a prepared state
+     *
+     * @param <S> Type of the state the operation works on
+     */
+    @FunctionalInterface
+    public interface Operation<S> {
+        Object run(S state) throws Exception;
+    }
+
+    /**
+     * Creates the state a single measured operation works on, this is not measured
+     *
+     * @param <S> Type of the created state
+     */
+    @FunctionalInterface
+    public interface Setup<S> {
+        S create() throws Exception;
+    }
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+
+    /**
+     * Holds every result of a measured operation, so the JIT can not remove the operation as dead code
+     */
+    private volatile Object sink;
+
+    /**
+     * Creates a new runner
+     *
+     * @param warmupIterations      Amount of unmeasured iterations to run before measuring
+     * @param measurementIterations Amount of measured iterations
+     */
+    public BenchmarkRunner(int warmupIterations, int measurementIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+    }
+
+    private int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    private int getMeasurementIterations() {
+        return measurementIterations;
+    }
+
+    /**
+     * Runs and measures the given operation, creating a fresh state before every iteration
+     *
+     * @param name      Name of the benchmark to report
+     * @param setup     Creates the state of a single iteration
+     * @param operation The operation to measure
+     * @return The measured result
+     * @throws Exception if the setup or the operation throws
+     */
+    public <S> Result runWithSetup(String name, Setup<S> setup, Operation<S> operation) throws Exception {
+        for (int i = 0; i < getWarmupIterations(); i++) {
+            sink = operation.run(setup.create());
+        }
+        long[] times = new long[getMeasurementIterations()];
+        for (int i = 0; i < times.length; i++) {
+            S state = setup.create();
+            long start = System.nanoTime();
+            sink = operation.run(state);
+            times[i] = System.nanoTime() - start;
+        }
+        return new Result(name, times);
+    }
+
+    /**
+     * Runs and measures the given operation, reusing a single state for every iteration
+     *
+     * @param name      Name of the benchmark to report
+     * @param state     The state every iteration works on
+     * @param operation The operation to measure
+     * @return The measured result
+     * @throws Exception if the operation throws
+     */
+    public <S> Result run(String name, S state, Operation<S> operation) throws Exception {
+        return runWithSetup(name, () -> state, operation);
+    }
+
+    /**
+     * Timings of a single benchmark
+     */
+    public static class Result {
+        private final String name;
+        private final long[] times;
+
+        private Result(String name, long[] times) {
+            this.name = name;
+            this.times = times.clone();
+            Arrays.sort(this.times);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The average time per operation in nanoseconds
+         */
+        public double getAverage() {
+            return Arrays.stream(times).average().orElse(0);
+        }
+
+        /**
+         * @return The median time per operation in nanoseconds
+         */
+        public long getMedian() {
+            return times.length == 0 ? 0 : times[times.length / 2];
+        }
+
+        /**
+         * @return The best time per operation in nanoseconds
+         */
+        public long getBest() {
+            return times.length == 0 ? 0 : times[0];
+        }
+
+        /**
+         * @return The worst time per operation in nanoseconds
+         */
+        public long getWorst() {
+            return times.length == 0 ? 0 : times[times.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-45s avg %12.1f us   median %10.1f us   best %10.1f us   worst %10.1f us",
+                    getName(), getAverage() / 1000, getMedian() / 1000.0, getBest() / 1000.0, getWorst() / 1000.0);
+        }
+    }
+}
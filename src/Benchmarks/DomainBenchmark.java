@@ -0,0 +1,231 @@
+package Benchmarks;
+
+import Application.Command.LoadSystemCommands.LoadSystemCommand;
+import Benchmarks.GraphShape.TaskSpec;
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.Task.LoopDependencyGraphException;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Benchmarks the domain layer on synthetic task graphs of every {@link GraphShape}
+ * <p>
+ * Usage: DomainBenchmark [tasks] [projects] [warmup iterations] [measurement iterations],
+ * run from the repository root so the users file can be found by the load system benchmark
+ */
+public class DomainBenchmark {
+
+    private static final List<Role> ROLES = List.of(Role.SYSADMIN);
+    private static final Time DURATION = Time.of(10);
+    private static final double DEVIATION = 0.1;
+    private static final Time DUE_TIME = Time.of(100000);
+
+    private final int size;
+    private final int projects;
+    private final BenchmarkRunner runner;
+
+    public DomainBenchmark(int size, int projects, BenchmarkRunner runner) {
+        this.size = size;
+        this.projects = projects;
+        this.runner = runner;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int projects = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int warmup = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+
+        DomainBenchmark benchmark = new DomainBenchmark(size, projects, new BenchmarkRunner(warmup, iterations));
+        System.out.println("Tasks: " + size + ", projects: " + projects + ", warmup: " + warmup + ", iterations: " + iterations);
+        for (GraphShape shape : GraphShape.values()) {
+            System.out.println();
+            System.out.println(shape);
+            for (BenchmarkRunner.Result result : benchmark.run(shape)) {
+                System.out.println(result);
+            }
+        }
+    }
+
+    private int getSize() {
+        return size;
+    }
+
+    private int getProjects() {
+        return projects;
+    }
+
+    private BenchmarkRunner getRunner() {
+        return runner;
+    }
+
+    /**
+     * Runs all benchmarks on a graph of the given shape
+     *
+     * @param shape The shape of the generated graph
+     * @return The results of all benchmarks
+     * @throws Exception if any of the benchmarked operations fails
+     */
+    public List<BenchmarkRunner.Result> run(GraphShape shape) throws Exception {
+        List<TaskSpec> tasks = shape.generate(getSize(), getProjects());
+        List<BenchmarkRunner.Result> results = new ArrayList<>();
+
+        results.add(getRunner().runWithSetup("addTaskToProject (whole graph)",
+                () -> createProjects(tasks),
+                system -> addTasks(system, tasks)));
+
+        User user = new User("benchmark", "benchmark", Set.of(Role.SYSADMIN));
+        results.add(getRunner().runWithSetup("startTask/finishTask (whole graph)",
+                () -> addTasks(createProjects(tasks), tasks),
+                system -> {
+                    for (TaskSpec task : tasks) {
+                        system.startTask(task.getProjectName(), task.getName(), user, Role.SYSADMIN);
+                        system.finishTask(task.getProjectName(), task.getName(), user);
+                    }
+                    return system;
+                }));
+
+        TaskManSystem built = addTasks(createProjects(tasks), tasks);
+        TaskSpec first = tasks.get(0);
+        TaskSpec last = tasks.get(tasks.size() - 1);
+        results.add(getRunner().run("addPrevTaskToProject (loop detected)", built, system -> {
+            try {
+                system.addPrevTaskToProject(first.getProjectName(), first.getName(), last.getProjectName(), last.getName());
+                return false;
+            } catch (LoopDependencyGraphException e) {
+                return true;
+            }
+        }));
+
+        Set<String> projectNames = getProjectNames(tasks);
+        results.add(getRunner().run("Project.getTasksData (all projects)", built, system -> {
+            int count = 0;
+            for (String projectName : projectNames) {
+                count += system.getProjectData(projectName).getTasksData().size();
+            }
+            return count;
+        }));
+
+        File file = writeSystemFile(tasks);
+        try {
+            TaskManSystem loaded = new TaskManSystem(Time.of(0));
+            LoadSystemCommand command = new LoadSystemCommand(file.getPath(), loaded, new UserManager());
+            results.add(getRunner().run("LoadSystemCommand.execute", command, loadCommand -> {
+                loadCommand.execute();
+                return loaded;
+            }));
+        } finally {
+            file.delete();
+        }
+        return results;
+    }
+
+    /**
+     * @return A new system containing all projects the given tasks belong to, without any tasks
+     */
+    private TaskManSystem createProjects(List<TaskSpec> tasks) throws Exception {
+        TaskManSystem system = new TaskManSystem(Time.of(0));
+        for (String projectName : getProjectNames(tasks)) {
+            system.createProject(projectName, "benchmark", DUE_TIME);
+        }
+        return system;
+    }
+
+    /**
+     * Adds the given tasks to the given system, in order
+     *
+     * @return The given system
+     */
+    private TaskManSystem addTasks(TaskManSystem system, List<TaskSpec> tasks) throws Exception {
+        for (TaskSpec task : tasks) {
+            system.addTaskToProject(task.getProjectName(), task.getName(), "benchmark", DURATION, DEVIATION, ROLES,
+                    task.getPrevTasks(), Set.of());
+        }
+        return system;
+    }
+
+    /**
+     * @return The names of all projects the given tasks belong to, in order of first appearance
+     */
+    private Set<String> getProjectNames(List<TaskSpec> tasks) {
+        Set<String> projectNames = new LinkedHashSet<>();
+        for (TaskSpec task : tasks) {
+            projectNames.add(task.getProjectName());
+        }
+        return projectNames;
+    }
+
+    /**
+     * Writes the given tasks to a temporary file in the format read by {@link LoadSystemCommand}
+     *
+     * @return The written file
+     * @throws IOException if the file could not be written
+     */
+    @SuppressWarnings("unchecked")
+    private File writeSystemFile(List<TaskSpec> tasks) throws IOException {
+        JSONArray projectsArray = new JSONArray();
+        for (String projectName : getProjectNames(tasks)) {
+            JSONObject project = new JSONObject();
+            project.put("name", projectName);
+            project.put("description", "benchmark");
+            project.put("startHour", 0);
+            project.put("startMinute", 0);
+            project.put("endHour", DUE_TIME.getHour());
+            project.put("endMinute", DUE_TIME.getMinute());
+            projectsArray.add(project);
+        }
+
+        JSONArray tasksArray = new JSONArray();
+        for (TaskSpec task : tasks) {
+            JSONArray prevTasks = new JSONArray();
+            for (Tuple<String, String> prevTask : task.getPrevTasks()) {
+                JSONArray prev = new JSONArray();
+                prev.add(prevTask.getFirst());
+                prev.add(prevTask.getSecond());
+                prevTasks.add(prev);
+            }
+            JSONArray roles = new JSONArray();
+            roles.add(Role.SYSADMIN.name());
+
+            JSONObject taskObject = new JSONObject();
+            taskObject.put("name", task.getName());
+            taskObject.put("project", task.getProjectName());
+            taskObject.put("description", "benchmark");
+            taskObject.put("acceptableDeviation", DEVIATION);
+            taskObject.put("dueHour", DURATION.getHour());
+            taskObject.put("dueMinute", DURATION.getMinute());
+            // Every task "starts" at time 0 without users, so the loader adds them in file order
+            taskObject.put("startHour", 0);
+            taskObject.put("startMinute", 0);
+            taskObject.put("endHour", null);
+            taskObject.put("endMinute", null);
+            taskObject.put("replaces", null);
+            taskObject.put("previousTasks", prevTasks);
+            taskObject.put("users", new JSONArray());
+            taskObject.put("roles", roles);
+            tasksArray.add(taskObject);
+        }
+
+        JSONObject doc = new JSONObject();
+        doc.put("projects", projectsArray);
+        doc.put("tasks", tasksArray);
+        doc.put("systemHour", 0);
+        doc.put("systemMinute", 0);
+
+        File file = File.createTempFile("taskman-benchmark", ".json");
+        try (FileWriter writer = new FileWriter(file)) {
+            doc.writeJSONString(writer);
+        }
+        return file;
+    }
+}
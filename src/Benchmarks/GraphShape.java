@@ -0,0 +1,128 @@
+package Benchmarks;
+
+import Domain.DataClasses.Tuple;
+
+import java.util.*;
+
+/**
+ * Shapes of synthetic task dependency graphs used by the benchmarks
+ */
+public enum GraphShape {
+    /**
+     * Every task depends on the task created right before it
+     */
+    CHAIN {
+        @Override
+        List<TaskSpec> generate(int size, int projects) {
+            List<TaskSpec> tasks = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                tasks.add(new TaskSpec(projectName(0), taskName(i), i == 0 ? Set.of() : Set.of(tasks.get(i - 1).getKey())));
+            }
+            return tasks;
+        }
+    },
+    /**
+     * One root task that every other task depends on
+     */
+    FAN_OUT {
+        @Override
+        List<TaskSpec> generate(int size, int projects) {
+            List<TaskSpec> tasks = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                tasks.add(new TaskSpec(projectName(0), taskName(i), i == 0 ? Set.of() : Set.of(tasks.get(0).getKey())));
+            }
+            return tasks;
+        }
+    },
+    /**
+     * Chained diamonds: a task splits into two tasks which join again in the next task
+     */
+    DIAMOND {
+        @Override
+        List<TaskSpec> generate(int size, int projects) {
+            List<TaskSpec> tasks = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                Set<Tuple<String, String>> prevTasks;
+                if (i == 0) {
+                    prevTasks = Set.of();
+                } else if (i % 3 == 0) {
+                    prevTasks = Set.of(tasks.get(i - 1).getKey(), tasks.get(i - 2).getKey());
+                } else {
+                    prevTasks = Set.of(tasks.get(i - (i % 3)).getKey());
+                }
+                tasks.add(new TaskSpec(projectName(0), taskName(i), prevTasks));
+            }
+            return tasks;
+        }
+    },
+    /**
+     * A chain of tasks spread round-robin over the given amount of projects
+     */
+    CROSS_PROJECT {
+        @Override
+        List<TaskSpec> generate(int size, int projects) {
+            List<TaskSpec> tasks = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                tasks.add(new TaskSpec(projectName(i % projects), taskName(i), i == 0 ? Set.of() : Set.of(tasks.get(i - 1).getKey())));
+            }
+            return tasks;
+        }
+    };
+
+    /**
+     * Generates the tasks of a graph of this shape
+     *
+     * @param size     The amount of tasks in the graph
+     * @param projects The amount of projects the tasks may be spread over
+     * @return The tasks of the graph, every task listed after all of its previous tasks
+     */
+    abstract List<TaskSpec> generate(int size, int projects);
+
+    /**
+     * @return The name of the project with the given number
+     */
+    static String projectName(int number) {
+        return "Project " + number;
+    }
+
+    /**
+     * @return The name of the task with the given number
+     */
+    static String taskName(int number) {
+        return "Task " + number;
+    }
+
+    /**
+     * Description of a single generated task
+     */
+    static class TaskSpec {
+        private final String projectName;
+        private final String name;
+        private final Set<Tuple<String, String>> prevTasks;
+
+        TaskSpec(String projectName, String name, Set<Tuple<String, String>> prevTasks) {
+            this.projectName = projectName;
+            this.name = name;
+            this.prevTasks = prevTasks;
+        }
+
+        String getProjectName() {
+            return projectName;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Set<Tuple<String, String>> getPrevTasks() {
+            return prevTasks;
+        }
+
+        /**
+         * @return (project name, task name) tuple identifying this task
+         */
+        Tuple<String, String> getKey() {
+            return new Tuple<>(getProjectName(), getName());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package Domain.DataClasses;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers to write and read nullable values in the binary snapshot format
+ */
+public final class BinaryIO {
+
+    private BinaryIO() {}
+
+    /**
+     * Writes the given string as its length followed by its UTF-8 bytes, or -1 if the string is null
+     *
+     * @param out    Output to write to
+     * @param string The string to write, may be null
+     * @throws IOException if writing fails
+     */
+    public static void writeString(DataOutput out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}
+     *
+     * @param in Input to read from
+     * @return The read string, or null
+     * @throws IOException if reading fails or the length is invalid
+     */
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("Invalid string length in snapshot: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the given time as its total amount of minutes, or -1 if the time is null
+     *
+     * @param out  Output to write to
+     * @param time The time to write, may be null
+     * @throws IOException if writing fails
+     */
+    public static void writeTime(DataOutput out, Time time) throws IOException {
+        out.writeLong(time == null ? -1 : time.getMinutes());
+    }
+
+    /**
+     * Reads a time written by {@link #writeTime(DataOutput, Time)}
+     *
+     * @param in Input to read from
+     * @return The read time, or null
+     * @throws IOException if reading fails or the time is invalid
+     */
+    public static Time readTime(DataInput in) throws IOException {
+        long minutes = in.readLong();
+        if (minutes == -1) {
+            return null;
+        }
+        if (minutes < 0) {
+            throw new IOException("Invalid time in snapshot: " + minutes);
+        }
+        return Time.of(minutes);
+    }
+}
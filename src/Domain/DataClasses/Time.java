@@ -1,12 +1,23 @@
 package Domain.DataClasses;
 
 /**
- * A timestamp
+ * A timestamp, represented by its total amount of minutes
  */
 public class Time implements Comparable<Time> {
 
-    private final int hour;
-    private final int minute;
+    /**
+     * Amount of leading minutes (one day) for which a shared Time object is kept
+     */
+    private static final int CACHE_SIZE = 24 * 60;
+    private static final Time[] CACHE = new Time[CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE[i] = new Time((long) i);
+        }
+    }
+
+    private final long totalMinutes;
 
     /**
      * Creates a new time object with the given hours and minutes
@@ -19,8 +30,7 @@ public class Time implements Comparable<Time> {
         if (hour < 0 || minute < 0 || minute > 59) {
             throw new InvalidTimeException();
         }
-        this.hour = hour;
-        this.minute = minute;
+        this.totalMinutes = hour * 60L + minute;
     }
 
     /**
@@ -35,29 +45,86 @@ public class Time implements Comparable<Time> {
         if (totalMinutes < 0) {
             throw new InvalidTimeException();
         }
-        this.hour = totalMinutes / 60;
-        this.minute = totalMinutes % 60;
+        this.totalMinutes = totalMinutes;
+    }
+
+    /**
+     * Creates a new Time object without validating the given total minutes
+     *
+     * @param totalMinutes The total amount of minutes this Time object must represent
+     * @pre totalMinutes >= 0
+     */
+    private Time(long totalMinutes) {
+        this.totalMinutes = totalMinutes;
+    }
+
+    /**
+     * Returns a Time object depicting the given total minutes, reusing a shared object for the first day
+     *
+     * @param totalMinutes The total amount of minutes the Time object must represent
+     * @return A Time object with getMinutes() == totalMinutes
+     * @throws IllegalArgumentException if totalMinutes < 0
+     */
+    public static Time of(long totalMinutes) {
+        if (totalMinutes < 0) {
+            throw new IllegalArgumentException("A time can not be negative");
+        }
+        if (totalMinutes < CACHE_SIZE) {
+            return CACHE[(int) totalMinutes];
+        }
+        return new Time(totalMinutes);
+    }
+
+    /**
+     * Returns a Time object depicting the given time advanced with the given amount of minutes
+     *
+     * @param time    The time to advance
+     * @param minutes The amount of minutes to advance time with
+     * @return A Time object depicting time + minutes
+     * @throws IllegalArgumentException if the resulting time is negative
+     */
+    public static Time plus(Time time, long minutes) {
+        return of(time.getMinutes() + minutes);
+    }
+
+    /**
+     * Returns the amount of minutes between the two given times, without creating a Time object
+     *
+     * @param from The earlier time
+     * @param to   The later time
+     * @return to.getMinutes() - from.getMinutes(), negative if to is before from
+     */
+    public static long minutesBetween(Time from, Time to) {
+        return to.getMinutes() - from.getMinutes();
+    }
+
+    /**
+     * @return The total amount of minutes this Time object depicts
+     */
+    public long getMinutes() {
+        return totalMinutes;
     }
 
     /**
      * @return getHour() * 60 + getMinute()
+     * @throws ArithmeticException if the amount of minutes does not fit in an int, use getMinutes() instead
      */
     public int getTotalMinutes() {
-        return getHour() * 60 + getMinute();
+        return Math.toIntExact(getMinutes());
     }
 
     /**
      * @return This time objects' hour (a positive integer)
      */
     public int getHour() {
-        return hour;
+        return (int) (getMinutes() / 60);
     }
 
     /**
      * @return This time objects minute (a positive integer from 0 to and including 59)
      */
     public int getMinute() {
-        return minute;
+        return (int) (getMinutes() % 60);
     }
 
     /**
@@ -95,7 +162,7 @@ public class Time implements Comparable<Time> {
      */
     @Override
     public boolean equals(Object obj) {
-        return obj instanceof Time && ((Time) obj).getTotalMinutes() == getTotalMinutes();
+        return obj instanceof Time && ((Time) obj).getMinutes() == getMinutes();
     }
 
     /**
@@ -103,7 +170,7 @@ public class Time implements Comparable<Time> {
      */
     @Override
     public int hashCode() {
-        return getTotalMinutes();
+        return Long.hashCode(getMinutes());
     }
 
     /**
@@ -116,7 +183,7 @@ public class Time implements Comparable<Time> {
      */
     @Override
     public int compareTo(Time other) {
-        return Integer.compare(getTotalMinutes(), other.getTotalMinutes());
+        return Long.compare(getMinutes(), other.getMinutes());
     }
 
     /**
@@ -127,7 +194,11 @@ public class Time implements Comparable<Time> {
      * @throws InvalidTimeException if startTime.before(this)
      */
     public Time subtract(Time subtrahend) throws InvalidTimeException {
-        return new Time(this.getTotalMinutes() - subtrahend.getTotalMinutes());
+        long difference = minutesBetween(subtrahend, this);
+        if (difference < 0) {
+            throw new InvalidTimeException();
+        }
+        return of(difference);
     }
 
     /**
@@ -137,6 +208,6 @@ public class Time implements Comparable<Time> {
      * @return A Time object depicting the addition of this objects' time and the given time
      */
     public Time add(Time addend) throws InvalidTimeException {
-        return new Time(this.getTotalMinutes() + addend.getTotalMinutes());
+        return plus(this, addend.getMinutes());
     }
 }
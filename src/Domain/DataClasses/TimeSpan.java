@@ -24,11 +24,15 @@ public class TimeSpan {
         if (getStartTime() == null || getEndTime() == null){
             return null;
         }
-        try {
-            return getEndTime().subtract(getStartTime());
-        } catch (InvalidTimeException e) {
-            throw new RuntimeException(e);
-        }
+        return Time.of(getMinutesElapsed());
+    }
+
+    /**
+     * @return This TimeSpans' total elapsed time in minutes
+     * @pre getStartTime() != null and getEndTime() != null
+     */
+    public long getMinutesElapsed() {
+        return Time.minutesBetween(getStartTime(), getEndTime());
     }
 
     /**
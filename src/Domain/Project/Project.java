@@ -12,18 +12,22 @@ import Domain.User.Role;
 import Domain.User.User;
 import Domain.User.UserAlreadyAssignedToTaskException;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 /**
  * A project currently registered, including a list of tasks that this project requires to be finished
  */
 public class Project implements ProjectData {
 
-    private final List<Task> tasks;
-    private final List<Task> replacedTasks;
+    private final Set<Task> tasks;
+    private final Set<Task> replacedTasks;
+    private final Map<String, Task> taskIndex;
+    private List<TaskData> tasksData;
+    private List<TaskData> replacedTasksData;
+    private final Map<Task, Long> taskPositions;
+    private final Map<Status, SortedSet<Task>> tasksByStatus;
+    private final TaskStatusObserver statusObserver;
+    private long nextTaskPosition;
     private final String name;
     private final String description;
     private final Time creationTime;
@@ -35,8 +39,15 @@ public class Project implements ProjectData {
         if (dueTime.before(creationTime)) {
             throw new DueTimeBeforeCreationTimeException();
         }
-        this.tasks = new LinkedList<>();
-        this.replacedTasks = new LinkedList<>();
+        this.tasks = new LinkedHashSet<>();
+        this.replacedTasks = new LinkedHashSet<>();
+        this.taskIndex = new HashMap<>();
+        this.taskPositions = new HashMap<>();
+        this.tasksByStatus = new EnumMap<>(Status.class);
+        for (Status taskStatus : Status.values()) {
+            tasksByStatus.put(taskStatus, new TreeSet<>(Comparator.comparing(taskPositions::get)));
+        }
+        this.statusObserver = this::moveTask;
         this.name = name;
         this.description = description;
         this.creationTime = creationTime;
@@ -75,27 +86,80 @@ public class Project implements ProjectData {
     /**
      * @return an IMMUTABLE list of the current project tasks
      */
-    private List<Task> getTasks() {
+    List<Task> getTasks() {
         return List.copyOf(tasks);
     }
 
+    /**
+     * @return an IMMUTABLE list of the current tasks' data, only rebuilt after the current tasks changed
+     */
     @Override
     public List<TaskData> getTasksData() {
-        return getTasks().stream().map(Task::getTaskData).toList();
+        if (tasksData == null) {
+            tasksData = List.copyOf(tasks);
+        }
+        return tasksData;
     }
 
+    /**
+     * @return an IMMUTABLE list of the replaced tasks' data, only rebuilt after the replaced tasks changed
+     */
     @Override
     public List<TaskData> getReplacedTasksData() {
-        return getReplacedTasks().stream().map(Task::getTaskData).toList();
+        if (replacedTasksData == null) {
+            replacedTasksData = List.copyOf(replacedTasks);
+        }
+        return replacedTasksData;
     }
 
     /**
      * @return an IMMUTABLE list of all tasks that have been replaced
      */
-    private List<Task> getReplacedTasks() {
+    List<Task> getReplacedTasks() {
         return List.copyOf(replacedTasks);
     }
 
+    /**
+     * @return an IMMUTABLE list of the data of all current tasks that are available or pending, in the order they were added
+     */
+    @Override
+    public List<TaskData> getAvailableAndPendingTasksData() {
+        List<Task> availableAndPending = new ArrayList<>(getTasksWithStatus(Status.AVAILABLE));
+        availableAndPending.addAll(getTasksWithStatus(Status.PENDING));
+        availableAndPending.sort(Comparator.comparing(taskPositions::get));
+        return List.copyOf(availableAndPending);
+    }
+
+    /**
+     * @return an IMMUTABLE list of the data of all current tasks that are failed, in the order they were added
+     */
+    @Override
+    public List<TaskData> getReplaceableTasksData() {
+        return List.copyOf(getTasksWithStatus(Status.FAILED));
+    }
+
+    /**
+     * @param taskStatus The status of the tasks to return
+     * @return The current tasks that have the given status, ordered on the moment they were added to this project
+     */
+    private SortedSet<Task> getTasksWithStatus(Status taskStatus) {
+        return tasksByStatus.get(taskStatus);
+    }
+
+    /**
+     * Moves the given task from the status bucket of its old status to the bucket of its new status
+     *
+     * @param task      The task of which the status changed
+     * @param oldStatus The status the task had before the change
+     * @param newStatus The status the task has now
+     */
+    private void moveTask(Task task, Status oldStatus, Status newStatus) {
+        if (taskPositions.containsKey(task)) {
+            getTasksWithStatus(oldStatus).remove(task);
+            getTasksWithStatus(newStatus).add(task);
+        }
+    }
+
     /**
      * @param taskName The name of the task of which to get the task proxy
      * @return A read-only task proxy that contains task data and getters
@@ -132,17 +196,7 @@ public class Project implements ProjectData {
      * @return The (unique) task corresponding with selectedTaskName, or null
      */
     private Task getTask(String selectedTaskName) {
-        for (Task task : getTasks()) {
-            if (task.getName().equals(selectedTaskName)) {
-                return task;
-            }
-        }
-        for (Task task : getReplacedTasks()) {
-            if (task.getName().equals(selectedTaskName)) {
-                return task;
-            }
-        }
-        return null;
+        return taskIndex.get(selectedTaskName);
     }
 
     /**
@@ -203,8 +257,13 @@ public class Project implements ProjectData {
      * @param task The task to be added to the list of active tasks
      * @post The task is added to the list of active tasks
      */
-    private void addTask(Task task) {
+    void addTask(Task task) {
         tasks.add(task);
+        taskIndex.put(task.getName(), task);
+        tasksData = null;
+        taskPositions.put(task, nextTaskPosition++);
+        getTasksWithStatus(task.getStatus()).add(task);
+        task.setStatusObserver(statusObserver);
     }
 
 
@@ -256,15 +315,23 @@ public class Project implements ProjectData {
      * @post The task is removed from the list of active tasks
      */
     private void removeActiveTask(Task task) {
-        tasks.remove(task);
+        if (tasks.remove(task)) {
+            taskIndex.remove(task.getName(), task);
+            tasksData = null;
+            task.setStatusObserver(null);
+            getTasksWithStatus(task.getStatus()).remove(task);
+            taskPositions.remove(task);
+        }
     }
 
     /**
      * @param task The task to be added to the list of replaced tasks
      * @post The task is added to the list of replaced tasks
      */
-    private void addReplacedTask(Task task) {
+    void addReplacedTask(Task task) {
         replacedTasks.add(task);
+        taskIndex.put(task.getName(), task);
+        replacedTasksData = null;
     }
 
     /**
@@ -272,7 +339,10 @@ public class Project implements ProjectData {
      * @post The task is removed from the list of replaced tasks
      */
     private void removeReplacedTask(Task task) {
-        replacedTasks.remove(task);
+        if (replacedTasks.remove(task)) {
+            taskIndex.remove(task.getName(), task);
+            replacedTasksData = null;
+        }
     }
 
     /**
@@ -416,18 +486,21 @@ public class Project implements ProjectData {
      * @post if all tasks are finished then set this' status to FINISHED,
      * else set this' status to ONGOING
      */
-    private void updateProjectStatus() {
-        setStatus(ProjectStatus.FINISHED);
-        if (getTasks().size() == 0){
+    void updateProjectStatus() {
+        if (tasks.isEmpty() || getUnfinishedTaskCount() > 0) {
             setStatus(ProjectStatus.ONGOING);
-        }
-        for (Task task : getTasks()) {
-            if (task.getStatus() != Status.FINISHED) {
-                setStatus(ProjectStatus.ONGOING);
-            }
+        } else {
+            setStatus(ProjectStatus.FINISHED);
         }
     }
 
+    /**
+     * @return The amount of current tasks that are not finished, kept up to date by the status buckets
+     */
+    private int getUnfinishedTaskCount() {
+        return tasks.size() - getTasksWithStatus(Status.FINISHED).size();
+    }
+
     /**
      * Adds a task to the prevTasks list of a given task in the project, respecting the rules of the dependency graph
      *
@@ -468,6 +541,29 @@ public class Project implements ProjectData {
         task.addNextTask(nextTask);
     }
 
+    /**
+     * Adds all given dependencies between tasks at once, respecting the rules of the dependency graph.
+     * Either all dependencies are added, or none of them.
+     *
+     * @param dependencies Tuples of a previous task and the task to add it to, each given by its project and name
+     * @throws TaskNotFoundException        if one of the task names does not correspond to an existing task in its project
+     * @throws IncorrectTaskStatusException if one of the tasks to add a previous task to is not AVAILABLE or UNAVAILABLE
+     * @throws LoopDependencyGraphException if adding the dependencies would create a loop in the dependency graph
+     * @post every task that gets a previous task and was AVAILABLE is UNAVAILABLE if that previous task is not finished
+     */
+    public static void addDependencies(List<Tuple<Tuple<Project,String>,Tuple<Project,String>>> dependencies) throws TaskNotFoundException, IncorrectTaskStatusException, LoopDependencyGraphException {
+        List<Tuple<Task,Task>> tasks = new ArrayList<>();
+        for (Tuple<Tuple<Project,String>,Tuple<Project,String>> dependency : dependencies) {
+            Task prevTask = dependency.getFirst().getFirst().getTask(dependency.getFirst().getSecond());
+            Task nextTask = dependency.getSecond().getFirst().getTask(dependency.getSecond().getSecond());
+            if (prevTask == null || nextTask == null) {
+                throw new TaskNotFoundException();
+            }
+            tasks.add(new Tuple<>(prevTask, nextTask));
+        }
+        Task.addDependencies(tasks);
+    }
+
     /**
      * Removes a task from the prevTasks list of a given task in the project, respecting the rules of the dependency graph
      *
@@ -5,6 +5,7 @@ import Domain.Task.Status;
 import Domain.Task.TaskData;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Read-only data interface for a project, containing specific details about this project
@@ -73,7 +74,8 @@ public interface ProjectData {
      * @param taskData  The taskData object to check
      */
     default List<TaskData> getPossiblePrevTasks(TaskData taskData) {
-        return getTasksData().stream().filter(t -> !taskData.getPrevTasksData().contains(t) &&
+        Set<TaskData> prevTasks = Set.copyOf(taskData.getPrevTasksData());
+        return getTasksData().stream().filter(t -> !prevTasks.contains(t) &&
                 taskData.canSafelyAddPrevTask(t)).toList();
     }
 
@@ -82,7 +84,8 @@ public interface ProjectData {
      * @param taskData  The taskData object to check
      */
     default List<TaskData> getPossibleNextTasks(TaskData taskData) {
-        return getTasksData().stream().filter(t -> !taskData.getNextTasksData().contains(t) &&
+        Set<TaskData> nextTasks = Set.copyOf(taskData.getNextTasksData());
+        return getTasksData().stream().filter(t -> !nextTasks.contains(t) &&
                 t.canSafelyAddPrevTask(taskData)).toList();
     }
 
@@ -0,0 +1,97 @@
+package Domain.Project;
+
+import Domain.DataClasses.BinaryIO;
+import Domain.DataClasses.Time;
+import Domain.Task.Task;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes projects to and restores projects from the binary snapshot format, referring to their tasks by id
+ */
+public final class ProjectSnapshot {
+
+    private ProjectSnapshot() {}
+
+    /**
+     * @param project The project of which to return the tasks
+     * @return All current and replaced tasks of the given project
+     */
+    public static List<Task> getAllTasks(Project project) {
+        List<Task> tasks = new ArrayList<>(project.getTasks());
+        tasks.addAll(project.getReplacedTasks());
+        return tasks;
+    }
+
+    /**
+     * Writes the given project, referring to its tasks by their id
+     *
+     * @param out     Output to write to
+     * @param project The project to write
+     * @param ids     Id of every written task
+     * @throws IOException if writing fails
+     */
+    public static void writeProject(DataOutput out, Project project, Map<Task, Integer> ids) throws IOException {
+        BinaryIO.writeString(out, project.getName());
+        BinaryIO.writeString(out, project.getDescription());
+        BinaryIO.writeTime(out, project.getCreationTime());
+        BinaryIO.writeTime(out, project.getDueTime());
+        writeTaskIds(out, project.getTasks(), ids);
+        writeTaskIds(out, project.getReplacedTasks(), ids);
+    }
+
+    /**
+     * Restores a project written by {@link #writeProject(DataOutput, Project, Map)}
+     *
+     * @param in    Input to read from
+     * @param tasks All restored tasks, indexed on their id
+     * @return The restored project, holding its restored tasks in their original order
+     * @throws IOException if reading fails or the written project is invalid
+     */
+    public static Project readProject(DataInput in, List<Task> tasks) throws IOException {
+        String name = BinaryIO.readString(in);
+        String description = BinaryIO.readString(in);
+        Time creationTime = BinaryIO.readTime(in);
+        Time dueTime = BinaryIO.readTime(in);
+
+        Project project;
+        try {
+            project = new Project(name, description, creationTime, dueTime);
+        } catch (DueTimeBeforeCreationTimeException e) {
+            throw new IOException("Invalid project " + name + " in snapshot", e);
+        }
+        for (Task task : readTasks(in, tasks)) {
+            project.addTask(task);
+        }
+        for (Task task : readTasks(in, tasks)) {
+            project.addReplacedTask(task);
+        }
+        project.updateProjectStatus();
+        return project;
+    }
+
+    private static void writeTaskIds(DataOutput out, List<Task> tasks, Map<Task, Integer> ids) throws IOException {
+        out.writeInt(tasks.size());
+        for (Task task : tasks) {
+            out.writeInt(ids.get(task));
+        }
+    }
+
+    private static List<Task> readTasks(DataInput in, List<Task> tasks) throws IOException {
+        int count = in.readInt();
+        List<Task> read = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int id = in.readInt();
+            if (id < 0 || id >= tasks.size()) {
+                throw new IOException("Invalid task id in snapshot: " + id);
+            }
+            read.add(tasks.get(id));
+        }
+        return read;
+    }
+}
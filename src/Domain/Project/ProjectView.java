@@ -0,0 +1,117 @@
+package Domain.Project;
+
+import Domain.DataClasses.Time;
+import Domain.Task.DependencyChecker;
+import Domain.Task.Task;
+import Domain.Task.TaskData;
+import Domain.Task.TaskView;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable copy of the data of a project and all its tasks at one point in time, which can be read while the project
+ * itself is changed. Previous and next tasks in the same project resolve to the views of this project, those in other
+ * projects are resolved using the given resolver.
+ */
+public final class ProjectView implements ProjectData {
+
+    private final String name;
+    private final String description;
+    private final Time creationTime;
+    private final Time dueTime;
+    private final ProjectStatus status;
+    private final List<TaskData> tasksData;
+    private final List<TaskData> replacedTasksData;
+    private final Map<String, TaskData> taskIndex;
+
+    /**
+     * Copies the data of the given project, without changing any of the cached data of the project or its tasks, so
+     * it can be called while reading the project optimistically
+     *
+     * @param project  The project to copy
+     * @param resolver Resolves the name of a project and a task in another project to the view of that task, or null if
+     *                 it does not exist
+     * @param checker  Checks dependencies of the tasks against the current dependency graph
+     */
+    public ProjectView(Project project, BiFunction<String, String, TaskData> resolver, DependencyChecker checker) {
+        this.name = project.getName();
+        this.description = project.getDescription();
+        this.creationTime = project.getCreationTime();
+        this.dueTime = project.getDueTime();
+        this.status = project.getStatus();
+
+        Map<String, TaskData> taskIndex = new HashMap<>();
+        BiFunction<String, String, TaskData> viewResolver = (projectName, taskName) ->
+                projectName.equals(name) ? taskIndex.get(taskName) : resolver.apply(projectName, taskName);
+        this.tasksData = copyTasks(project.getTasks(), viewResolver, checker, taskIndex);
+        this.replacedTasksData = copyTasks(project.getReplacedTasks(), viewResolver, checker, taskIndex);
+        this.taskIndex = Collections.unmodifiableMap(taskIndex);
+    }
+
+    private static List<TaskData> copyTasks(List<Task> tasks, BiFunction<String, String, TaskData> resolver, DependencyChecker checker, Map<String, TaskData> taskIndex) {
+        List<TaskData> views = new ArrayList<>();
+        for (Task task : tasks) {
+            TaskView view = new TaskView(task, resolver, checker);
+            views.add(view);
+            taskIndex.put(view.getName(), view);
+        }
+        return List.copyOf(views);
+    }
+
+    /**
+     * @param taskName Name of the task
+     * @return The view of the task with the given name in this project, or null if there is no such task
+     */
+    public TaskData getTaskData(String taskName) {
+        return taskIndex.get(taskName);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public Time getCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Time getDueTime() {
+        return dueTime;
+    }
+
+    @Override
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public List<TaskData> getTasksData() {
+        return tasksData;
+    }
+
+    @Override
+    public List<TaskData> getReplacedTasksData() {
+        return replacedTasksData;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ProjectView view) {
+            return getName().equals(view.getName());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return getName().hashCode();
+    }
+}
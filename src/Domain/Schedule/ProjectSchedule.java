@@ -0,0 +1,120 @@
+package Domain.Schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable schedule of all active tasks of a project, in topological order of the dependency graph
+ */
+public class ProjectSchedule {
+
+    private final String projectName;
+    private final int dueTime;
+    private final int estimatedEnd;
+    private final List<TaskSchedule> taskSchedules;
+    private final Map<String, TaskSchedule> taskIndex = new HashMap<>();
+    private final List<TaskSchedule> criticalTasks;
+    private final List<TaskSchedule> criticalPath;
+
+    /**
+     * @param projectName   Name of the project
+     * @param dueTime       Due time of the project
+     * @param systemTime    The time the project was scheduled at
+     * @param taskSchedules Schedules of all active tasks of the project, in topological order
+     * @param criticalPath  Schedules of the tasks on the critical path of the project, in order
+     */
+    ProjectSchedule(String projectName, int dueTime, int systemTime, List<TaskSchedule> taskSchedules, List<TaskSchedule> criticalPath) {
+        this.projectName = projectName;
+        this.dueTime = dueTime;
+        this.taskSchedules = List.copyOf(taskSchedules);
+
+        int end = systemTime;
+        int minimalSlack = Integer.MAX_VALUE;
+        for (TaskSchedule task : taskSchedules) {
+            taskIndex.put(task.getTaskName(), task);
+            end = Math.max(end, task.getEarliestFinish());
+            if (!task.isFinished()) {
+                minimalSlack = Math.min(minimalSlack, task.getSlack());
+            }
+        }
+        this.estimatedEnd = end;
+        List<TaskSchedule> critical = new ArrayList<>();
+        for (TaskSchedule task : taskSchedules) {
+            if (!task.isFinished() && task.getSlack() == minimalSlack) {
+                critical.add(task);
+            }
+        }
+        this.criticalTasks = List.copyOf(critical);
+        this.criticalPath = List.copyOf(criticalPath);
+    }
+
+    /**
+     * @return The name of the project
+     */
+    public String getProjectName() {
+        return projectName;
+    }
+
+    /**
+     * @return The due time of the project
+     */
+    public int getDueTime() {
+        return dueTime;
+    }
+
+    /**
+     * @return The earliest time all tasks of the project can be finished
+     */
+    public int getEstimatedEnd() {
+        return estimatedEnd;
+    }
+
+    /**
+     * @return The time between the estimated end and the due time of the project, negative if it will be late
+     */
+    public int getSlack() {
+        return getDueTime() - getEstimatedEnd();
+    }
+
+    /**
+     * @return IMMUTABLE list of the schedules of all active tasks of the project, in topological order
+     */
+    public List<TaskSchedule> getTaskSchedules() {
+        return taskSchedules;
+    }
+
+    /**
+     * @param taskName Name of a task of the project
+     * @return The schedule of the given task, or null if it is not an active task of the project
+     */
+    public TaskSchedule getTaskSchedule(String taskName) {
+        return taskIndex.get(taskName);
+    }
+
+    /**
+     * @return IMMUTABLE list of the unfinished tasks with the least slack, in topological order. These are the first
+     * tasks of the project that delay a due time when they are delayed, possibly on several parallel chains.
+     */
+    public List<TaskSchedule> getCriticalTasks() {
+        return criticalTasks;
+    }
+
+    /**
+     * @return IMMUTABLE list of the tasks on the critical path of the project, a chain of critical tasks in which every
+     * task can start as soon as the one before it finishes. Of several parallel critical chains, only the first one in
+     * topological order is followed.
+     */
+    public List<TaskSchedule> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * @return IMMUTABLE list of the unfinished tasks that will miss a due time even if they are not delayed, in
+     * topological order
+     */
+    public List<TaskSchedule> getThreateningTasks() {
+        return getTaskSchedules().stream().filter(TaskSchedule::threatensDueTime).toList();
+    }
+}
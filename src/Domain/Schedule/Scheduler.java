@@ -0,0 +1,257 @@
+package Domain.Schedule;
+
+import Domain.DataClasses.Time;
+import Domain.Project.ProjectData;
+import Domain.Task.Status;
+import Domain.Task.TaskData;
+
+import java.util.*;
+
+/**
+ * Computes the earliest and latest start and finish times, the slack and the critical paths of the tasks of all
+ * projects, following the dependencies between tasks across projects.
+ * <p>
+ * Tasks are scheduled in one pass over the dependency graph in topological order, computing the earliest times, and
+ * one pass in reverse order, computing the latest times from the due times of the projects. The schedules are cached
+ * per project, together with the version of the project they were computed for. When projects change, only the
+ * projects connected to them by dependencies are scheduled again, all others keep their cached schedules. A change of
+ * the system time or of the set of projects reschedules all projects.
+ */
+public class Scheduler {
+
+    private Time systemTime;
+    private long systemVersion;
+    private final Map<String, Long> projectVersions = new HashMap<>();
+    private final Map<String, ProjectSchedule> schedules = new HashMap<>();
+
+    /**
+     * Returns the schedule of the given project, after scheduling the projects that changed since they were scheduled
+     *
+     * @param projectName     Name of the project of which to return the schedule
+     * @param systemTime      The current system time
+     * @param systemVersion   Version of the system, which changes whenever the system time or the set of projects changes
+     * @param projects        All projects of the system, which may not change until this method returns
+     * @param projectVersions The current version of every project, which changes whenever the project changes
+     * @return The schedule of the given project, or null if it is not one of the given projects
+     */
+    public synchronized ProjectSchedule getProjectSchedule(String projectName, Time systemTime, long systemVersion, List<ProjectData> projects, Map<String, Long> projectVersions) {
+        if (!systemTime.equals(this.systemTime) || systemVersion != this.systemVersion) {
+            this.systemTime = systemTime;
+            this.systemVersion = systemVersion;
+            this.projectVersions.clear();
+            schedules.clear();
+        }
+
+        Map<String, ProjectData> projectIndex = new HashMap<>();
+        Set<String> changedProjects = new HashSet<>();
+        for (ProjectData project : projects) {
+            projectIndex.put(project.getName(), project);
+            Long version = projectVersions.get(project.getName());
+            if (!schedules.containsKey(project.getName()) || !Objects.equals(version, this.projectVersions.get(project.getName()))) {
+                changedProjects.add(project.getName());
+            }
+        }
+        if (!changedProjects.isEmpty()) {
+            Set<String> connectedProjects = getConnectedProjects(changedProjects, projectIndex);
+            List<ProjectData> toSchedule = new ArrayList<>();
+            for (ProjectData project : projects) {
+                if (connectedProjects.contains(project.getName())) {
+                    toSchedule.add(project);
+                    this.projectVersions.put(project.getName(), projectVersions.get(project.getName()));
+                }
+            }
+            for (ProjectSchedule schedule : schedule(toSchedule, systemTime.getTotalMinutes())) {
+                schedules.put(schedule.getProjectName(), schedule);
+            }
+        }
+        return schedules.get(projectName);
+    }
+
+    /**
+     * @return The names of the given projects, together with all projects connected to them by dependencies between
+     * their tasks
+     */
+    private static Set<String> getConnectedProjects(Set<String> projectNames, Map<String, ProjectData> projectIndex) {
+        Set<String> connected = new HashSet<>(projectNames);
+        Deque<String> toVisit = new ArrayDeque<>(projectNames);
+        while (!toVisit.isEmpty()) {
+            for (TaskData task : projectIndex.get(toVisit.pop()).getTasksData()) {
+                for (TaskData prevTask : task.getPrevTasksData()) {
+                    if (projectIndex.containsKey(prevTask.getProjectName()) && connected.add(prevTask.getProjectName())) {
+                        toVisit.push(prevTask.getProjectName());
+                    }
+                }
+                for (TaskData nextTask : task.getNextTasksData()) {
+                    if (projectIndex.containsKey(nextTask.getProjectName()) && connected.add(nextTask.getProjectName())) {
+                        toVisit.push(nextTask.getProjectName());
+                    }
+                }
+            }
+        }
+        return connected;
+    }
+
+    /**
+     * Schedules all active tasks of the given projects
+     *
+     * @param projects   The projects to schedule, no task of which depends on or is depended on by a task of another project
+     * @param systemTime The current system time, in minutes
+     * @return The schedules of the given projects
+     */
+    private static List<ProjectSchedule> schedule(List<ProjectData> projects, int systemTime) {
+        List<TaskData> order = sortTopologically(projects);
+        Map<TaskData, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            positions.put(order.get(i), i);
+        }
+        int[] earliestStart = new int[order.size()];
+        int[] earliestFinish = new int[order.size()];
+        int[] latestFinish = new int[order.size()];
+
+        for (int i = 0; i < order.size(); i++) {
+            TaskData task = order.get(i);
+            int duration = task.getEstimatedDuration().getTotalMinutes();
+            if (task.getStatus() == Status.FINISHED) {
+                earliestStart[i] = task.getStartTime().getTotalMinutes();
+                earliestFinish[i] = task.getEndTime().getTotalMinutes();
+            } else if (task.getStatus() == Status.EXECUTING) {
+                earliestStart[i] = task.getStartTime().getTotalMinutes();
+                earliestFinish[i] = Math.max(systemTime, earliestStart[i] + duration);
+            } else {
+                int start = systemTime;
+                for (TaskData prevTask : task.getPrevTasksData()) {
+                    Integer position = positions.get(prevTask);
+                    if (position != null) {
+                        start = Math.max(start, earliestFinish[position]);
+                    }
+                }
+                earliestStart[i] = start;
+                earliestFinish[i] = start + duration;
+            }
+        }
+
+        Map<String, Integer> dueTimes = new HashMap<>();
+        for (ProjectData project : projects) {
+            dueTimes.put(project.getName(), project.getDueTime().getTotalMinutes());
+        }
+        for (int i = order.size() - 1; i >= 0; i--) {
+            TaskData task = order.get(i);
+            if (task.getStatus() == Status.FINISHED) {
+                latestFinish[i] = earliestFinish[i];
+                continue;
+            }
+            int finish = dueTimes.get(task.getProjectName());
+            for (TaskData nextTask : task.getNextTasksData()) {
+                Integer position = positions.get(nextTask);
+                if (position != null && nextTask.getStatus() != Status.FINISHED) {
+                    finish = Math.min(finish, latestFinish[position] - nextTask.getEstimatedDuration().getTotalMinutes());
+                }
+            }
+            latestFinish[i] = finish;
+        }
+
+        Map<String, List<TaskSchedule>> taskSchedules = new HashMap<>();
+        for (ProjectData project : projects) {
+            taskSchedules.put(project.getName(), new ArrayList<>());
+        }
+        TaskSchedule[] scheduled = new TaskSchedule[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            TaskData task = order.get(i);
+            int duration = task.getStatus() == Status.FINISHED ? earliestFinish[i] - earliestStart[i] : task.getEstimatedDuration().getTotalMinutes();
+            scheduled[i] = new TaskSchedule(task.getProjectName(), task.getName(), task.getStatus(), earliestStart[i],
+                    earliestFinish[i], latestFinish[i], duration);
+            taskSchedules.get(task.getProjectName()).add(scheduled[i]);
+        }
+
+        List<ProjectSchedule> schedules = new ArrayList<>();
+        for (ProjectData project : projects) {
+            List<TaskSchedule> tasks = taskSchedules.get(project.getName());
+            schedules.add(new ProjectSchedule(project.getName(), dueTimes.get(project.getName()), systemTime, tasks,
+                    getCriticalPath(project.getName(), tasks, order, positions, scheduled)));
+        }
+        return schedules;
+    }
+
+    /**
+     * Follows the critical path of the given project from its first critical task: every next task on the path is
+     * critical as well, and can start as soon as the task before it on the path finishes. Of several such next tasks,
+     * the first one in topological order is followed, so of several parallel critical chains only the first is returned.
+     *
+     * @return The tasks on the critical path of the given project, in order
+     */
+    private static List<TaskSchedule> getCriticalPath(String projectName, List<TaskSchedule> tasks, List<TaskData> order, Map<TaskData, Integer> positions, TaskSchedule[] scheduled) {
+        int minimalSlack = Integer.MAX_VALUE;
+        int current = -1;
+        for (TaskSchedule task : tasks) {
+            if (!task.isFinished() && task.getSlack() < minimalSlack) {
+                minimalSlack = task.getSlack();
+            }
+        }
+        for (int i = 0; i < order.size() && current == -1; i++) {
+            if (scheduled[i].getProjectName().equals(projectName) && !scheduled[i].isFinished() && scheduled[i].getSlack() == minimalSlack) {
+                current = i;
+            }
+        }
+
+        List<TaskSchedule> path = new ArrayList<>();
+        while (current != -1) {
+            path.add(scheduled[current]);
+            int next = -1;
+            for (TaskData nextTask : order.get(current).getNextTasksData()) {
+                Integer position = positions.get(nextTask);
+                if (position != null && (next == -1 || position < next)) {
+                    TaskSchedule candidate = scheduled[position];
+                    if (candidate.getProjectName().equals(projectName) && !candidate.isFinished() && candidate.getSlack() == minimalSlack
+                            && candidate.getEarliestStart() == scheduled[current].getEarliestFinish()) {
+                        next = position;
+                    }
+                }
+            }
+            current = next;
+        }
+        return path;
+    }
+
+    /**
+     * @return The active tasks of the given projects, every task coming after all tasks it depends on
+     */
+    private static List<TaskData> sortTopologically(List<ProjectData> projects) {
+        List<TaskData> tasks = new ArrayList<>();
+        Map<TaskData, Integer> unsortedPrevTaskCounts = new IdentityHashMap<>();
+        for (ProjectData project : projects) {
+            for (TaskData task : project.getTasksData()) {
+                tasks.add(task);
+                unsortedPrevTaskCounts.put(task, 0);
+            }
+        }
+        for (TaskData task : tasks) {
+            for (TaskData nextTask : task.getNextTasksData()) {
+                unsortedPrevTaskCounts.computeIfPresent(nextTask, (t, count) -> count + 1);
+            }
+        }
+
+        // of the tasks that can come next, the one that comes first in its project is taken, so the order is stable
+        Map<TaskData, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            indices.put(tasks.get(i), i);
+        }
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (unsortedPrevTaskCounts.get(tasks.get(i)) == 0) {
+                ready.add(i);
+            }
+        }
+        List<TaskData> order = new ArrayList<>(tasks.size());
+        while (!ready.isEmpty()) {
+            TaskData task = tasks.get(ready.poll());
+            order.add(task);
+            for (TaskData nextTask : task.getNextTasksData()) {
+                Integer count = unsortedPrevTaskCounts.computeIfPresent(nextTask, (t, c) -> c - 1);
+                if (count != null && count == 0) {
+                    ready.add(indices.get(nextTask));
+                }
+            }
+        }
+        return order;
+    }
+}
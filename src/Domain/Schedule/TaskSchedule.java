@@ -0,0 +1,114 @@
+package Domain.Schedule;
+
+import Domain.Task.Status;
+
+/**
+ * Immutable schedule of a single task, all times given in minutes of the system clock.
+ * Unfinished tasks are scheduled by their estimated duration, finished tasks by the time they actually took.
+ */
+public class TaskSchedule {
+
+    private final String projectName;
+    private final String taskName;
+    private final Status status;
+    private final int earliestStart;
+    private final int earliestFinish;
+    private final int latestFinish;
+    private final int duration;
+
+    /**
+     * @param projectName    Name of the project the task belongs to
+     * @param taskName       Name of the task
+     * @param status         Status of the task when it was scheduled
+     * @param earliestStart  Earliest time the task can start, or the time it started
+     * @param earliestFinish Earliest time the task can finish, or the time it finished
+     * @param latestFinish   Latest time the task can finish without delaying any due time
+     * @param duration       Duration of the task
+     */
+    TaskSchedule(String projectName, String taskName, Status status, int earliestStart, int earliestFinish, int latestFinish, int duration) {
+        this.projectName = projectName;
+        this.taskName = taskName;
+        this.status = status;
+        this.earliestStart = earliestStart;
+        this.earliestFinish = earliestFinish;
+        this.latestFinish = latestFinish;
+        this.duration = duration;
+    }
+
+    /**
+     * @return The name of the project the task belongs to
+     */
+    public String getProjectName() {
+        return projectName;
+    }
+
+    /**
+     * @return The name of the task
+     */
+    public String getTaskName() {
+        return taskName;
+    }
+
+    /**
+     * @return The status of the task when it was scheduled
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Whether the task was finished when it was scheduled
+     */
+    public boolean isFinished() {
+        return getStatus() == Status.FINISHED;
+    }
+
+    /**
+     * @return The earliest time the task can start, or the time it started if it is executing or finished
+     */
+    public int getEarliestStart() {
+        return earliestStart;
+    }
+
+    /**
+     * @return The earliest time the task can finish, or the time it finished if it is finished
+     */
+    public int getEarliestFinish() {
+        return earliestFinish;
+    }
+
+    /**
+     * @return The latest time the task can start without delaying the due time of its project or of any project of the
+     * tasks depending on it, which is before the system time if that due time can no longer be met
+     */
+    public int getLatestStart() {
+        return latestFinish - duration;
+    }
+
+    /**
+     * @return The latest time the task can finish without delaying any of those due times
+     */
+    public int getLatestFinish() {
+        return latestFinish;
+    }
+
+    /**
+     * @return The time the task can be delayed without delaying any of those due times, negative if one of them will
+     * be missed by that many minutes, 0 for finished tasks
+     */
+    public int getSlack() {
+        return latestFinish - earliestFinish;
+    }
+
+    /**
+     * @return Whether the task threatens a due time, i.e. one of them will be missed even if the task is not delayed
+     */
+    public boolean threatensDueTime() {
+        return !isFinished() && getSlack() < 0;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + getProjectName() + ", " + getTaskName() + ": " + getEarliestStart() + "-" + getEarliestFinish() + ", slack " + getSlack() + ")";
+    }
+}
@@ -10,6 +10,12 @@ import Domain.User.UserAlreadyAssignedToTaskException;
  */
 public class AvailableState implements TaskState {
 
+    /** Shared instance */
+    public static final AvailableState INSTANCE = new AvailableState();
+
+    private AvailableState() {
+    }
+
     @Override
     public Status getStatus() {
         return Status.AVAILABLE;
@@ -29,10 +35,10 @@ public class AvailableState implements TaskState {
         task.commitUser(currentUser, role);
 
         if (task.getUnfulfilledRoles().size() == 0) {
-            task.setState(new ExecutingState());
+            task.setState(ExecutingState.INSTANCE);
             task.setStartTime(startTime);
         } else {
-            task.setState(new PendingState());
+            task.setState(PendingState.INSTANCE);
         }
     }
 
@@ -43,9 +49,8 @@ public class AvailableState implements TaskState {
 
     @Override
     public void updateAvailability(Task task) {
-        for (Task prevTask : task.getPrevTasks()) {
-            prevTask.updateAvailabilityNextTask(task);
-            // Set this tasks' state to unavailable if prevTask is not finished
+        if (task.getUnfinishedPrevTaskCount() > 0) {
+            task.setState(UnavailableState.INSTANCE);
         }
     }
 
@@ -54,6 +59,7 @@ public class AvailableState implements TaskState {
         if (canSafelyAddPrevTask(task, prevTask)) {
             task.addPrevTaskDirectly(prevTask);
             prevTask.addNextTaskDirectly(task);
+            DependencyGraph.restoreOrder(prevTask, task);
         } else {
             throw new LoopDependencyGraphException();
         }
@@ -62,6 +68,9 @@ public class AvailableState implements TaskState {
 
     @Override
     public boolean canSafelyAddPrevTask(Task task, TaskData prevTask) {
+        if (prevTask instanceof Task prev) {
+            return canSafelyAddPrevTask(task, prev);
+        }
         for (Task nextTask : task.getAllNextTasks()) {
             if ( prevTask.getProjectName().equals(nextTask.getProjectName()) && prevTask.getName().equals(nextTask.getName())) {
                 return false;
@@ -79,7 +88,7 @@ public class AvailableState implements TaskState {
      * @throws IncorrectTaskStatusException if task is not AVAILABLE or UNAVAILABLE
      */
     public boolean canSafelyAddPrevTask(Task task, Task prevTask) {
-        return !task.getAllNextTasks().contains(prevTask);
+        return DependencyGraph.canSafelyAddDependency(prevTask, task);
     }
 
 }
@@ -0,0 +1,20 @@
+package Domain.Task;
+
+/**
+ * Checks dependencies against the current dependency graph for views of tasks, which do not hold the graph themselves
+ */
+public interface DependencyChecker {
+
+    /**
+     * Checks if it is safe to add the given previous task to the given task without introducing a loop in the
+     * dependency graph
+     *
+     * @param projectName     Name of the project of the task
+     * @param taskName        Name of the task to add the previous task to
+     * @param prevProjectName Name of the project of the previous task
+     * @param prevTaskName    Name of the previous task
+     * @return true if both tasks exist, the task is AVAILABLE or UNAVAILABLE and adding the previous task does not
+     * introduce a loop in the dependency graph, false otherwise
+     */
+    boolean canSafelyAddPrevTask(String projectName, String taskName, String prevProjectName, String prevTaskName);
+}
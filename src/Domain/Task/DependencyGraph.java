@@ -0,0 +1,214 @@
+package Domain.Task;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the dependency graph of all tasks in a topological order, so loops can be detected without walking the
+ * whole graph every time a dependency is added.
+ * Every task holds a topological index, and for every dependency prevTask -> nextTask the index of prevTask is
+ * strictly smaller than the index of nextTask. When a dependency is added against this order, only the tasks whose
+ * index lies in between the two involved tasks are visited and reordered (Pearce-Kelly).
+ * <p>
+ * The counter handing out indices to new tasks is shared by all systems. This is safe because indices are only
+ * compared between tasks connected by dependencies, and tasks of different systems are never connected. The indices
+ * of one system are therefore still unique and ordered, only not consecutive. The counter is atomic, as systems on
+ * different threads create tasks concurrently.
+ */
+class DependencyGraph {
+
+    private static final AtomicInteger nextIndex = new AtomicInteger();
+
+    private DependencyGraph() {}
+
+    /**
+     * @return A fresh topological index, larger than all indices handed out before
+     * @throws ArithmeticException if all indices have been handed out, rather than handing out an index smaller than
+     *                             the ones before
+     */
+    static int newIndex() {
+        return nextIndex.getAndUpdate(index -> Math.addExact(index, 1));
+    }
+
+    /**
+     * Checks if adding prevTask as a previous task of nextTask keeps the dependency graph free of loops
+     *
+     * @param prevTask The task to add as a previous task
+     * @param nextTask The task to add prevTask to
+     * @return true if no loop will be created once prevTask is added as a previous task of nextTask, false otherwise
+     */
+    static boolean canSafelyAddDependency(Task prevTask, Task nextTask) {
+        if (prevTask.getTopologicalIndex() < nextTask.getTopologicalIndex()) {
+            return true;
+        }
+        return !getAffectedNextTasks(nextTask, prevTask).contains(prevTask);
+    }
+
+    /**
+     * Checks if adding all given dependencies at once keeps the dependency graph free of loops
+     * Only dependencies against the topological order can close a loop, and every such loop only passes tasks that are
+     * reachable from their next tasks and whose index is not larger than the largest index of their previous tasks. So
+     * only those tasks are visited, and sorted topologically together with the new dependencies.
+     *
+     * @param nextTasks For every previous task, the next tasks to add it to
+     * @return true if no loop will be created once all dependencies are added, false otherwise
+     */
+    static boolean canSafelyAddDependencies(Map<Task, Set<Task>> nextTasks) {
+        int upperBound = Integer.MIN_VALUE;
+        Set<Task> affectedTasks = new HashSet<>();
+        Deque<Task> toVisit = new ArrayDeque<>();
+        for (Map.Entry<Task, Set<Task>> dependencies : nextTasks.entrySet()) {
+            Task prevTask = dependencies.getKey();
+            for (Task nextTask : dependencies.getValue()) {
+                if (prevTask.getTopologicalIndex() >= nextTask.getTopologicalIndex()) {
+                    upperBound = Math.max(upperBound, prevTask.getTopologicalIndex());
+                    if (affectedTasks.add(nextTask)) {
+                        toVisit.push(nextTask);
+                    }
+                }
+            }
+        }
+        if (affectedTasks.isEmpty()) {
+            return true;
+        }
+
+        while (!toVisit.isEmpty()) {
+            Task current = toVisit.pop();
+            for (Task nextTask : getNextTasks(current, nextTasks)) {
+                if (nextTask.getTopologicalIndex() <= upperBound && affectedTasks.add(nextTask)) {
+                    toVisit.push(nextTask);
+                }
+            }
+        }
+
+        Map<Task, Integer> prevTaskCounts = new HashMap<>();
+        for (Task task : affectedTasks) {
+            for (Task nextTask : getNextTasks(task, nextTasks)) {
+                if (affectedTasks.contains(nextTask)) {
+                    prevTaskCounts.merge(nextTask, 1, Integer::sum);
+                }
+            }
+        }
+        for (Task task : affectedTasks) {
+            if (!prevTaskCounts.containsKey(task)) {
+                toVisit.push(task);
+            }
+        }
+        int sortedCount = 0;
+        while (!toVisit.isEmpty()) {
+            Task current = toVisit.pop();
+            sortedCount++;
+            for (Task nextTask : getNextTasks(current, nextTasks)) {
+                if (affectedTasks.contains(nextTask) && prevTaskCounts.merge(nextTask, -1, Integer::sum) == 0) {
+                    toVisit.push(nextTask);
+                }
+            }
+        }
+        // the tasks that could not be sorted lie on a loop
+        return sortedCount == affectedTasks.size();
+    }
+
+    /**
+     * @return The next tasks of the given task, including the ones it is about to get, some possibly twice
+     */
+    private static List<Task> getNextTasks(Task task, Map<Task, Set<Task>> newNextTasks) {
+        List<Task> nextTasks = new ArrayList<>(task.getNextTasksView());
+        nextTasks.addAll(newNextTasks.getOrDefault(task, Set.of()));
+        return nextTasks;
+    }
+
+    /**
+     * Restores the topological order after the dependency prevTask -> nextTask has been added
+     *
+     * @param prevTask The task that was added as a previous task
+     * @param nextTask The task prevTask was added to
+     * @pre adding the dependency did not introduce a loop in the dependency graph
+     * @post for every dependency, the index of the previous task is smaller than the index of the next task
+     */
+    static void restoreOrder(Task prevTask, Task nextTask) {
+        if (prevTask.getTopologicalIndex() < nextTask.getTopologicalIndex()) {
+            return;
+        }
+        List<Task> affectedNextTasks = getAffectedNextTasks(nextTask, prevTask);
+        List<Task> affectedPrevTasks = getAffectedPrevTasks(prevTask, nextTask);
+
+        Comparator<Task> byIndex = Comparator.comparingInt(Task::getTopologicalIndex);
+        affectedNextTasks.sort(byIndex);
+        affectedPrevTasks.sort(byIndex);
+
+        int[] indices = new int[affectedNextTasks.size() + affectedPrevTasks.size()];
+        int i = 0;
+        for (Task task : affectedPrevTasks) {
+            indices[i++] = task.getTopologicalIndex();
+        }
+        for (Task task : affectedNextTasks) {
+            indices[i++] = task.getTopologicalIndex();
+        }
+        Arrays.sort(indices);
+
+        // All affected previous tasks now come before all affected next tasks, each group keeping its own order
+        i = 0;
+        for (Task task : affectedPrevTasks) {
+            task.setTopologicalIndex(indices[i++]);
+        }
+        for (Task task : affectedNextTasks) {
+            task.setTopologicalIndex(indices[i++]);
+        }
+    }
+
+    /**
+     * Lets the replacement task take over the place of the replaced task in the topological order
+     *
+     * @param toReplace   The task that is being replaced
+     * @param replacement The task that takes over the dependencies of toReplace
+     */
+    static void swapOrder(Task toReplace, Task replacement) {
+        int index = toReplace.getTopologicalIndex();
+        toReplace.setTopologicalIndex(replacement.getTopologicalIndex());
+        replacement.setTopologicalIndex(index);
+    }
+
+    /**
+     * @return All tasks reachable from the given task (including itself) whose index is not larger than the index of bound
+     */
+    private static List<Task> getAffectedNextTasks(Task task, Task bound) {
+        int upperBound = bound.getTopologicalIndex();
+        List<Task> visited = new ArrayList<>();
+        Set<Task> seen = new HashSet<>();
+        Deque<Task> toVisit = new ArrayDeque<>();
+        toVisit.push(task);
+        seen.add(task);
+        while (!toVisit.isEmpty()) {
+            Task current = toVisit.pop();
+            visited.add(current);
+            for (Task nextTask : current.getNextTasksView()) {
+                if (nextTask.getTopologicalIndex() <= upperBound && seen.add(nextTask)) {
+                    toVisit.push(nextTask);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * @return All tasks the given task (including itself) depends on whose index is larger than the index of bound
+     */
+    private static List<Task> getAffectedPrevTasks(Task task, Task bound) {
+        int lowerBound = bound.getTopologicalIndex();
+        List<Task> visited = new ArrayList<>();
+        Set<Task> seen = new HashSet<>();
+        Deque<Task> toVisit = new ArrayDeque<>();
+        toVisit.push(task);
+        seen.add(task);
+        while (!toVisit.isEmpty()) {
+            Task current = toVisit.pop();
+            visited.add(current);
+            for (Task prevTask : current.getPrevTasksView()) {
+                if (prevTask.getTopologicalIndex() > lowerBound && seen.add(prevTask)) {
+                    toVisit.push(prevTask);
+                }
+            }
+        }
+        return visited;
+    }
+}
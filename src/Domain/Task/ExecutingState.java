@@ -8,6 +8,12 @@ import Domain.DataClasses.Time;
  */
 public class ExecutingState implements TaskState {
 
+    /** Shared instance */
+    public static final ExecutingState INSTANCE = new ExecutingState();
+
+    private ExecutingState() {
+    }
+
     @Override
     public Status getStatus() {
         return Status.EXECUTING;
@@ -17,7 +23,7 @@ public class ExecutingState implements TaskState {
     @Override
     public void finish(Task task, Time endTime) throws EndTimeBeforeStartTimeException {
         task.setEndTime(endTime);
-        task.setState(new FinishedState());
+        task.setState(FinishedState.INSTANCE);
 
         for (Task nextTask : task.getNextTasks()) {
             nextTask.updateAvailability();
@@ -27,15 +33,15 @@ public class ExecutingState implements TaskState {
     @Override
     public void fail(Task task, Time endTime) throws EndTimeBeforeStartTimeException {
         task.setEndTime(endTime);
-        task.setState(new FailedState());
+        task.setState(FailedState.INSTANCE);
     }
 
     @Override
     public void undoStart(Task task) {
         if (task.getCommittedUsers().size() - 1 == 0) {
-            task.setState(new AvailableState());
+            task.setState(AvailableState.INSTANCE);
         } else {
-            task.setState(new PendingState());
+            task.setState(PendingState.INSTANCE);
         }
     }
 
@@ -4,6 +4,13 @@ package Domain.Task;
  * Task state class governing the task transitions from the FAILED state
  */
 public class FailedState implements TaskState {
+
+    /** Shared instance */
+    public static final FailedState INSTANCE = new FailedState();
+
+    private FailedState() {
+    }
+
     @Override
     public Status getStatus() {
         return Status.FAILED;
@@ -29,6 +36,7 @@ public class FailedState implements TaskState {
             nextTask.addPrevTaskDirectly(replacement);
             replacement.addNextTaskDirectly(nextTask);
         }
+        DependencyGraph.swapOrder(toReplace, replacement);
 
         replacement.setProjectName(toReplace.getProjectName());
 
@@ -46,7 +54,7 @@ public class FailedState implements TaskState {
 
     @Override
     public void undoEnd(Task task) {
-        task.setState(new ExecutingState());
+        task.setState(ExecutingState.INSTANCE);
     }
 
     @Override
@@ -5,6 +5,12 @@ package Domain.Task;
  */
 public class FinishedState implements TaskState {
 
+    /** Shared instance */
+    public static final FinishedState INSTANCE = new FinishedState();
+
+    private FinishedState() {
+    }
+
     @Override
     public Status getStatus() {
         return Status.FINISHED;
@@ -18,9 +24,11 @@ public class FinishedState implements TaskState {
      */
     @Override
     public FinishedStatus getFinishedStatus(Task task) {
-        if (task.getTimeSpan().getTimeElapsed().getTotalMinutes() < (1 - task.getAcceptableDeviation()) * task.getEstimatedDuration().getTotalMinutes()) {
+        long elapsed = task.getTimeSpan().getMinutesElapsed();
+        long estimated = task.getEstimatedDuration().getMinutes();
+        if (elapsed < (1 - task.getAcceptableDeviation()) * estimated) {
             return FinishedStatus.EARLY;
-        } else if (task.getTimeSpan().getTimeElapsed().getTotalMinutes() > (1 + task.getAcceptableDeviation()) * (task.getEstimatedDuration().getMinute())) {
+        } else if (elapsed > (1 + task.getAcceptableDeviation()) * estimated) {
             return FinishedStatus.DELAYED;
         } else {
             return FinishedStatus.ON_TIME;
@@ -29,11 +37,7 @@ public class FinishedState implements TaskState {
 
     @Override
     public void undoEnd(Task task) {
-        task.setState(new ExecutingState());
-    }
-
-    @Override
-    public void updateAvailabilityNextTask(Task task, Task nextTask) {
+        task.setState(ExecutingState.INSTANCE);
     }
 
     @Override
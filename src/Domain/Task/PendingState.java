@@ -10,6 +10,12 @@ import Domain.User.UserAlreadyAssignedToTaskException;
  */
 public class PendingState implements TaskState {
 
+    /** Shared instance */
+    public static final PendingState INSTANCE = new PendingState();
+
+    private PendingState() {
+    }
+
     @Override
     public void start(Task task, Time startTime, User currentUser, Role role) throws IncorrectTaskStatusException, IncorrectRoleException, UserAlreadyAssignedToTaskException {
         if (!task.getUnfulfilledRoles().contains(role)) {
@@ -24,10 +30,10 @@ public class PendingState implements TaskState {
         task.commitUser(currentUser, role);
 
         if (task.getUnfulfilledRoles().size() == 0) {
-            task.setState(new ExecutingState());
+            task.setState(ExecutingState.INSTANCE);
             task.setStartTime(startTime);
         } else {
-            task.setState(new PendingState());
+            task.setState(PendingState.INSTANCE);
             // als user al op deze task werkte als enige kan het zijn dat de status
             // terug available wordt bij het verwijderen van deze
         }
@@ -36,7 +42,7 @@ public class PendingState implements TaskState {
     @Override
     public void undoStart(Task task) {
         if (task.getCommittedUsers().size() - 1 == 0) {
-            task.setState(new AvailableState());
+            task.setState(AvailableState.INSTANCE);
         }
     }
 
@@ -50,7 +56,7 @@ public class PendingState implements TaskState {
     public void unassignUser(Task task, User user) {
         task.uncommitUser(user);
         if (task.getCommittedUsers().size() == 0) {
-            task.setState(new AvailableState());
+            task.setState(AvailableState.INSTANCE);
         }
     }
 
@@ -3,6 +3,7 @@ package Domain.Task;
 import Domain.DataClasses.EndTimeBeforeStartTimeException;
 import Domain.DataClasses.Time;
 import Domain.DataClasses.TimeSpan;
+import Domain.DataClasses.Tuple;
 import Domain.User.IncorrectUserException;
 import Domain.User.Role;
 import Domain.User.User;
@@ -31,6 +32,9 @@ public class Task implements TaskData{
     private final Set<Task> prevTasks;
     private final Set<Task> nextTasks;
 
+    private List<TaskData> prevTasksData;
+    private List<TaskData> nextTasksData;
+
     private TimeSpan timeSpan;
 
     private List<Role> requiredRoles;
@@ -39,6 +43,12 @@ public class Task implements TaskData{
 
     private String projectName;
 
+    private int topologicalIndex;
+
+    private int unfinishedPrevTaskCount;
+
+    private TaskStatusObserver statusObserver;
+
     /**
      * Creates a task and initialises its status as available (no previous or next tasks)
      *
@@ -63,8 +73,9 @@ public class Task implements TaskData{
 
         this.prevTasks = new HashSet<>();
         this.nextTasks = new HashSet<>();
+        this.topologicalIndex = DependencyGraph.newIndex();
 
-        this.state = new AvailableState();
+        this.state = AvailableState.INSTANCE;
     }
 
 
@@ -104,8 +115,9 @@ public class Task implements TaskData{
 
         this.prevTasks = new HashSet<>();
         this.nextTasks = new HashSet<>();
+        this.topologicalIndex = DependencyGraph.newIndex();
 
-        setState(new AvailableState());
+        setState(AvailableState.INSTANCE);
         setRequiredRoles(roles);
         setProjectName(projectName);
 
@@ -177,6 +189,27 @@ public class Task implements TaskData{
         return estimatedDuration;
     }
 
+    /**
+     * @return This tasks' position in the topological order of the dependency graph
+     */
+    int getTopologicalIndex() {
+        return topologicalIndex;
+    }
+
+    /**
+     * @param topologicalIndex The new position of this task in the topological order of the dependency graph
+     */
+    void setTopologicalIndex(int topologicalIndex) {
+        this.topologicalIndex = topologicalIndex;
+    }
+
+    /**
+     * @return The amount of previous tasks of this task that are not finished
+     */
+    int getUnfinishedPrevTaskCount() {
+        return unfinishedPrevTaskCount;
+    }
+
     /**
      * @return This tasks' state
      */
@@ -185,10 +218,37 @@ public class Task implements TaskData{
     }
 
     /**
+     * Replaces this tasks' state, keeping the unfinished previous task count of its next tasks up to date and
+     * notifying the status observer if the status changed
+     *
      * @param state The state to replace this tasks' state with
      */
     void setState(TaskState state) {
+        Status oldStatus = this.state == null ? null : this.state.getStatus();
         this.state = state;
+        if ((oldStatus == Status.FINISHED) != (state.getStatus() == Status.FINISHED)) {
+            int change = state.getStatus() == Status.FINISHED ? -1 : 1;
+            for (Task nextTask : nextTasks) {
+                nextTask.unfinishedPrevTaskCount += change;
+            }
+        }
+        if (getStatusObserver() != null && oldStatus != state.getStatus()) {
+            getStatusObserver().statusChanged(this, oldStatus, state.getStatus());
+        }
+    }
+
+    /**
+     * @return The observer that gets notified of status changes of this task, or null
+     */
+    private TaskStatusObserver getStatusObserver() {
+        return statusObserver;
+    }
+
+    /**
+     * @param statusObserver The observer to notify of status changes of this task, null to stop notifying
+     */
+    public void setStatusObserver(TaskStatusObserver statusObserver) {
+        this.statusObserver = statusObserver;
     }
 
     /**
@@ -218,14 +278,26 @@ public class Task implements TaskData{
         }
     }
 
+    /**
+     * @return An immutable list of all previous tasks' data, only rebuilt after the previous tasks changed
+     */
     @Override
     public List<TaskData> getPrevTasksData() {
-        return getPrevTasks().stream().map(Task::getTaskData).toList();
+        if (prevTasksData == null) {
+            prevTasksData = List.copyOf(prevTasks);
+        }
+        return prevTasksData;
     }
 
+    /**
+     * @return An immutable list of all next tasks' data, only rebuilt after the next tasks changed
+     */
     @Override
     public List<TaskData> getNextTasksData() {
-        return getNextTasks().stream().map(Task::getTaskData).toList();
+        if (nextTasksData == null) {
+            nextTasksData = List.copyOf(nextTasks);
+        }
+        return nextTasksData;
     }
 
     /**
@@ -333,7 +405,7 @@ public class Task implements TaskData{
     /**
      * @return A map of all committed users, as User objects, mapped to their roles
      */
-    private Map<User, Role> getUsersWithRole() {
+    Map<User, Role> getUsersWithRole() {
         return committedUsers;
     }
 
@@ -361,6 +433,20 @@ public class Task implements TaskData{
         return new LinkedList<>(nextTasks);
     }
 
+    /**
+     * @return Unmodifiable view on all tasks that should be completed before this task
+     */
+    Set<Task> getPrevTasksView() {
+        return Collections.unmodifiableSet(prevTasks);
+    }
+
+    /**
+     * @return Unmodifiable view on all tasks that this task should be completed before
+     */
+    Set<Task> getNextTasksView() {
+        return Collections.unmodifiableSet(nextTasks);
+    }
+
 
     /**
      * @return Start time if this is set, null otherwise
@@ -475,15 +561,21 @@ public class Task implements TaskData{
     }
 
     /**
-     * @return A list containing this task and all tasks that are directly and indirectly dependent on this task as a next task
+     * @return A set containing this task and all tasks that are directly and indirectly dependent on this task as a next task
      */
     Set<Task> getAllNextTasks() {
-        Set<Task> nextTasks = new HashSet<>();
-        nextTasks.add(this);
-        for (Task nextTask : getNextTasks()) {
-            nextTasks.addAll(nextTask.getAllNextTasks());
+        Set<Task> allNextTasks = new HashSet<>();
+        Deque<Task> toVisit = new ArrayDeque<>();
+        allNextTasks.add(this);
+        toVisit.push(this);
+        while (!toVisit.isEmpty()) {
+            for (Task nextTask : toVisit.pop().getNextTasksView()) {
+                if (allNextTasks.add(nextTask)) {
+                    toVisit.push(nextTask);
+                }
+            }
         }
-        return nextTasks;
+        return allNextTasks;
     }
 
     /**
@@ -492,7 +584,10 @@ public class Task implements TaskData{
      * @param prevTask The task to add to this tasks' previoustasks
      */
     void addPrevTaskDirectly(Task prevTask) {
-        prevTasks.add(prevTask);
+        if (prevTasks.add(prevTask) && prevTask.getStatus() != Status.FINISHED) {
+            unfinishedPrevTaskCount++;
+        }
+        prevTasksData = null;
     }
 
     /**
@@ -502,6 +597,7 @@ public class Task implements TaskData{
      */
     void addNextTaskDirectly(Task nextTask) {
         nextTasks.add(nextTask);
+        nextTasksData = null;
     }
 
     /**
@@ -510,7 +606,10 @@ public class Task implements TaskData{
      * @param prevTask task to remove from this tasks' list of previous tasks
      */
     void removePrevTaskDirectly(Task prevTask) {
-        prevTasks.remove(prevTask);
+        if (prevTasks.remove(prevTask) && prevTask.getStatus() != Status.FINISHED) {
+            unfinishedPrevTaskCount--;
+        }
+        prevTasksData = null;
     }
 
     /**
@@ -520,6 +619,7 @@ public class Task implements TaskData{
      */
     void removeNextTaskDirectly(Task nextTask) {
         nextTasks.remove(nextTask);
+        nextTasksData = null;
     }
 
     /**
@@ -639,15 +739,6 @@ public class Task implements TaskData{
         getState().updateAvailability(this);
     }
 
-    /**
-     * Updates the next tasks' availability according to the current tasks' status, setting it to UNAVAILABLE if the current task is not finished
-     *
-     * @param nextTask task whose availability to update
-     */
-    void updateAvailabilityNextTask(Task nextTask) {
-        getState().updateAvailabilityNextTask(this, nextTask);
-    }
-
     /**
      * Adds the given previous task as a previous task to this task, updating the involved tasks' states according to the system rules
      *
@@ -659,6 +750,42 @@ public class Task implements TaskData{
         getState().addPrevTask(this, prevTask);
     }
 
+    /**
+     * Adds all given dependencies at once, checking the dependency graph for loops and updating the availability of
+     * every changed task only once. Either all dependencies are added, or none of them.
+     *
+     * @param dependencies Tuples of a previous task and the task to add it to
+     * @throws IncorrectTaskStatusException if one of the tasks to add a previous task to is not AVAILABLE or UNAVAILABLE
+     * @throws LoopDependencyGraphException if adding the dependencies would cause a loop in the dependency graph
+     */
+    public static void addDependencies(Collection<Tuple<Task,Task>> dependencies) throws IncorrectTaskStatusException, LoopDependencyGraphException {
+        Map<Task, Set<Task>> nextTasks = new HashMap<>();
+        Set<Task> changedTasks = new LinkedHashSet<>();
+        for (Tuple<Task,Task> dependency : dependencies) {
+            Task nextTask = dependency.getSecond();
+            if (nextTask.getStatus() != Status.AVAILABLE && nextTask.getStatus() != Status.UNAVAILABLE) {
+                throw new IncorrectTaskStatusException("Task is not (un)available");
+            }
+            nextTasks.computeIfAbsent(dependency.getFirst(), task -> new HashSet<>()).add(nextTask);
+            changedTasks.add(nextTask);
+        }
+        if (!DependencyGraph.canSafelyAddDependencies(nextTasks)) {
+            throw new LoopDependencyGraphException();
+        }
+
+        for (Map.Entry<Task, Set<Task>> entry : nextTasks.entrySet()) {
+            Task prevTask = entry.getKey();
+            for (Task nextTask : entry.getValue()) {
+                nextTask.addPrevTaskDirectly(prevTask);
+                prevTask.addNextTaskDirectly(nextTask);
+                DependencyGraph.restoreOrder(prevTask, nextTask);
+            }
+        }
+        for (Task task : changedTasks) {
+            task.updateAvailability();
+        }
+    }
+
     /**
      * Checks if adding this task as a previous task would cause a loop in the dependency graph of the project this task belongs to
      *
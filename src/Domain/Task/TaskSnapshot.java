@@ -0,0 +1,215 @@
+package Domain.Task;
+
+import Domain.DataClasses.BinaryIO;
+import Domain.DataClasses.EndTimeBeforeStartTimeException;
+import Domain.DataClasses.Time;
+import Domain.User.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Writes tasks to and restores tasks from the binary snapshot format. Restored tasks get their state, time span and
+ * committed users set directly, without going through the state transitions that led to them.
+ */
+public final class TaskSnapshot {
+
+    private TaskSnapshot() {}
+
+    /**
+     * Sorts the given tasks on their position in the dependency graph, so every task comes after all of its previous
+     * tasks and after the tasks it replaces
+     *
+     * @param tasks The tasks to sort
+     * @return A new list containing the given tasks in topological order
+     */
+    public static List<Task> sortTopologically(Collection<Task> tasks) {
+        List<Task> sorted = new ArrayList<>(tasks);
+        sorted.sort(Comparator.comparingInt(Task::getTopologicalIndex));
+        return sorted;
+    }
+
+    /**
+     * Writes the fields of the given task, without its links to other tasks
+     *
+     * @param out  Output to write to
+     * @param task The task to write
+     * @throws IOException if writing fails
+     */
+    public static void writeTask(DataOutput out, Task task) throws IOException {
+        BinaryIO.writeString(out, task.getName());
+        BinaryIO.writeString(out, task.getDescription());
+        BinaryIO.writeString(out, task.getProjectName());
+        BinaryIO.writeTime(out, task.getEstimatedDuration());
+        out.writeDouble(task.getAcceptableDeviation());
+        out.writeByte(task.getStatus().ordinal());
+
+        List<Role> roles = task.getRequiredRoles();
+        out.writeInt(roles.size());
+        for (Role role : roles) {
+            out.writeByte(role.ordinal());
+        }
+
+        BinaryIO.writeTime(out, task.getStartTime());
+        BinaryIO.writeTime(out, task.getEndTime());
+
+        Map<String, Role> users = task.getUserNamesWithRole();
+        out.writeInt(users.size());
+        for (Map.Entry<String, Role> user : users.entrySet()) {
+            BinaryIO.writeString(out, user.getKey());
+            out.writeByte(user.getValue().ordinal());
+        }
+    }
+
+    /**
+     * Restores a task written by {@link #writeTask(DataOutput, Task)}, the committed users are not assigned to the
+     * task yet, see {@link #assignCommittedUsers(Task)}
+     *
+     * @param in          Input to read from
+     * @param userManager Manager holding the users committed to the task
+     * @return The restored task, without links to other tasks
+     * @throws IOException if reading fails or the written task is invalid
+     */
+    public static Task readTask(DataInput in, UserManager userManager) throws IOException {
+        String name = BinaryIO.readString(in);
+        String description = BinaryIO.readString(in);
+        String projectName = BinaryIO.readString(in);
+        Time duration = BinaryIO.readTime(in);
+        double acceptableDeviation = in.readDouble();
+        Status status = readEnum(in, Status.values());
+
+        int roleCount = in.readInt();
+        List<Role> roles = new ArrayList<>();
+        for (int i = 0; i < roleCount; i++) {
+            roles.add(readEnum(in, Role.values()));
+        }
+
+        Time startTime = BinaryIO.readTime(in);
+        Time endTime = BinaryIO.readTime(in);
+
+        Task task = new Task(name, description, duration, acceptableDeviation);
+        task.setProjectName(projectName);
+        task.setState(getState(status));
+        try {
+            task.setRequiredRoles(roles);
+            if (startTime != null) {
+                task.setStartTime(startTime);
+                task.setEndTime(endTime);
+            }
+
+            int userCount = in.readInt();
+            for (int i = 0; i < userCount; i++) {
+                User user = userManager.getUser(BinaryIO.readString(in));
+                Role role = readEnum(in, Role.values());
+                if (!user.getRoles().contains(role)) {
+                    throw new IOException("User " + user.getUsername() + " does not have the role of task " + name);
+                }
+                task.commitUser(user, role);
+            }
+        } catch (IllegalTaskRolesException | IncorrectTaskStatusException | EndTimeBeforeStartTimeException |
+                 UserNotFoundException e) {
+            throw new IOException("Invalid task " + name + " in snapshot", e);
+        }
+        return task;
+    }
+
+    /**
+     * Assigns the committed users of the given restored task to it, if the task is pending or executing
+     *
+     * @param task The restored task
+     * @pre the committed users are not assigned to any task
+     */
+    public static void assignCommittedUsers(Task task) {
+        if (task.getStatus() != Status.PENDING && task.getStatus() != Status.EXECUTING) {
+            return;
+        }
+        for (Map.Entry<User, Role> userRole : task.getUsersWithRole().entrySet()) {
+            try {
+                userRole.getKey().assignTask(task, userRole.getValue());
+            } catch (IncorrectRoleException | UserAlreadyAssignedToTaskException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the previous tasks and replacement task of the given task as ids
+     *
+     * @param out  Output to write to
+     * @param task The task of which to write the links
+     * @param ids  Id of every written task
+     * @throws IOException if writing fails
+     */
+    public static void writeLinks(DataOutput out, Task task, Map<Task, Integer> ids) throws IOException {
+        Set<Task> prevTasks = task.getPrevTasksView();
+        out.writeInt(prevTasks.size());
+        for (Task prevTask : prevTasks) {
+            out.writeInt(ids.get(prevTask));
+        }
+        Task replacement = task.getReplacementTask();
+        out.writeInt(replacement == null ? -1 : ids.get(replacement));
+    }
+
+    /**
+     * Restores the links written by {@link #writeLinks(DataOutput, Task, Map)} between the given task and the other
+     * restored tasks
+     *
+     * @param in    Input to read from
+     * @param task  The task of which to restore the links
+     * @param tasks All restored tasks, indexed on their id
+     * @throws IOException if reading fails or an id is invalid
+     */
+    public static void readLinks(DataInput in, Task task, List<Task> tasks) throws IOException {
+        int prevCount = in.readInt();
+        for (int i = 0; i < prevCount; i++) {
+            Task prevTask = getTask(tasks, in.readInt());
+            task.addPrevTaskDirectly(prevTask);
+            prevTask.addNextTaskDirectly(task);
+        }
+        int replacementId = in.readInt();
+        if (replacementId != -1) {
+            Task replacement = getTask(tasks, replacementId);
+            task.setReplacementTask(replacement);
+            replacement.setReplacesTask(task);
+        }
+    }
+
+    /**
+     * @return The task with the given id
+     * @throws IOException if there is no task with the given id
+     */
+    private static Task getTask(List<Task> tasks, int id) throws IOException {
+        if (id < 0 || id >= tasks.size()) {
+            throw new IOException("Invalid task id in snapshot: " + id);
+        }
+        return tasks.get(id);
+    }
+
+    /**
+     * @return The shared state object corresponding to the given status
+     */
+    private static TaskState getState(Status status) {
+        return switch (status) {
+            case AVAILABLE -> AvailableState.INSTANCE;
+            case UNAVAILABLE -> UnavailableState.INSTANCE;
+            case PENDING -> PendingState.INSTANCE;
+            case EXECUTING -> ExecutingState.INSTANCE;
+            case FINISHED -> FinishedState.INSTANCE;
+            case FAILED -> FailedState.INSTANCE;
+        };
+    }
+
+    /**
+     * @return The enum constant with the ordinal read from the given input
+     * @throws IOException if reading fails or the ordinal is invalid
+     */
+    private static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= values.length) {
+            throw new IOException("Invalid enum value in snapshot: " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
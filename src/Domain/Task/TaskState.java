@@ -81,18 +81,6 @@ interface TaskState {
         throw new IncorrectTaskStatusException("Task is not in the finished or failed state"); // no way dat ge undo kunt doen als in available is, want dan hebt ge nog niks gestart
     }
 
-    /**
-     * Updates the next task according to the current tasks' state
-     *
-     * @param currentTask Current task
-     * @param nextTask    Task to update
-     * @post if current task is not finished, then nextTask will be UNAVAILABLE
-     * else nextTasks' status remains unchanged
-     */
-    default void updateAvailabilityNextTask(Task currentTask, Task nextTask) {
-        nextTask.setState(new UnavailableState());
-    }
-
     /**
      * Adds prevTask as previous task to task
      *
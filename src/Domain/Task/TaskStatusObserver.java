@@ -0,0 +1,16 @@
+package Domain.Task;
+
+/**
+ * Gets notified whenever the status of an observed task changes, for example by the project the task belongs to
+ */
+public interface TaskStatusObserver {
+
+    /**
+     * Handles the status change of the given task
+     *
+     * @param task      The task of which the status changed
+     * @param oldStatus The status the task had before the change
+     * @param newStatus The status the task has now
+     */
+    void statusChanged(Task task, Status oldStatus, Status newStatus);
+}
@@ -0,0 +1,190 @@
+package Domain.Task;
+
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.User.Role;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable copy of the data of a task at one point in time, which can be read while the task itself is changed.
+ * Views of tasks are equal if they belong to tasks with the same name in the same project.
+ * The previous and next tasks are resolved to views when they are asked for, using the given resolver. Whether a
+ * previous task can be added is asked to the given checker, as it depends on the whole dependency graph.
+ */
+public final class TaskView implements TaskData {
+
+    private final String name;
+    private final String description;
+    private final Time estimatedDuration;
+    private final double acceptableDeviation;
+    private final Status status;
+    private final FinishedStatus finishedStatus;
+    private final String replacementTaskName;
+    private final String replacesTaskName;
+    private final Time startTime;
+    private final Time endTime;
+    private final List<Role> unfulfilledRoles;
+    private final Map<String, Role> userNamesWithRole;
+    private final String projectName;
+    private final List<Tuple<String,String>> prevTaskNames;
+    private final List<Tuple<String,String>> nextTaskNames;
+    private final BiFunction<String, String, TaskData> resolver;
+    private final DependencyChecker checker;
+
+    /**
+     * Copies the data of the given task, without changing any of the cached data of the task, so it can be called
+     * while reading the task optimistically
+     *
+     * @param task     The task to copy
+     * @param resolver Resolves the name of a project and a task to the view of that task, or null if it does not exist
+     * @param checker  Checks dependencies against the current dependency graph
+     */
+    public TaskView(Task task, BiFunction<String, String, TaskData> resolver, DependencyChecker checker) {
+        this.name = task.getName();
+        this.description = task.getDescription();
+        this.estimatedDuration = task.getEstimatedDuration();
+        this.acceptableDeviation = task.getAcceptableDeviation();
+        this.status = task.getStatus();
+        this.finishedStatus = status == Status.FINISHED ? getFinishedStatus(task) : null;
+        this.replacementTaskName = task.getReplacementTaskName();
+        this.replacesTaskName = task.getReplacesTaskName();
+        this.startTime = task.getStartTime();
+        this.endTime = task.getEndTime();
+        this.unfulfilledRoles = List.copyOf(task.getUnfulfilledRoles());
+        this.userNamesWithRole = Collections.unmodifiableMap(new HashMap<>(task.getUserNamesWithRole()));
+        this.projectName = task.getProjectName();
+        this.prevTaskNames = getNames(task.getPrevTasksView());
+        this.nextTaskNames = getNames(task.getNextTasksView());
+        this.resolver = resolver;
+        this.checker = checker;
+    }
+
+    private static FinishedStatus getFinishedStatus(Task task) {
+        try {
+            return task.getFinishedStatus();
+        } catch (IncorrectTaskStatusException e) {
+            // the task changed while it was read, which makes the view invalid
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private static List<Tuple<String,String>> getNames(Set<Task> tasks) {
+        List<Tuple<String,String>> names = new ArrayList<>();
+        for (Task task : tasks) {
+            names.add(new Tuple<>(task.getProjectName(), task.getName()));
+        }
+        return List.copyOf(names);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public Time getEstimatedDuration() {
+        return estimatedDuration;
+    }
+
+    @Override
+    public double getAcceptableDeviation() {
+        return acceptableDeviation;
+    }
+
+    @Override
+    public Status getStatus() {
+        return status;
+    }
+
+    @Override
+    public FinishedStatus getFinishedStatus() throws IncorrectTaskStatusException {
+        if (finishedStatus == null) {
+            throw new IncorrectTaskStatusException("Task must be finished to get its finished status");
+        }
+        return finishedStatus;
+    }
+
+    @Override
+    public String getReplacementTaskName() {
+        return replacementTaskName;
+    }
+
+    @Override
+    public String getReplacesTaskName() {
+        return replacesTaskName;
+    }
+
+    @Override
+    public Time getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public Time getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public List<Role> getUnfulfilledRoles() {
+        return unfulfilledRoles;
+    }
+
+    @Override
+    public Map<String, Role> getUserNamesWithRole() {
+        return userNamesWithRole;
+    }
+
+    @Override
+    public String getProjectName() {
+        return projectName;
+    }
+
+    @Override
+    public List<TaskData> getPrevTasksData() {
+        return resolve(prevTaskNames);
+    }
+
+    @Override
+    public List<TaskData> getNextTasksData() {
+        return resolve(nextTaskNames);
+    }
+
+    private List<TaskData> resolve(List<Tuple<String,String>> taskNames) {
+        List<TaskData> tasks = new ArrayList<>();
+        for (Tuple<String,String> taskName : taskNames) {
+            TaskData resolved = resolver.apply(taskName.getFirst(), taskName.getSecond());
+            if (resolved != null) {
+                tasks.add(resolved);
+            }
+        }
+        return List.copyOf(tasks);
+    }
+
+    /**
+     * Checks against the current dependency graph, not against the one at the time of the view
+     */
+    @Override
+    public boolean canSafelyAddPrevTask(TaskData prevTask) {
+        return checker.canSafelyAddPrevTask(getProjectName(), getName(), prevTask.getProjectName(), prevTask.getName());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof TaskView view) {
+            return getProjectName().equals(view.getProjectName()) && getName().equals(view.getName());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getProjectName(), getName());
+    }
+}
@@ -5,12 +5,16 @@ package Domain.Task;
  */
 public class UnavailableState implements TaskState {
 
+    /** Shared instance */
+    public static final UnavailableState INSTANCE = new UnavailableState();
+
+    private UnavailableState() {
+    }
+
     @Override
     public void updateAvailability(Task task) {
-        task.setState(new AvailableState());
-        for (Task prevTask : task.getPrevTasks()) {
-            prevTask.updateAvailabilityNextTask(task);
-            // Set this tasks' state to unavailable if prevTask is not finished
+        if (task.getUnfinishedPrevTaskCount() == 0) {
+            task.setState(AvailableState.INSTANCE);
         }
     }
 
@@ -24,6 +28,7 @@ public class UnavailableState implements TaskState {
         if (canSafelyAddPrevTask(task, prevTask)) {
             task.addPrevTaskDirectly(prevTask);
             prevTask.addNextTaskDirectly(task);
+            DependencyGraph.restoreOrder(prevTask, task);
         } else {
             throw new LoopDependencyGraphException();
         }
@@ -32,6 +37,9 @@ public class UnavailableState implements TaskState {
 
     @Override
     public boolean canSafelyAddPrevTask(Task task, TaskData prevTask) {
+        if (prevTask instanceof Task prev) {
+            return canSafelyAddPrevTask(task, prev);
+        }
         for (Task nextTask : task.getAllNextTasks()) {
             if ( prevTask.getProjectName().equals(nextTask.getProjectName()) &&  prevTask.getName().equals(nextTask.getName())) {
                 return false;
@@ -49,7 +57,7 @@ public class UnavailableState implements TaskState {
      * @throws IncorrectTaskStatusException if task is not AVAILABLE or UNAVAILABLE
      */
     public boolean canSafelyAddPrevTask(Task task, Task prevTask) {
-        return !task.getAllNextTasks().contains(prevTask);
+        return DependencyGraph.canSafelyAddDependency(prevTask, task);
     }
 
     @Override
@@ -0,0 +1,77 @@
+package Domain.TaskManSystem;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Read-write locks of projects, striped on project name so no lock has to be created or removed together with a
+ * project. The locks of several projects are always acquired in the order of their stripes, so threads locking
+ * overlapping sets of projects can not deadlock. The locks are not reentrant.
+ */
+final class ProjectLocks {
+
+    private final StampedLock[] stripes;
+
+    /**
+     * @param stripeCount Amount of locks shared by all projects
+     * @throws IllegalArgumentException if stripeCount is not positive
+     */
+    ProjectLocks(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("The amount of project locks must be positive");
+        }
+        this.stripes = new StampedLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new StampedLock();
+        }
+    }
+
+    private int getStripeIndex(String projectName) {
+        return Math.floorMod(projectName.hashCode(), stripes.length);
+    }
+
+    /**
+     * Locks the given projects, blocking until all locks are acquired
+     *
+     * @param projectNames Names of the projects to lock
+     * @param exclusive    Whether to lock the projects for writing, instead of for reading
+     * @return The acquired locks, which have to be released by closing them
+     */
+    Locked lock(Collection<String> projectNames, boolean exclusive) {
+        TreeSet<Integer> stripeIndices = new TreeSet<>();
+        for (String projectName : projectNames) {
+            stripeIndices.add(getStripeIndex(projectName));
+        }
+        StampedLock[] locks = new StampedLock[stripeIndices.size()];
+        long[] stamps = new long[locks.length];
+        int i = 0;
+        for (int stripeIndex : stripeIndices) {
+            locks[i] = stripes[stripeIndex];
+            stamps[i] = exclusive ? locks[i].writeLock() : locks[i].readLock();
+            i++;
+        }
+        return new Locked(locks, stamps);
+    }
+
+    /**
+     * Locks acquired together, released in reverse order of acquisition when closed
+     */
+    static final class Locked implements AutoCloseable {
+
+        private final StampedLock[] locks;
+        private final long[] stamps;
+
+        private Locked(StampedLock[] locks, long[] stamps) {
+            this.locks = locks;
+            this.stamps = stamps;
+        }
+
+        @Override
+        public void close() {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock(stamps[i]);
+            }
+        }
+    }
+}
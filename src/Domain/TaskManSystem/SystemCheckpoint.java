@@ -0,0 +1,186 @@
+package Domain.TaskManSystem;
+
+import Domain.DataClasses.Time;
+import Domain.Project.Project;
+import Domain.User.User;
+import Domain.User.UserManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Immutable point-in-time capture of a TaskManSystem, split in sections of projects whose tasks depend on each other,
+ * so a checkpoint only has to persist the sections that changed since the previous one.
+ * Sections are encoded like {@link SystemSnapshot#writeProjects(java.io.DataOutput, List)}. When capturing, the
+ * encoded sections of the previous checkpoint are reused for the sections holding the same projects at the same
+ * versions, so only the sections that changed are encoded again.
+ */
+public final class SystemCheckpoint {
+
+    private final Time systemTime;
+    private final List<String> projectNames;
+    private final List<byte[]> sections;
+    private final List<CapturedSection> capturedSections;
+
+    private SystemCheckpoint(Time systemTime, List<String> projectNames, List<byte[]> sections, List<CapturedSection> capturedSections) {
+        this.systemTime = systemTime;
+        this.projectNames = List.copyOf(projectNames);
+        this.sections = List.copyOf(sections);
+        this.capturedSections = List.copyOf(capturedSections);
+    }
+
+    /**
+     * Captures the current state of the given system
+     *
+     * @param system The system to capture
+     * @return The checkpoint holding the current state of the system
+     */
+    public static SystemCheckpoint capture(TaskManSystem system) {
+        return capture(system, null);
+    }
+
+    /**
+     * Captures the current state of the given system, reusing the encoded sections of the given previous checkpoint
+     * of the same system that did not change since
+     *
+     * @param system   The system to capture
+     * @param previous The previous checkpoint captured of the given system, or null
+     * @return The checkpoint holding the current state of the system
+     */
+    @SuppressWarnings("try")
+    public static SystemCheckpoint capture(TaskManSystem system, SystemCheckpoint previous) {
+        try (TaskManSystem.Guard guard = system.lockExclusively()) {
+            List<Project> projects = system.getProjects();
+            List<String> projectNames = new ArrayList<>();
+            for (Project project : projects) {
+                projectNames.add(project.getName());
+            }
+            Map<Project, CapturedSection> previousSections = new IdentityHashMap<>();
+            if (previous != null) {
+                for (CapturedSection section : previous.capturedSections) {
+                    previousSections.put(section.projects.get(0), section);
+                }
+            }
+
+            List<byte[]> sections = new ArrayList<>();
+            List<CapturedSection> capturedSections = new ArrayList<>();
+            for (List<Project> section : SystemImage.getSections(projects)) {
+                long[] versions = new long[section.size()];
+                for (int i = 0; i < section.size(); i++) {
+                    versions[i] = system.getCurrentProjectVersion(section.get(i).getName());
+                }
+                CapturedSection captured = previousSections.get(section.get(0));
+                if (captured == null || !captured.holds(section, versions)) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    DataOutputStream data = new DataOutputStream(bytes);
+                    SystemSnapshot.writeProjects(data, section);
+                    data.flush();
+                    captured = new CapturedSection(section, versions, bytes.toByteArray());
+                }
+                sections.add(captured.bytes);
+                capturedSections.add(captured);
+            }
+            return new SystemCheckpoint(system.getSystemTime(), projectNames, sections, capturedSections);
+        } catch (IOException e) {
+            // writing to memory does not fail
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a checkpoint from its parts, as returned by the getters of a captured checkpoint
+     *
+     * @param systemTime   The captured system time
+     * @param projectNames The names of all captured projects, in creation order
+     * @param sections     The encoded sections
+     */
+    public static SystemCheckpoint of(Time systemTime, List<String> projectNames, List<byte[]> sections) {
+        return new SystemCheckpoint(systemTime, projectNames, sections, List.of());
+    }
+
+    public Time getSystemTime() {
+        return systemTime;
+    }
+
+    /**
+     * @return IMMUTABLE list of the names of all captured projects, in creation order
+     */
+    public List<String> getProjectNames() {
+        return projectNames;
+    }
+
+    /**
+     * @return IMMUTABLE list of the encoded sections, the arrays must not be modified
+     */
+    public List<byte[]> getSections() {
+        return sections;
+    }
+
+    /**
+     * Replaces the state of the given system by this checkpoint. All users of the given user manager are unassigned
+     * from their tasks first, users committed to restored pending or executing tasks are assigned to those tasks again.
+     *
+     * @param system      The system to restore this checkpoint into
+     * @param userManager Manager holding all users referred to by the checkpoint
+     * @throws IOException if one of the sections is invalid, the system is left unchanged in that case
+     */
+    public void restore(TaskManSystem system, UserManager userManager) throws IOException {
+        Map<String, Project> projects = new HashMap<>();
+        for (byte[] section : getSections()) {
+            DataInputStream data = new DataInputStream(new ByteArrayInputStream(section));
+            for (Project project : SystemSnapshot.readProjects(data, userManager)) {
+                projects.put(project.getName(), project);
+            }
+        }
+        List<Project> orderedProjects = new ArrayList<>();
+        for (String projectName : getProjectNames()) {
+            Project project = projects.get(projectName);
+            if (project == null) {
+                throw new IOException("Project " + projectName + " is missing from the checkpoint");
+            }
+            orderedProjects.add(project);
+        }
+
+        for (User user : userManager.getUsers()) {
+            user.endTask();
+        }
+        SystemSnapshot.assignCommittedUsers(orderedProjects);
+        system.restore(getSystemTime(), orderedProjects);
+    }
+
+    /**
+     * Encoded section of a captured checkpoint, together with the projects it holds and their versions at capture time
+     */
+    private static final class CapturedSection {
+
+        private final List<Project> projects;
+        private final long[] versions;
+        private final byte[] bytes;
+
+        private CapturedSection(List<Project> projects, long[] versions, byte[] bytes) {
+            this.projects = List.copyOf(projects);
+            this.versions = versions;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return Whether this section holds exactly the given projects at the given versions, in which case its
+         * encoding is still up to date
+         */
+        private boolean holds(List<Project> projects, long[] versions) {
+            if (projects.size() != this.projects.size()) {
+                return false;
+            }
+            for (int i = 0; i < projects.size(); i++) {
+                if (projects.get(i) != this.projects.get(i)) {
+                    return false;
+                }
+            }
+            return Arrays.equals(versions, this.versions);
+        }
+    }
+}
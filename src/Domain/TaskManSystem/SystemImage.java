@@ -0,0 +1,291 @@
+package Domain.TaskManSystem;
+
+import Domain.DataClasses.BinaryIO;
+import Domain.DataClasses.Time;
+import Domain.Project.Project;
+import Domain.Project.ProjectSnapshot;
+import Domain.Task.Status;
+import Domain.Task.Task;
+import Domain.Task.TaskData;
+import Domain.User.User;
+import Domain.User.UserManager;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Offset-indexed on-disk image of a TaskManSystem, which is memory-mapped when opened so projects can be materialised
+ * lazily, the first time they are accessed.
+ * <p>
+ * Projects whose tasks depend on each other are stored together in one section, which is always materialised as a
+ * whole. Layout: magic, version, system time, the index (per project its name, section and whether users are working
+ * on it), the offset and length of every section, then the sections in the format of
+ * {@link SystemSnapshot#writeProjects(DataOutput, List)}.
+ */
+public final class SystemImage {
+
+    private static final int MAGIC = 0x544D5349;
+    private static final short VERSION = 1;
+
+    private final ByteBuffer buffer;
+    private final UserManager userManager;
+    private final Map<String, Integer> projectSections;
+    private final long[] sectionOffsets;
+    private final int[] sectionLengths;
+
+    private SystemImage(ByteBuffer buffer, UserManager userManager, Map<String, Integer> projectSections, long[] sectionOffsets, int[] sectionLengths) {
+        this.buffer = buffer;
+        this.userManager = userManager;
+        this.projectSections = projectSections;
+        this.sectionOffsets = sectionOffsets;
+        this.sectionLengths = sectionLengths;
+    }
+
+    /**
+     * Writes an image of the given system to the given file
+     *
+     * @param system The system to write
+     * @param file   The file to write to, replaced if it exists
+     * @throws IOException if writing fails
+     */
+    @SuppressWarnings("try")
+    public static void write(TaskManSystem system, Path file) throws IOException {
+        byte[] header;
+        List<byte[]> sectionBytes = new ArrayList<>();
+        try (TaskManSystem.Guard guard = system.lockExclusively()) {
+            List<Project> projects = system.getProjects();
+            List<List<Project>> sections = getSections(projects);
+
+            Map<Project, Integer> projectSection = new HashMap<>();
+            for (List<Project> section : sections) {
+                for (Project project : section) {
+                    projectSection.put(project, sectionBytes.size());
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream data = new DataOutputStream(bytes);
+                SystemSnapshot.writeProjects(data, section);
+                data.flush();
+                sectionBytes.add(bytes.toByteArray());
+            }
+
+            // the header has a fixed size once the index is known, so it is written once with placeholder offsets to
+            // find the offset of the first section
+            header = writeHeader(system.getSystemTime(), projects, projectSection, sectionBytes, 0);
+            header = writeHeader(system.getSystemTime(), projects, projectSection, sectionBytes, header.length);
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            out.write(header);
+            for (byte[] bytes : sectionBytes) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Replaces the state of the given system by the image in the given file. Only the index of the image is read,
+     * projects are materialised the first time they are accessed, except for the projects with pending or executing
+     * tasks, whose users are assigned to those tasks again. All other users of the given user manager are unassigned
+     * from their tasks.
+     *
+     * @param system      The system to restore the image into
+     * @param file        The file containing the image
+     * @param userManager Manager holding all users referred to by the image
+     * @throws IOException if reading fails or the file does not contain a valid image, the system is left unchanged in
+     *                     that case
+     */
+    public static void open(TaskManSystem system, Path file, UserManager userManager) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        DataInputStream data = new DataInputStream(new ByteBufferInputStream(buffer.duplicate()));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a system image");
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported image version " + version);
+        }
+        Time systemTime = BinaryIO.readTime(data);
+
+        int projectCount = data.readInt();
+        Map<String, Integer> projectSections = new LinkedHashMap<>();
+        Set<Integer> activeSections = new TreeSet<>();
+        for (int i = 0; i < projectCount; i++) {
+            String name = BinaryIO.readString(data);
+            int section = data.readInt();
+            if (data.readBoolean()) {
+                activeSections.add(section);
+            }
+            projectSections.put(name, section);
+        }
+
+        int sectionCount = data.readInt();
+        long[] sectionOffsets = new long[sectionCount];
+        int[] sectionLengths = new int[sectionCount];
+        for (int i = 0; i < sectionCount; i++) {
+            sectionOffsets[i] = data.readLong();
+            sectionLengths[i] = data.readInt();
+            if (sectionOffsets[i] < 0 || sectionLengths[i] < 0 || sectionOffsets[i] + sectionLengths[i] > buffer.capacity()) {
+                throw new IOException("Invalid section " + i + " in image");
+            }
+        }
+        for (int section : projectSections.values()) {
+            if (section < 0 || section >= sectionCount) {
+                throw new IOException("Invalid section " + section + " in image");
+            }
+        }
+
+        SystemImage image = new SystemImage(buffer, userManager, projectSections, sectionOffsets, sectionLengths);
+        List<Project> activeProjects = new ArrayList<>();
+        for (int section : activeSections) {
+            activeProjects.addAll(image.readSection(section));
+        }
+
+        for (User user : userManager.getUsers()) {
+            user.endTask();
+        }
+        SystemSnapshot.assignCommittedUsers(activeProjects);
+        system.restore(systemTime, new ArrayList<>(projectSections.keySet()), activeProjects, image);
+    }
+
+    /**
+     * Materialises the section holding the project with the given name
+     *
+     * @param projectName Name of the project to materialise
+     * @return The projects of the section holding the given project, in creation order
+     * @throws UncheckedIOException if the section is invalid
+     */
+    List<Project> load(String projectName) {
+        try {
+            List<Project> projects = readSection(projectSections.get(projectName));
+            SystemSnapshot.assignCommittedUsers(projects);
+            return projects;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid image section of project " + projectName, e);
+        }
+    }
+
+    private List<Project> readSection(int section) throws IOException {
+        ByteBuffer slice = buffer.slice((int) sectionOffsets[section], sectionLengths[section]);
+        return SystemSnapshot.readProjects(new DataInputStream(new ByteBufferInputStream(slice)), userManager);
+    }
+
+    /**
+     * Splits the given projects in sections of projects whose tasks depend on each other
+     *
+     * @param projects All projects, in creation order
+     * @return The sections, each holding its projects in creation order
+     */
+    static List<List<Project>> getSections(List<Project> projects) {
+        Map<String, String> parents = new HashMap<>();
+        for (Project project : projects) {
+            parents.put(project.getName(), project.getName());
+        }
+        for (Project project : projects) {
+            for (Task task : ProjectSnapshot.getAllTasks(project)) {
+                for (TaskData prevTask : task.getPrevTasksData()) {
+                    parents.put(findRoot(parents, prevTask.getProjectName()), findRoot(parents, project.getName()));
+                }
+            }
+        }
+
+        Map<String, List<Project>> sections = new LinkedHashMap<>();
+        for (Project project : projects) {
+            sections.computeIfAbsent(findRoot(parents, project.getName()), root -> new ArrayList<>()).add(project);
+        }
+        return new ArrayList<>(sections.values());
+    }
+
+    private static String findRoot(Map<String, String> parents, String name) {
+        String parent = parents.get(name);
+        while (!parent.equals(name)) {
+            String grandParent = parents.get(parent);
+            parents.put(name, grandParent);
+            name = parent;
+            parent = grandParent;
+        }
+        return name;
+    }
+
+    /**
+     * @return Whether users are working on a task of the given project
+     */
+    private static boolean hasActiveUsers(Project project) {
+        for (Task task : ProjectSnapshot.getAllTasks(project)) {
+            Status status = task.getStatus();
+            if ((status == Status.PENDING || status == Status.EXECUTING) && !task.getUserNamesWithRole().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] writeHeader(
+            Time systemTime,
+            List<Project> projects,
+            Map<Project, Integer> projectSection,
+            List<byte[]> sectionBytes,
+            long headerLength
+    ) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        BinaryIO.writeTime(data, systemTime);
+
+        data.writeInt(projects.size());
+        for (Project project : projects) {
+            BinaryIO.writeString(data, project.getName());
+            data.writeInt(projectSection.get(project));
+            data.writeBoolean(hasActiveUsers(project));
+        }
+
+        data.writeInt(sectionBytes.size());
+        long offset = headerLength;
+        for (byte[] section : sectionBytes) {
+            data.writeLong(offset);
+            data.writeInt(section.length);
+            offset += section.length;
+        }
+        data.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Input stream reading the remaining bytes of a byte buffer
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+    }
+}
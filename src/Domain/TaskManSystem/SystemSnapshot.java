@@ -0,0 +1,152 @@
+package Domain.TaskManSystem;
+
+import Domain.DataClasses.BinaryIO;
+import Domain.DataClasses.Time;
+import Domain.Project.Project;
+import Domain.Project.ProjectSnapshot;
+import Domain.Task.Task;
+import Domain.Task.TaskSnapshot;
+import Domain.User.User;
+import Domain.User.UserManager;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Saves the complete state of a TaskManSystem in a compact binary snapshot, and restores it again without replaying
+ * the history that led to it.
+ * <p>
+ * Layout: magic, version, system time, all tasks in topological order (fields, then links to other tasks by id),
+ * then all projects in creation order (fields, then the ids of their current and replaced tasks).
+ */
+public final class SystemSnapshot {
+
+    private static final int MAGIC = 0x544D5353;
+    private static final short VERSION = 1;
+
+    private SystemSnapshot() {}
+
+    /**
+     * Writes a snapshot of the given system to the given stream
+     *
+     * @param system The system to write
+     * @param out    The stream to write to, not closed by this method
+     * @throws IOException if writing fails
+     */
+    @SuppressWarnings("try")
+    public static void write(TaskManSystem system, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        try (TaskManSystem.Guard guard = system.lockExclusively()) {
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            BinaryIO.writeTime(data, system.getSystemTime());
+
+            writeProjects(data, system.getProjects());
+        }
+        data.flush();
+    }
+
+    /**
+     * Replaces the state of the given system by the snapshot read from the given stream. All users of the given
+     * user manager are unassigned from their tasks first, users committed to restored pending or executing tasks
+     * are assigned to those tasks again.
+     *
+     * @param system      The system to restore the snapshot into
+     * @param in          The stream to read from, not closed by this method
+     * @param userManager Manager holding all users referred to by the snapshot
+     * @throws IOException if reading fails or the stream does not contain a valid snapshot, the system is left
+     *                     unchanged in that case
+     */
+    public static void read(TaskManSystem system, InputStream in, UserManager userManager) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a system snapshot");
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        Time systemTime = BinaryIO.readTime(data);
+
+        List<Project> projects = readProjects(data, userManager);
+
+        for (User user : userManager.getUsers()) {
+            user.endTask();
+        }
+        assignCommittedUsers(projects);
+        system.restore(systemTime, projects);
+    }
+
+    /**
+     * Writes the given projects together with all of their tasks, the tasks refer to each other by their index in the
+     * written section, so the projects may not depend on tasks of projects that are not written
+     *
+     * @param out      Output to write to
+     * @param projects The projects to write, in creation order
+     * @throws IOException if writing fails
+     */
+    static void writeProjects(DataOutput out, List<Project> projects) throws IOException {
+        List<Task> allTasks = new ArrayList<>();
+        for (Project project : projects) {
+            allTasks.addAll(ProjectSnapshot.getAllTasks(project));
+        }
+        List<Task> tasks = TaskSnapshot.sortTopologically(allTasks);
+        Map<Task, Integer> ids = new HashMap<>();
+        for (Task task : tasks) {
+            ids.put(task, ids.size());
+        }
+
+        out.writeInt(tasks.size());
+        for (Task task : tasks) {
+            TaskSnapshot.writeTask(out, task);
+        }
+        for (Task task : tasks) {
+            TaskSnapshot.writeLinks(out, task, ids);
+        }
+
+        out.writeInt(projects.size());
+        for (Project project : projects) {
+            ProjectSnapshot.writeProject(out, project, ids);
+        }
+    }
+
+    /**
+     * Restores projects written by {@link #writeProjects(DataOutput, List)}, without assigning any users
+     *
+     * @param in          Input to read from
+     * @param userManager Manager holding all users referred to by the projects
+     * @return The restored projects, in creation order
+     * @throws IOException if reading fails or the input does not contain valid projects
+     */
+    static List<Project> readProjects(DataInput in, UserManager userManager) throws IOException {
+        int taskCount = in.readInt();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(TaskSnapshot.readTask(in, userManager));
+        }
+        for (Task task : tasks) {
+            TaskSnapshot.readLinks(in, task, tasks);
+        }
+
+        int projectCount = in.readInt();
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < projectCount; i++) {
+            projects.add(ProjectSnapshot.readProject(in, tasks));
+        }
+        return projects;
+    }
+
+    /**
+     * Assigns the users committed to pending or executing tasks of the given restored projects to those tasks
+     *
+     * @param projects The restored projects
+     * @pre the committed users are not assigned to any task
+     */
+    static void assignCommittedUsers(List<Project> projects) {
+        for (Project project : projects) {
+            for (Task task : ProjectSnapshot.getAllTasks(project)) {
+                TaskSnapshot.assignCommittedUsers(task);
+            }
+        }
+    }
+}
@@ -5,6 +5,8 @@ import Domain.DataClasses.InvalidTimeException;
 import Domain.DataClasses.Time;
 import Domain.DataClasses.Tuple;
 import Domain.Project.*;
+import Domain.Schedule.ProjectSchedule;
+import Domain.Schedule.Scheduler;
 import Domain.Task.TaskData;
 import Domain.Task.IncorrectTaskStatusException;
 import Domain.Task.LoopDependencyGraphException;
@@ -16,29 +18,247 @@ import Domain.User.Role;
 import Domain.User.User;
 import Domain.User.UserAlreadyAssignedToTaskException;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Central domain-level system class, keeps track of system time and all projects, first point of entry into the domain
  * layer
+ * <p>
+ * The system can be used by several threads at once. Operations on a task lock the project of the task, together with
+ * the projects of the tasks it depends on or that depend on it, as status changes propagate along dependencies.
+ * Operations changing dependencies are serialised, as they can reorder tasks of any project in the dependency graph.
+ * Creating or deleting projects, changing the system time and replacing the whole system lock the whole system.
+ * The data objects returned by the getters, like the views returned by {@link #getSystemView()},
+ * {@link #getProjectView(String)} and {@link #getTaskView(String, String)}, are immutable copies of the live domain
+ * objects, cached per version of each project so they are only built again, while holding the project for reading,
+ * once the project changed. The schedules returned by {@link #getProjectSchedule(String)} are cached per version
+ * of each project as well, but computed while holding all projects for reading.
+ * <p>
+ * Locks are held by try-with-resources statements on guards that are only there to be closed, hence the suppressed
+ * warnings about unreferenced resources.
  */
+@SuppressWarnings("try")
 public class TaskManSystem implements TaskManSystemData {
 
-    private List<Project> projects;
-    private Time systemTime;
+    private static final int PROJECT_LOCK_STRIPES = 64;
+
+    private Map<String, Project> projects;
+    private volatile List<ProjectData> projectsData;
+    private volatile Time systemTime;
+    private SystemImage image;
+
+    private final ReentrantReadWriteLock systemLock = new ReentrantReadWriteLock();
+    private final Lock dependencyLock = new ReentrantLock();
+    private final ProjectLocks projectLocks = new ProjectLocks(PROJECT_LOCK_STRIPES);
+
+    // odd while the system is locked exclusively
+    private final AtomicLong systemVersion = new AtomicLong();
+    private final Map<String, AtomicLong> projectVersions = new ConcurrentHashMap<>();
+    private final Map<String, CachedView> projectViews = new ConcurrentHashMap<>();
+    private final Scheduler scheduler = new Scheduler();
 
     /**
-     * Initialises the system, setting the system time, alongside an empty list of projects
+     * Initialises the system, setting the system time, alongside an empty registry of projects
      * and setting the TaskManSystemData
      *
      * @param systemTime The initial system time (as a Time object)
      */
     public TaskManSystem(Time systemTime) {
         this.systemTime = systemTime;
-        projects = new LinkedList<>();
+        projects = new LinkedHashMap<>();
+    }
+
+    /**
+     * Locks held by a single operation on the system, released all at once when closed
+     */
+    interface Guard extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Locks the whole system, so no other thread can access it until the returned guard is closed
+     *
+     * @return The guard releasing the lock
+     */
+    Guard lockExclusively() {
+        systemLock.writeLock().lock();
+        if (systemLock.getWriteHoldCount() == 1) {
+            systemVersion.incrementAndGet();
+        }
+        return () -> {
+            if (systemLock.getWriteHoldCount() == 1) {
+                systemVersion.incrementAndGet();
+            }
+            systemLock.writeLock().unlock();
+        };
+    }
+
+    /**
+     * Locks the system for sharing it with other threads, after materialising the given projects if they were not
+     * accessed yet, which can only be done while holding the system exclusively
+     */
+    private void lockShared(Collection<String> projectNames) {
+        while (true) {
+            systemLock.readLock().lock();
+            if (areLoaded(projectNames)) {
+                return;
+            }
+            systemLock.readLock().unlock();
+            try (Guard guard = lockExclusively()) {
+                for (String projectName : projectNames) {
+                    getProject(projectName);
+                }
+            }
+        }
+    }
+
+    private boolean areLoaded(Collection<String> projectNames) {
+        if (image == null) {
+            return true;
+        }
+        for (String projectName : projectNames) {
+            if (projects.containsKey(projectName) && projects.get(projectName) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Locks the given project for reading
+     *
+     * @return The guard releasing the locks
+     */
+    private Guard lockForReading(String projectName) {
+        return lockForReading(List.of(projectName));
+    }
+
+    /**
+     * Locks the given projects for reading
+     *
+     * @return The guard releasing the locks
+     */
+    private Guard lockForReading(Collection<String> projectNames) {
+        lockShared(projectNames);
+        ProjectLocks.Locked locked = projectLocks.lock(projectNames, false);
+        return () -> {
+            locked.close();
+            systemLock.readLock().unlock();
+        };
+    }
+
+    /**
+     * Locks the given projects for reading, together with the dependency graph, which then cannot be changed by any
+     * other thread
+     *
+     * @return The guard releasing the locks
+     */
+    private Guard lockForReadingDependencies(Collection<String> projectNames) {
+        lockShared(projectNames);
+        dependencyLock.lock();
+        ProjectLocks.Locked locked = projectLocks.lock(projectNames, false);
+        return () -> {
+            locked.close();
+            dependencyLock.unlock();
+            systemLock.readLock().unlock();
+        };
+    }
+
+    /**
+     * Locks the given projects for changing them
+     *
+     * @param projectNames        Names of the projects to change
+     * @param changesDependencies Whether the dependencies between tasks will be changed
+     * @return The guard releasing the locks
+     */
+    private Guard lockForChanging(Collection<String> projectNames, boolean changesDependencies) {
+        lockShared(projectNames);
+        if (changesDependencies) {
+            dependencyLock.lock();
+        }
+        ProjectLocks.Locked locked = projectLocks.lock(projectNames, true);
+        return () -> {
+            for (String projectName : projectNames) {
+                getProjectVersion(projectName).incrementAndGet();
+            }
+            locked.close();
+            if (changesDependencies) {
+                dependencyLock.unlock();
+            }
+            systemLock.readLock().unlock();
+        };
+    }
+
+    /**
+     * Locks the project of the given task for changing it, together with the projects of the tasks the given task
+     * depends on or that depend on it, and the project of the task the given user is working on
+     *
+     * @param projectName         Name of the project of the task
+     * @param taskName            Name of the task
+     * @param user                The user changing the task, or null
+     * @param changesDependencies Whether the dependencies between tasks will be changed
+     * @return The guard releasing the locks
+     * @throws ProjectNotFoundException if the given project name does not correspond to an existing project
+     * @throws TaskNotFoundException    if the given task name does not correspond to a task within the given project
+     */
+    private Guard lockTask(String projectName, String taskName, User user, boolean changesDependencies) throws ProjectNotFoundException, TaskNotFoundException {
+        Set<String> projectNames = Set.of(projectName);
+        while (true) {
+            Guard guard = lockForChanging(projectNames, changesDependencies);
+            Set<String> neighbourNames;
+            try {
+                neighbourNames = getNeighbourProjectNames(projectName, taskName, user);
+            } catch (ProjectNotFoundException | TaskNotFoundException e) {
+                guard.close();
+                throw e;
+            }
+            if (projectNames.containsAll(neighbourNames)) {
+                return guard;
+            }
+            // the dependencies changed since the projects to lock were determined
+            guard.close();
+            Set<String> allNames = new HashSet<>(projectNames);
+            allNames.addAll(neighbourNames);
+            projectNames = allNames;
+        }
+    }
+
+    private AtomicLong getProjectVersion(String projectName) {
+        return projectVersions.computeIfAbsent(projectName, name -> new AtomicLong());
+    }
+
+    /**
+     * @param projectName Name of a project
+     * @return The current version of the project with the given name, which changes whenever the project changes
+     */
+    long getCurrentProjectVersion(String projectName) {
+        return getProjectVersion(projectName).get();
+    }
+
+    private Set<String> getNeighbourProjectNames(String projectName, String taskName, User user) throws ProjectNotFoundException, TaskNotFoundException {
+        Project project = getProject(projectName);
+        if (project == null) {
+            throw new ProjectNotFoundException();
+        }
+        TaskData task = project.getTaskData(taskName);
+        Set<String> projectNames = new HashSet<>();
+        projectNames.add(projectName);
+        for (TaskData prevTask : task.getPrevTasksData()) {
+            projectNames.add(prevTask.getProjectName());
+        }
+        for (TaskData nextTask : task.getNextTasksData()) {
+            projectNames.add(nextTask.getProjectName());
+        }
+        if (user != null && user.getTaskData() != null) {
+            projectNames.add(user.getTaskData().getProjectName());
+        }
+        return projectNames;
     }
 
     /**
@@ -56,18 +276,29 @@ public class TaskManSystem implements TaskManSystemData {
     }
 
     /**
-     * @return IMMUTABLE list of projects
+     * @return IMMUTABLE list of the immutable views of all projects, in creation order, as returned by
+     * {@link #getSystemView()}
      */
-    private List<Project> getProjects() {
-        return List.copyOf(projects);
+    @Override
+    public List<ProjectData> getProjectsData() {
+        return getSystemView().getProjectsData();
     }
 
     /**
-     * @return List of immutable project data
+     * @return IMMUTABLE list of the live projects, in creation order, only rebuilt after the projects changed
      */
-    @Override
-    public List<ProjectData> getProjectsData() {
-        return getProjects().stream().map(Project::getProjectData).toList();
+    private List<ProjectData> getProjectList() {
+        List<ProjectData> data = projectsData;
+        if (data == null) {
+            try (Guard guard = lockExclusively()) {
+                if (projectsData == null) {
+                    loadAllProjects();
+                    projectsData = List.copyOf(projects.values());
+                }
+                data = projectsData;
+            }
+        }
+        return data;
     }
 
     /**
@@ -77,51 +308,218 @@ public class TaskManSystem implements TaskManSystemData {
      * @return Project corresponding to the given project name, null if no such project exists
      */
     private Project getProject(String projectName) {
-        for (Project project : getProjects()) {
-            if (project.getName().equals(projectName)) {
-                return project;
+        Project project = projects.get(projectName);
+        if (project == null && image != null && projects.containsKey(projectName)) {
+            for (Project loadedProject : image.load(projectName)) {
+                projects.put(loadedProject.getName(), loadedProject);
             }
+            project = projects.get(projectName);
         }
-        return null;
+        return project;
     }
 
     /**
-     * Returns an immutable project proxy of the project with the given projectname, if it exists in the current system
+     * Materialises all projects of the image this system was opened from that were not accessed yet
+     */
+    private void loadAllProjects() {
+        if (image != null) {
+            for (String projectName : List.copyOf(projects.keySet())) {
+                getProject(projectName);
+            }
+            image = null;
+        }
+    }
+
+    /**
+     * Returns an immutable view of the project with the given projectname, if it exists in the current system, as
+     * returned by {@link #getProjectView(String)}
      *
      * @param projectName Name of the project
-     * @return An immutable project proxy containing the projects' details
+     * @return An immutable view containing the projects' details
      * @throws ProjectNotFoundException if projectName does not correspond to an existing project within the systen
      */
     public ProjectData getProjectData(String projectName) throws ProjectNotFoundException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
-        }
-        return project.getProjectData();
+        return getProjectView(projectName);
     }
 
     /**
-     * Returns an immutable task proxy of the task with the given name, inside the project of the given name
+     * Returns an immutable view of the task with the given name, inside the project of the given name, as returned by
+     * {@link #getTaskView(String, String)}
      *
      * @param projectName Project to which the given task belongs
-     * @param taskName    Task of which to get the task proxy
-     * @return An immutable task proxy containing details and getters of the given task
+     * @param taskName    Task of which to get the view
+     * @return An immutable view containing details and getters of the given task
      * @throws TaskNotFoundException    if the given taskName does not correspond to an existing task within the given project
      * @throws ProjectNotFoundException if the given projectName does not correspond to an existing project within the system
      */
     public TaskData getTaskData(String projectName, String taskName) throws TaskNotFoundException, ProjectNotFoundException {
-        Project project = getProject(projectName);
+        return getTaskView(projectName, taskName);
+    }
+
+    /**
+     * Returns an immutable view of the system, holding a consistent view of every project. Views of different projects
+     * may have been taken at different times.
+     *
+     * @return An immutable view of the current system
+     */
+    public TaskManSystemData getSystemView() {
+        Time time = getSystemTime();
+        List<ProjectData> views = new ArrayList<>();
+        for (ProjectData project : getProjectList()) {
+            views.add(getProjectView((Project) project));
+        }
+        return new SystemView(time, views);
+    }
+
+    /**
+     * Returns an immutable, consistent view of the project with the given name, without blocking threads changing it
+     *
+     * @param projectName Name of the project
+     * @return An immutable view of the project and all its tasks
+     * @throws ProjectNotFoundException if projectName does not correspond to an existing project within the system
+     */
+    public ProjectData getProjectView(String projectName) throws ProjectNotFoundException {
+        Project project;
+        lockShared(List.of(projectName));
+        try {
+            project = getProject(projectName);
+        } finally {
+            systemLock.readLock().unlock();
+        }
         if (project == null) {
             throw new ProjectNotFoundException();
         }
-        return project.getTaskData(taskName);
+        return getProjectView(project);
+    }
+
+    /**
+     * Returns an immutable view of the task with the given name, taken together with the view of its project
+     *
+     * @param projectName Project to which the given task belongs
+     * @param taskName    Task of which to get the view
+     * @return An immutable view of the task
+     * @throws TaskNotFoundException    if the given taskName does not correspond to an existing task within the given project
+     * @throws ProjectNotFoundException if the given projectName does not correspond to an existing project within the system
+     */
+    public TaskData getTaskView(String projectName, String taskName) throws ProjectNotFoundException, TaskNotFoundException {
+        TaskData task = ((ProjectView) getProjectView(projectName)).getTaskData(taskName);
+        if (task == null) {
+            throw new TaskNotFoundException();
+        }
+        return task;
+    }
+
+    /**
+     * @return The cached view of the given project if the project did not change since, a new view otherwise
+     */
+    private ProjectView getProjectView(Project project) {
+        String projectName = project.getName();
+        AtomicLong projectVersion = getProjectVersion(projectName);
+        long version = projectVersion.get();
+        long currentSystemVersion = systemVersion.get();
+        CachedView cached = projectViews.get(projectName);
+        if (cached != null && cached.isValid(project, version, currentSystemVersion)) {
+            return cached.getView();
+        }
+
+        // building a view walks the tasks of the project, so the threads changing it are blocked meanwhile
+        ProjectView view;
+        try (Guard guard = lockForReading(projectName)) {
+            version = projectVersion.get();
+            currentSystemVersion = systemVersion.get();
+            view = new ProjectView(project, this::resolveTaskView, this::canSafelyAddPrevTask);
+        }
+        projectViews.put(projectName, new CachedView(project, version, currentSystemVersion, view));
+        return view;
+    }
+
+    /**
+     * Returns the schedule of the project with the given name, computed together with all projects it is connected to
+     * by dependencies. Schedules are cached, and only computed again once a project they depend on changed or the
+     * system time changed.
+     *
+     * @param projectName Name of the project
+     * @return The schedule of all active tasks of the project
+     * @throws ProjectNotFoundException if projectName does not correspond to an existing project within the system
+     */
+    public ProjectSchedule getProjectSchedule(String projectName) throws ProjectNotFoundException {
+        while (true) {
+            List<ProjectData> allProjects = getProjectList();
+            List<String> projectNames = allProjects.stream().map(ProjectData::getName).toList();
+            try (Guard guard = lockForReading(projectNames)) {
+                if (projectsData != allProjects) {
+                    // projects were created or deleted before the locks were acquired
+                    continue;
+                }
+                if (getProject(projectName) == null) {
+                    throw new ProjectNotFoundException();
+                }
+                Map<String, Long> versions = new HashMap<>();
+                for (String name : projectNames) {
+                    versions.put(name, getProjectVersion(name).get());
+                }
+                return scheduler.getProjectSchedule(projectName, getSystemTime(), systemVersion.get(), allProjects, versions);
+            }
+        }
+    }
+
+    /**
+     * Checks if it is safe to add the given previous task to the given task without introducing a loop in the
+     * dependency graph, against the current dependency graph
+     *
+     * @param projectName     Name of the project of the task
+     * @param taskName        Name of the task to add the previous task to
+     * @param prevProjectName Name of the project of the previous task
+     * @param prevTaskName    Name of the previous task
+     * @return true if both tasks exist, the task is AVAILABLE or UNAVAILABLE and adding the previous task does not
+     * introduce a loop in the dependency graph, false otherwise
+     */
+    public boolean canSafelyAddPrevTask(String projectName, String taskName, String prevProjectName, String prevTaskName) {
+        try (Guard guard = lockForReadingDependencies(List.of(projectName, prevProjectName))) {
+            Project project = getProject(projectName);
+            Project prevProject = getProject(prevProjectName);
+            if (project == null || prevProject == null) {
+                return false;
+            }
+            return project.getTaskData(taskName).canSafelyAddPrevTask(prevProject.getTaskData(prevTaskName));
+        } catch (TaskNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the names of the projects of the tasks the given task depends on or that depend on it, which are the
+     * projects changing the given task can change
+     *
+     * @param projectName Name of the project of the task
+     * @param taskName    Name of the task
+     * @return The names of the given project and of the projects of the previous and next tasks of the given task
+     * @throws ProjectNotFoundException if the given project name does not correspond to an existing project
+     * @throws TaskNotFoundException    if the given task name does not correspond to a task within the given project
+     */
+    public Set<String> getNeighbourProjectNames(String projectName, String taskName) throws ProjectNotFoundException, TaskNotFoundException {
+        try (Guard guard = lockForReadingDependencies(List.of(projectName))) {
+            return getNeighbourProjectNames(projectName, taskName, null);
+        }
+    }
+
+    /**
+     * @return The current view of the given task, or null if it does not exist
+     */
+    private TaskData resolveTaskView(String projectName, String taskName) {
+        try {
+            return getTaskView(projectName, taskName);
+        } catch (ProjectNotFoundException | TaskNotFoundException e) {
+            return null;
+        }
     }
 
     /**
      * @param newProject The project to add to the current list of projects
      */
     private void addProject(Project newProject) {
-        projects.add(newProject);
+        projects.put(newProject.getName(), newProject);
+        projectsData = null;
     }
 
     /**
@@ -134,7 +532,7 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws ProjectNameAlreadyInUseException if the given project name is already in use
      */
     public void createProject(String projectName, String projectDescription, Time dueTime) throws ProjectNameAlreadyInUseException, DueBeforeSystemTimeException {
-        try {
+        try (Guard guard = lockExclusively()) {
             createProject(projectName, projectDescription, getSystemTime(), dueTime);
         } catch (DueTimeBeforeCreationTimeException e) {
             throw new DueBeforeSystemTimeException();
@@ -148,12 +546,14 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws ProjectNotFoundException if the given projectName does not correspond to an existing project within the system
      */
     public void deleteProject(String projectName) throws ProjectNotFoundException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockExclusively()) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.clearTasks();
+            deleteProject(project);
         }
-        project.clearTasks();
-        deleteProject(project);
     }
 
     /**
@@ -161,7 +561,9 @@ public class TaskManSystem implements TaskManSystemData {
      * @param project Project to remove
      */
     private void deleteProject(Project project) {
-        projects.remove(project);
+        projects.remove(project.getName(), project);
+        projectViews.remove(project.getName());
+        projectsData = null;
     }
 
     /**
@@ -181,7 +583,7 @@ public class TaskManSystem implements TaskManSystemData {
             Time dueTime
     )
             throws ProjectNameAlreadyInUseException, DueTimeBeforeCreationTimeException {
-        if (getProject(projectName) == null) {
+        if (!projects.containsKey(projectName)) {
             Project newProject = new Project(
                     projectName,
                     projectDescription,
@@ -218,23 +620,35 @@ public class TaskManSystem implements TaskManSystemData {
             Set<Tuple<String,String>> nextTaskStrings
     )
             throws ProjectNotFoundException, TaskNameAlreadyInUseException, TaskNotFoundException, IncorrectTaskStatusException, LoopDependencyGraphException, IllegalTaskRolesException, ProjectNotOngoingException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        Set<String> projectNames = new HashSet<>();
+        projectNames.add(projectName);
+        for (Tuple<String,String> task : prevTaskStrings) {
+            projectNames.add(task.getFirst());
         }
+        for (Tuple<String,String> task : nextTaskStrings) {
+            projectNames.add(task.getFirst());
+        }
+        boolean changesDependencies = !prevTaskStrings.isEmpty() || !nextTaskStrings.isEmpty();
 
-        Set<Tuple<Project, String>> prevTasks = convertProjectNames(prevTaskStrings);
-        Set<Tuple<Project, String>> nextTasks = convertProjectNames(nextTaskStrings);
+        try (Guard guard = lockForChanging(projectNames, changesDependencies)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
 
-        project.addNewTask(
-                taskName,
-                description,
-                durationTime,
-                deviation,
-                roles,
-                prevTasks,
-                nextTasks
-        );
+            Set<Tuple<Project, String>> prevTasks = convertProjectNames(prevTaskStrings);
+            Set<Tuple<Project, String>> nextTasks = convertProjectNames(nextTaskStrings);
+
+            project.addNewTask(
+                    taskName,
+                    description,
+                    durationTime,
+                    deviation,
+                    roles,
+                    prevTasks,
+                    nextTasks
+            );
+        }
     }
 
     /**
@@ -267,11 +681,13 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws TaskNotFoundException     if the given task name does not correspond to a task within the given project
      */
     public void deleteTask(String projectName, String taskName) throws ProjectNotFoundException, TaskNotFoundException {
-        Project project = getProject(projectName);
-        if (project == null){
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, taskName, null, true)) {
+            Project project = getProject(projectName);
+            if (project == null){
+                throw new ProjectNotFoundException();
+            }
+            project.deleteTask(taskName);
         }
-        project.deleteTask(taskName);
     }
 
     /**
@@ -296,17 +712,19 @@ public class TaskManSystem implements TaskManSystemData {
             String replaces
     )
             throws ProjectNotFoundException, TaskNotFoundException, TaskNameAlreadyInUseException, IncorrectTaskStatusException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, replaces, null, true)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.replaceTask(
+                    taskName,
+                    description,
+                    durationTime,
+                    deviation,
+                    replaces
+            );
         }
-        project.replaceTask(
-                taskName,
-                description,
-                durationTime,
-                deviation,
-                replaces
-        );
     }
 
     /**
@@ -329,16 +747,18 @@ public class TaskManSystem implements TaskManSystemData {
             Role role
     )
             throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, IncorrectRoleException, UserAlreadyAssignedToTaskException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, taskName, currentUser, false)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.startTask(
+                    taskName,
+                    getSystemTime(),
+                    currentUser,
+                    role
+            );
         }
-        project.startTask(
-                taskName,
-                getSystemTime(),
-                currentUser,
-                role
-        );
     }
 
     /**
@@ -358,14 +778,16 @@ public class TaskManSystem implements TaskManSystemData {
             User currentUser
     )
             throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, IncorrectUserException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, taskName, currentUser, false)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.undoStartTask(
+                    taskName,
+                    currentUser
+            );
         }
-        project.undoStartTask(
-                taskName,
-                currentUser
-        );
     }
 
     /**
@@ -380,11 +802,13 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws IncorrectRoleException               if this role is not necessary for the given task (should not happen)
      */
     public void undoEndTask(String projectName, String taskName) throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, UserAlreadyAssignedToTaskException, IncorrectRoleException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, taskName, null, false)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.undoEndTask(taskName);
         }
-        project.undoEndTask(taskName);
     }
 
 
@@ -395,10 +819,12 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws NewTimeBeforeSystemTimeException if the given time is before the current system time
      */
     public void advanceTime(Time newTime) throws NewTimeBeforeSystemTimeException {
-        if (newTime.before(getSystemTime())) {
-            throw new NewTimeBeforeSystemTimeException();
+        try (Guard guard = lockExclusively()) {
+            if (newTime.before(getSystemTime())) {
+                throw new NewTimeBeforeSystemTimeException();
+            }
+            setSystemTime(newTime);
         }
-        setSystemTime(newTime);
     }
 
     /**
@@ -408,11 +834,12 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws NewTimeBeforeSystemTimeException if advanceMinutes < 0
      */
     public void advanceTime(int advanceMinutes) throws NewTimeBeforeSystemTimeException {
-        try {
-            advanceTime(new Time(advanceMinutes).add(getSystemTime()));
-        } catch (InvalidTimeException e) {
+        if (advanceMinutes < 0) {
             throw new NewTimeBeforeSystemTimeException();
         }
+        try (Guard guard = lockExclusively()) {
+            setSystemTime(Time.plus(getSystemTime(), advanceMinutes));
+        }
     }
 
     /**
@@ -421,8 +848,68 @@ public class TaskManSystem implements TaskManSystemData {
      * @post systemTime.getTotalMinutes() == 0
      */
     public void reset() throws InvalidTimeException {
-        this.projects = new LinkedList<>();
-        this.systemTime = new Time(0);
+        try (Guard guard = lockExclusively()) {
+            this.projects = new LinkedHashMap<>();
+            this.projectsData = null;
+            this.projectViews.clear();
+            this.image = null;
+            this.systemTime = Time.of(0);
+        }
+    }
+
+    /**
+     * @return IMMUTABLE list of all projects, in creation order, which may only be read while holding
+     * {@link #lockExclusively()}
+     */
+    List<Project> getProjects() {
+        try (Guard guard = lockExclusively()) {
+            loadAllProjects();
+            return List.copyOf(projects.values());
+        }
+    }
+
+    /**
+     * Replaces all projects and the system time by the given ones, used when restoring a snapshot
+     *
+     * @param systemTime The new system time
+     * @param projects   The new projects, in creation order
+     */
+    void restore(Time systemTime, List<Project> projects) {
+        try (Guard guard = lockExclusively()) {
+            this.projects = new LinkedHashMap<>();
+            for (Project project : projects) {
+                this.projects.put(project.getName(), project);
+            }
+            this.projectsData = null;
+            this.projectViews.clear();
+            this.image = null;
+            this.systemTime = systemTime;
+        }
+    }
+
+    /**
+     * Replaces all projects and the system time by the ones of the given image, used when opening an image. Projects
+     * that are not given yet are materialised from the image when first accessed.
+     *
+     * @param systemTime     The new system time
+     * @param projectNames   The names of all projects of the image, in creation order
+     * @param loadedProjects The projects of the image that are already materialised
+     * @param image          The image to materialise the other projects from
+     */
+    void restore(Time systemTime, List<String> projectNames, List<Project> loadedProjects, SystemImage image) {
+        try (Guard guard = lockExclusively()) {
+            this.projects = new LinkedHashMap<>();
+            for (String projectName : projectNames) {
+                this.projects.put(projectName, null);
+            }
+            for (Project project : loadedProjects) {
+                this.projects.put(project.getName(), project);
+            }
+            this.projectsData = null;
+            this.projectViews.clear();
+            this.image = image;
+            this.systemTime = systemTime;
+        }
     }
 
 
@@ -438,11 +925,13 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws IncorrectTaskStatusException if the task status is not EXECUTING
      */
     public void finishTask(String projectName, String taskName, User user) throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, IncorrectUserException, EndTimeBeforeStartTimeException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, taskName, user, false)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.finishTask(taskName, user, getSystemTime());
         }
-        project.finishTask(taskName, user, getSystemTime());
     }
 
 
@@ -458,11 +947,13 @@ public class TaskManSystem implements TaskManSystemData {
      * @throws IncorrectTaskStatusException if the task status is not EXECUTING
      */
     public void failTask(String projectName, String taskName, User user) throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, IncorrectUserException, EndTimeBeforeStartTimeException {
-        Project project = getProject(projectName);
-        if (project == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockTask(projectName, taskName, user, false)) {
+            Project project = getProject(projectName);
+            if (project == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.failTask(taskName, user, getSystemTime());
         }
-        project.failTask(taskName, user, getSystemTime());
     }
 
     /**
@@ -479,13 +970,15 @@ public class TaskManSystem implements TaskManSystemData {
      * @post if the task corresponding to taskName is AVAILABLE, then sets taskName's status to UNAVAILABLE
      */
     public void addPrevTaskToProject(String projectName, String taskName, String prevProjectName, String prevTaskName) throws TaskNotFoundException, IncorrectTaskStatusException, LoopDependencyGraphException, ProjectNotFoundException {
-        Project project = getProject(projectName);
-        Project prevProject = getProject(prevProjectName);
-        if (project == null || prevProject == null) {
-            throw new ProjectNotFoundException();
-        }
+        try (Guard guard = lockForChanging(List.of(projectName, prevProjectName), true)) {
+            Project project = getProject(projectName);
+            Project prevProject = getProject(prevProjectName);
+            if (project == null || prevProject == null) {
+                throw new ProjectNotFoundException();
+            }
 
-        project.addPrevTask(taskName, prevProject, prevTaskName);
+            project.addPrevTask(taskName, prevProject, prevTaskName);
+        }
     }
 
     /**
@@ -502,12 +995,54 @@ public class TaskManSystem implements TaskManSystemData {
      * @post if the task corresponding to nextTaskName is AVAILABLE, then sets taskName's status to UNAVAILABLE
      */
     public void addNextTaskToProject(String projectName, String taskName, String nextProjectName, String nextTaskName) throws TaskNotFoundException, IncorrectTaskStatusException, LoopDependencyGraphException, ProjectNotFoundException {
-        Project project = getProject(projectName);
-        Project nextProject = getProject(nextProjectName);
-        if (project == null || nextProject == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockForChanging(List.of(projectName, nextProjectName), true)) {
+            Project project = getProject(projectName);
+            Project nextProject = getProject(nextProjectName);
+            if (project == null || nextProject == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.addNextTask(taskName, nextProject, nextTaskName);
+        }
+    }
+
+    /**
+     * Adds all given dependencies between tasks at once. Every project is looked up and locked only once, the
+     * dependency graph is checked for loops once for all dependencies together, and the availability of every task
+     * that gets a previous task is updated once. Either all dependencies are added, or none of them.
+     *
+     * @param dependencies Tuples of a previous task and the task to add it to, each given by its project name and task name
+     * @throws ProjectNotFoundException     if one of the project names does not correspond to an existing project
+     * @throws TaskNotFoundException        if one of the task names does not correspond to a task within its project
+     * @throws IncorrectTaskStatusException if one of the tasks to add a previous task to is not available or unavailable
+     * @throws LoopDependencyGraphException if adding the dependencies would create a loop in the dependency graph
+     * @post every task that gets an unfinished previous task and was AVAILABLE is UNAVAILABLE
+     */
+    public void addDependencies(List<Tuple<Tuple<String,String>,Tuple<String,String>>> dependencies) throws ProjectNotFoundException, TaskNotFoundException, IncorrectTaskStatusException, LoopDependencyGraphException {
+        Set<String> projectNames = new HashSet<>();
+        for (Tuple<Tuple<String,String>,Tuple<String,String>> dependency : dependencies) {
+            projectNames.add(dependency.getFirst().getFirst());
+            projectNames.add(dependency.getSecond().getFirst());
+        }
+
+        try (Guard guard = lockForChanging(projectNames, true)) {
+            Map<String, Project> projects = new HashMap<>();
+            for (String projectName : projectNames) {
+                Project project = getProject(projectName);
+                if (project == null) {
+                    throw new ProjectNotFoundException();
+                }
+                projects.put(projectName, project);
+            }
+
+            List<Tuple<Tuple<Project,String>,Tuple<Project,String>>> tasks = new ArrayList<>();
+            for (Tuple<Tuple<String,String>,Tuple<String,String>> dependency : dependencies) {
+                tasks.add(new Tuple<>(
+                        new Tuple<>(projects.get(dependency.getFirst().getFirst()), dependency.getFirst().getSecond()),
+                        new Tuple<>(projects.get(dependency.getSecond().getFirst()), dependency.getSecond().getSecond())
+                ));
+            }
+            Project.addDependencies(tasks);
         }
-        project.addNextTask(taskName, nextProject, nextTaskName);
     }
 
     /**
@@ -522,12 +1057,14 @@ public class TaskManSystem implements TaskManSystemData {
      * @post if prevTaskName is the last previous task in taskName, then sets the status of taskName to AVAILABLE
      */
     public void removePrevTaskFromProject(String projectName, String taskName, String prevProjectName, String prevTaskName) throws TaskNotFoundException, ProjectNotFoundException {
-        Project project = getProject(projectName);
-        Project prevProject = getProject(prevProjectName);
-        if (project == null || prevProject == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockForChanging(List.of(projectName, prevProjectName), true)) {
+            Project project = getProject(projectName);
+            Project prevProject = getProject(prevProjectName);
+            if (project == null || prevProject == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.removePrevTask(taskName, prevProject, prevTaskName);
         }
-        project.removePrevTask(taskName, prevProject, prevTaskName);
     }
 
     /**
@@ -542,11 +1079,64 @@ public class TaskManSystem implements TaskManSystemData {
      * @post if taskName is the last prevtask of nextTask, then set nextTask to AVAILABLE
      */
     public void removeNextTaskFromProject(String projectName, String taskName, String nextProjectName, String nextTaskName) throws TaskNotFoundException, ProjectNotFoundException {
-        Project project = getProject(projectName);
-        Project nextProject = getProject(nextProjectName);
-        if (project == null || nextProject == null) {
-            throw new ProjectNotFoundException();
+        try (Guard guard = lockForChanging(List.of(projectName, nextProjectName), true)) {
+            Project project = getProject(projectName);
+            Project nextProject = getProject(nextProjectName);
+            if (project == null || nextProject == null) {
+                throw new ProjectNotFoundException();
+            }
+            project.removeNextTask(taskName, nextProject, nextTaskName);
+        }
+    }
+
+    /**
+     * View of a project, together with the versions at which it was taken
+     */
+    private static final class CachedView {
+        private final Project project;
+        private final long projectVersion;
+        private final long systemVersion;
+        private final ProjectView view;
+
+        CachedView(Project project, long projectVersion, long systemVersion, ProjectView view) {
+            this.project = project;
+            this.projectVersion = projectVersion;
+            this.systemVersion = systemVersion;
+            this.view = view;
+        }
+
+        /**
+         * @return Whether this view still shows the given project at the given versions
+         */
+        boolean isValid(Project project, long projectVersion, long systemVersion) {
+            return this.project == project && this.projectVersion == projectVersion && this.systemVersion == systemVersion;
+        }
+
+        ProjectView getView() {
+            return view;
+        }
+    }
+
+    /**
+     * Immutable view of the system
+     */
+    private static final class SystemView implements TaskManSystemData {
+        private final Time systemTime;
+        private final List<ProjectData> projectsData;
+
+        SystemView(Time systemTime, List<ProjectData> projectsData) {
+            this.systemTime = systemTime;
+            this.projectsData = List.copyOf(projectsData);
+        }
+
+        @Override
+        public Time getSystemTime() {
+            return systemTime;
+        }
+
+        @Override
+        public List<ProjectData> getProjectsData() {
+            return projectsData;
         }
-        project.removeNextTask(taskName, nextProject, nextTaskName);
     }
 }
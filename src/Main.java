@@ -1,85 +1,106 @@
-import Application.Controllers.ProjectControllers.CreateProjectController;
-import Application.Controllers.ProjectControllers.DeleteProjectController;
-import Application.Controllers.ProjectControllers.ShowProjectsController;
-import Application.Controllers.TaskControllers.*;
-import Application.Session.Session;
-import Application.Controllers.SystemControllers.SessionController;
-import Application.Session.SessionProxy;
-import Application.Controllers.SystemControllers.AdvanceTimeController;
-import Application.Controllers.SystemControllers.LoadSystemController;
-import Application.Controllers.SystemControllers.UndoRedoController;
-import Application.Command.CommandInterface;
 import Application.Command.CommandManager;
+import Application.Command.Journal.Checkpointer;
 import Domain.DataClasses.InvalidTimeException;
 import Domain.DataClasses.Time;
 import Domain.TaskManSystem.TaskManSystem;
 import Domain.User.UserManager;
-import UserInterface.*;
-import UserInterface.ProjectUIs.CreateProjectUI;
-import UserInterface.ProjectUIs.DeleteProjectUI;
-import UserInterface.ProjectUIs.ShowProjectsUI;
-import UserInterface.SystemUIs.AdvanceTimeUI;
-import UserInterface.SystemUIs.LoadSystemUI;
-import UserInterface.SystemUIs.SessionUI;
-import UserInterface.SystemUIs.UndoRedoUI;
-import UserInterface.TaskUIs.*;
+import UserInterface.SessionFactory;
+import UserInterface.Server.LineProtocolServer;
+import UserInterface.Server.SessionServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
 
 /**
- * Creates the initial objects and starts the UI
+ * Creates the initial objects and starts the UI. If a directory is given as argument, the system is recovered from the
+ * checkpoint and journals in it first, and every following command is journalled and checkpointed in it.
+ * With '--port PORT', the system is served to many clients at once, each connecting on the given port with a session of
+ * its own, and with '--line-port PORT' to scripts using the line protocol, until 'shutdown' is entered on the console.
  */
 public class Main {
 
+    private static final String USAGE = "Usage: [--port PORT] [--line-port PORT] [CHECKPOINT_DIRECTORY]";
+
     public static void main(String[] args) {
         try {
+            List<String> arguments = new ArrayList<>(List.of(args));
+            Integer port = removePortOption(arguments, "--port");
+            Integer linePort = removePortOption(arguments, "--line-port");
+            if (arguments.size() > 1 || (!arguments.isEmpty() && arguments.get(0).startsWith("--"))) {
+                throw new IllegalArgumentException("Unexpected arguments " + arguments);
+            }
+
             TaskManSystem taskManSystem = new TaskManSystem(new Time(0, 0));
             UserManager userManager = new UserManager();
-            Session session = new Session();
-            SessionProxy sessionProxy = new SessionProxy(session);
-            CommandInterface commandManager = new CommandManager();
+            CommandManager commandManager = new CommandManager();
+            if (!arguments.isEmpty()) {
+                new Checkpointer(Path.of(arguments.get(0)), taskManSystem, userManager, commandManager, 100).recover();
+            }
+            SessionFactory sessionFactory = new SessionFactory(taskManSystem, userManager, commandManager);
 
-            SessionController sessionController = new SessionController(session, userManager);
-            AdvanceTimeController advanceTimeController = new AdvanceTimeController(sessionProxy, taskManSystem, commandManager);
-            CreateProjectController createProjectController = new CreateProjectController(sessionProxy, taskManSystem, commandManager);
-            DeleteProjectController deleteProjectController = new DeleteProjectController(sessionProxy, taskManSystem, commandManager);
-            ShowProjectsController showProjectsController = new ShowProjectsController(sessionProxy, taskManSystem);
-            CreateTaskController createTaskController = new CreateTaskController(sessionProxy, taskManSystem, commandManager);
-            DeleteTaskController deleteTaskController = new DeleteTaskController(sessionProxy, taskManSystem, commandManager);
-            LoadSystemController loadSystemController = new LoadSystemController(sessionProxy, taskManSystem, userManager, commandManager);
-            StartTaskController startTaskController = new StartTaskController(sessionProxy, taskManSystem, commandManager);
-            EndTaskController endTaskController = new EndTaskController(sessionProxy, taskManSystem, commandManager);
-            UpdateDependenciesController updateDependenciesController = new UpdateDependenciesController(sessionProxy, taskManSystem, commandManager);
-            UndoRedoController undoRedoController = new UndoRedoController(sessionProxy, commandManager);
-
-            SessionUI sessionUI = new SessionUI(sessionController);
-            AdvanceTimeUI advanceTimeUI = new AdvanceTimeUI(advanceTimeController);
-            CreateProjectUI createProjectUI = new CreateProjectUI(createProjectController);
-            DeleteProjectUI deleteProjectUI = new DeleteProjectUI(deleteProjectController);
-            ShowProjectsUI showProjectsUI = new ShowProjectsUI(showProjectsController);
-            CreateTaskUI createTaskUI = new CreateTaskUI(createTaskController);
-            DeleteTaskUI deleteTaskUI = new DeleteTaskUI(deleteTaskController);
-            LoadSystemUI loadSystemUI = new LoadSystemUI(loadSystemController);
-            StartTaskUI startTaskUI = new StartTaskUI(startTaskController);
-            EndTaskUI endTaskUI = new EndTaskUI(endTaskController);
-            UpdateDependenciesUI updateDependenciesUI = new UpdateDependenciesUI(updateDependenciesController);
-            UndoRedoUI undoRedoUI = new UndoRedoUI(undoRedoController);
-
-            UserInterface UI = new UserInterface(
-                    sessionUI,
-                    advanceTimeUI,
-                    createProjectUI,
-                    deleteProjectUI,
-                    showProjectsUI,
-                    createTaskUI,
-                    deleteTaskUI,
-                    loadSystemUI,
-                    startTaskUI,
-                    endTaskUI,
-                    updateDependenciesUI,
-                    undoRedoUI
-            );
-            UI.startSystem();
+            if (port == null && linePort == null) {
+                sessionFactory.createUserInterface().startSystem();
+            } else {
+                serve(sessionFactory, port, taskManSystem, userManager, commandManager, linePort);
+            }
         } catch (InvalidTimeException e) {
             System.out.println("Somehow the initial start time is invalid, this really should not happen.");
+        } catch (IOException e) {
+            System.out.println("Could not recover from the checkpoint directory: " + e.getMessage());
+        } catch (NumberFormatException e) {
+            System.out.println("The port must be a number: " + e.getMessage());
+            System.out.println(USAGE);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+        }
+    }
+
+    /**
+     * Removes the given option and its port from the arguments
+     *
+     * @return The port given with the option, or null if the option is not given
+     * @throws NumberFormatException    if the port is not a number
+     * @throws IllegalArgumentException if the option is not followed by a port
+     */
+    private static Integer removePortOption(List<String> arguments, String option) {
+        int index = arguments.indexOf(option);
+        if (index == -1) {
+            return null;
+        }
+        if (index + 1 == arguments.size()) {
+            throw new IllegalArgumentException("Missing port after " + option);
+        }
+        int port = Integer.parseInt(arguments.remove(index + 1));
+        arguments.remove(index);
+        return port;
+    }
+
+    /**
+     * Serves the command line interface and the line protocol on the given ports, if given, until 'shutdown' is entered
+     * on the console
+     */
+    private static void serve(SessionFactory sessionFactory, Integer port, TaskManSystem taskManSystem, UserManager userManager, CommandManager commandManager, Integer linePort) {
+        try (SessionServer server = port == null ? null : new SessionServer(sessionFactory, new InetSocketAddress(port));
+             LineProtocolServer lineServer = linePort == null ? null : new LineProtocolServer(taskManSystem, userManager, commandManager, new InetSocketAddress(linePort))) {
+            if (server != null) {
+                System.out.println("Serving the command line interface on port " + server.getPort() + ".");
+            }
+            if (lineServer != null) {
+                System.out.println("Serving the line protocol on port " + lineServer.getPort() + ".");
+            }
+            System.out.println("Enter 'shutdown' to stop.");
+            Scanner scanner = new Scanner(System.in);
+            while (scanner.hasNextLine() && !scanner.nextLine().equals("shutdown")) {
+                int sessionCount = (server == null ? 0 : server.getSessionCount()) + (lineServer == null ? 0 : lineServer.getSessionCount());
+                System.out.println(sessionCount + " sessions connected, enter 'shutdown' to stop.");
+            }
+        } catch (IOException e) {
+            System.out.println("Could not serve: " + e.getMessage());
         }
     }
 }
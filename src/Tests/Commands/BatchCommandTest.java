@@ -0,0 +1,170 @@
+package Tests.Commands;
+
+import Application.Command.BatchCommand;
+import Application.Command.Command;
+import Application.Command.CommandManager;
+import Application.Command.Journal.CommandJournal;
+import Application.Command.Journal.JournalEntry;
+import Application.Command.Journal.JournalRecovery;
+import Application.Command.ProjectCommands.CreateProjectCommand;
+import Application.Command.ProjectCommands.DeleteProjectCommand;
+import Application.Command.TaskCommands.CreateTaskCommand;
+import Application.Command.UndoNotPossibleException;
+import Application.Command.UpdateDependenciesCommands.AddPrevTaskCommand;
+import Domain.DataClasses.Time;
+import Domain.Project.TaskNotFoundException;
+import Domain.Task.LoopDependencyGraphException;
+import Domain.Task.Status;
+import Domain.TaskManSystem.ProjectNotFoundException;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class BatchCommandTest {
+
+    private UserManager userManager;
+    private User manager;
+    private TaskManSystem taskManSystem;
+    private CommandManager commandManager;
+
+    @Before
+    public void setUp() throws Exception {
+        this.userManager = new UserManager();
+        this.manager = userManager.getUser("DieterVH");
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        this.commandManager = new CommandManager();
+    }
+
+    private Command createTask(String projectName, String taskName) throws Exception {
+        return new CreateTaskCommand(taskManSystem, projectName, taskName, "", new Time(10), 0.1,
+                List.of(Role.SYSADMIN), Set.of(), Set.of());
+    }
+
+    private List<Command> createProjectWithTasks(String projectName, int taskCount) throws Exception {
+        List<Command> commands = new ArrayList<>();
+        commands.add(new CreateProjectCommand(taskManSystem, projectName, "", new Time(100)));
+        for (int i = 0; i < taskCount; i++) {
+            commands.add(createTask(projectName, "Task " + i));
+        }
+        for (int i = 1; i < taskCount; i++) {
+            commands.add(new AddPrevTaskCommand(taskManSystem, projectName, "Task " + i, projectName, "Task " + (i - 1)));
+        }
+        return commands;
+    }
+
+    @Test
+    public void testExecuteAndUndo() throws Exception {
+        BatchCommand batch = new BatchCommand(taskManSystem, createProjectWithTasks("Project", 500));
+        batch.execute();
+        commandManager.addExecutedCommand(batch, manager);
+
+        assertEquals(1, commandManager.getExecutedCommands().size());
+        assertEquals(500, taskManSystem.getProjectView("Project").getTasksData().size());
+        assertEquals(Status.AVAILABLE, taskManSystem.getTaskView("Project", "Task 0").getStatus());
+        assertEquals(Status.UNAVAILABLE, taskManSystem.getTaskView("Project", "Task 499").getStatus());
+        assertEquals("Batch", batch.getName());
+        assertEquals(Set.of("Project"), batch.getAffectedProjects());
+
+        commandManager.undoLastCommand(manager);
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.getProjectView("Project"));
+
+        commandManager.redoLast(manager);
+        assertEquals(500, taskManSystem.getProjectView("Project").getTasksData().size());
+    }
+
+    @Test
+    public void testNamesCheckedUpFront() throws Exception {
+        new CreateProjectCommand(taskManSystem, "Project", "", new Time(100)).execute();
+
+        List<Command> commands = new ArrayList<>();
+        commands.add(createTask("Project", "A"));
+        commands.add(new AddPrevTaskCommand(taskManSystem, "Project", "A", "Project", "B"));
+        assertThrows(TaskNotFoundException.class, () -> new BatchCommand(taskManSystem, commands).execute());
+
+        List<Command> otherCommands = new ArrayList<>();
+        otherCommands.add(createTask("Project", "A"));
+        otherCommands.add(createTask("Other project", "B"));
+        assertThrows(ProjectNotFoundException.class, () -> new BatchCommand(taskManSystem, otherCommands).execute());
+
+        assertEquals(0, taskManSystem.getProjectView("Project").getTasksData().size());
+    }
+
+    @Test
+    public void testRollback() throws Exception {
+        List<Command> commands = createProjectWithTasks("Project", 3);
+        // passes the name checks, but closes a loop once the other dependencies are added
+        commands.add(new AddPrevTaskCommand(taskManSystem, "Project", "Task 0", "Project", "Task 2"));
+        BatchCommand batch = new BatchCommand(taskManSystem, commands);
+
+        assertThrows(LoopDependencyGraphException.class, batch::execute);
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.getProjectView("Project"));
+    }
+
+    @Test
+    public void testRollbackContinuesAfterFailedUndo() throws Exception {
+        Command failingUndo = mock(Command.class);
+        when(failingUndo.undoPossible()).thenReturn(true);
+        IllegalStateException undoFailure = new IllegalStateException("undo failed");
+        doThrow(undoFailure).when(failingUndo).undo();
+        Command failingExecute = mock(Command.class);
+        when(failingExecute.undoPossible()).thenReturn(true);
+        LoopDependencyGraphException executeFailure = new LoopDependencyGraphException();
+        doThrow(executeFailure).when(failingExecute).execute();
+        BatchCommand batch = new BatchCommand(taskManSystem, List.of(
+                new CreateProjectCommand(taskManSystem, "Project", "", new Time(100)), failingUndo, failingExecute));
+
+        // the failure of the batch is the failure of its command, not of undoing the commands before it
+        LoopDependencyGraphException thrown = assertThrows(LoopDependencyGraphException.class, batch::execute);
+        assertSame(executeFailure, thrown);
+        assertArrayEquals(new Throwable[]{undoFailure}, thrown.getSuppressed());
+        // the commands before the one that could not be undone are undone nonetheless
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.getProjectView("Project"));
+        verify(failingExecute, never()).undo();
+    }
+
+    @Test
+    public void testOnlyUndoableCommands() {
+        assertThrows(UndoNotPossibleException.class, () -> new BatchCommand(taskManSystem,
+                List.of(new DeleteProjectCommand(taskManSystem, "Project"))));
+    }
+
+    @Test
+    public void testJournal() throws Exception {
+        Path file = Files.createTempFile("commands", ".journal");
+        try {
+            try (CommandJournal journal = new CommandJournal(file)) {
+                commandManager.setJournal(journal);
+                BatchCommand batch = new BatchCommand(taskManSystem, createProjectWithTasks("Project", 5));
+                batch.execute();
+                commandManager.addExecutedCommand(batch, manager);
+            }
+            List<JournalEntry> entries = CommandJournal.read(file);
+            assertEquals(1, entries.size());
+            assertEquals("Batch", entries.get(0).getCommandName());
+
+            TaskManSystem recovered = new TaskManSystem(new Time(0));
+            CommandManager recoveredCommands = new CommandManager();
+            new JournalRecovery(recovered, userManager, recoveredCommands).recover(file);
+            assertEquals(1, recoveredCommands.getExecutedCommands().size());
+            assertEquals(5, recovered.getProjectView("Project").getTasksData().size());
+            assertEquals(Status.UNAVAILABLE, recovered.getTaskView("Project", "Task 4").getStatus());
+
+            recoveredCommands.undoLastCommand(manager);
+            assertThrows(ProjectNotFoundException.class, () -> recovered.getProjectView("Project"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
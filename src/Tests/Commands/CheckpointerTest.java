@@ -0,0 +1,153 @@
+package Tests.Commands;
+
+import Application.Command.Command;
+import Application.Command.CommandManager;
+import Application.Command.AdvanceTimeCommands.AdvanceTimeCommand;
+import Application.Command.Journal.Checkpointer;
+import Application.Command.ProjectCommands.CreateProjectCommand;
+import Application.Command.TaskCommands.CreateTaskCommand;
+import Application.Command.TaskCommands.StartTaskCommand;
+import Domain.DataClasses.Time;
+import Domain.Task.Status;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.Project.TaskNotFoundException;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class CheckpointerTest {
+
+    private Path directory;
+    private UserManager userManager;
+    private TaskManSystem taskManSystem;
+    private CommandManager commandManager;
+    private Checkpointer checkpointer;
+
+    @Before
+    public void setUp() throws Exception {
+        this.directory = Files.createTempDirectory("checkpoints");
+        this.userManager = new UserManager();
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        this.commandManager = new CommandManager();
+        this.checkpointer = new Checkpointer(directory, taskManSystem, userManager, commandManager, 3);
+        checkpointer.recover();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        checkpointer.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private void execute(Command command, User user) throws Exception {
+        command.execute();
+        commandManager.addExecutedCommand(command, user);
+    }
+
+    private List<String> listFiles(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    @Test
+    public void testRecoverFromCheckpointAndJournal() throws Exception {
+        User manager = userManager.getUser("DieterVH");
+        User sysAdmin = userManager.getUser("SanderSc");
+
+        execute(new CreateProjectCommand(taskManSystem, "Project", "", new Time(100)), manager);
+        execute(new CreateTaskCommand(taskManSystem, "Project", "A", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        execute(new StartTaskCommand(taskManSystem, "Project", "A", sysAdmin, Role.SYSADMIN), sysAdmin);
+        checkpointer.awaitCheckpoint();
+
+        // the first journal is compacted into the checkpoint
+        assertEquals(List.of("journal-1.log"), listFiles("journal-"));
+        assertEquals(1, listFiles("section-").size());
+
+        execute(new AdvanceTimeCommand(taskManSystem, 10), manager);
+        execute(new CreateTaskCommand(taskManSystem, "Project", "B", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        commandManager.undoLastCommand(manager);
+        checkpointer.awaitCheckpoint();
+        assertEquals(List.of("journal-2.log"), listFiles("journal-"));
+
+        // only in the journal of the current generation, then the system crashes
+        commandManager.redoLast(manager);
+
+        UserManager recoveredUsers = new UserManager();
+        TaskManSystem recoveredSystem = new TaskManSystem(new Time(0));
+        CommandManager recoveredCommands = new CommandManager();
+        Checkpointer recovered = new Checkpointer(directory, recoveredSystem, recoveredUsers, recoveredCommands, 3);
+        recovered.recover();
+        try {
+            assertEquals(Time.of(10), recoveredSystem.getSystemTime());
+            assertEquals(Status.EXECUTING, recoveredSystem.getTaskData("Project", "A").getStatus());
+            assertEquals("A", recoveredUsers.getUser("SanderSc").getTaskData().getName());
+            assertEquals(Status.AVAILABLE, recoveredSystem.getTaskData("Project", "B").getStatus());
+            assertEquals(5, recoveredCommands.getExecutedCommands().size());
+            assertTrue(recoveredCommands.getUndoneCommands().isEmpty());
+
+            // the restored history can be used as usual
+            recoveredCommands.undoLastCommand(recoveredUsers.getUser("DieterVH"));
+            assertThrows(TaskNotFoundException.class, () -> recoveredSystem.getTaskData("Project", "B"));
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Test
+    public void testOnlyChangedSectionsAreWritten() throws Exception {
+        User manager = userManager.getUser("DieterVH");
+        execute(new CreateProjectCommand(taskManSystem, "Project 1", "", new Time(100)), manager);
+        execute(new CreateProjectCommand(taskManSystem, "Project 2", "", new Time(100)), manager);
+        checkpointer.checkpoint();
+        checkpointer.awaitCheckpoint();
+        List<String> sections = listFiles("section-");
+        assertEquals(2, sections.size());
+
+        execute(new CreateTaskCommand(taskManSystem, "Project 2", "A", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        checkpointer.checkpoint();
+        checkpointer.awaitCheckpoint();
+
+        List<String> newSections = listFiles("section-");
+        assertEquals(2, newSections.size());
+        // exactly one section changed, the other one is shared with the previous checkpoint
+        assertEquals(1, newSections.stream().filter(sections::contains).count());
+    }
+
+    @Test
+    public void testFailedCheckpointDoesNotFailCommands() throws Exception {
+        User manager = userManager.getUser("DieterVH");
+        // the journal of the next generation cannot be opened while a directory is in its place
+        Path blocked = Files.createDirectory(directory.resolve("journal-1.log"));
+
+        execute(new CreateProjectCommand(taskManSystem, "Project", "", new Time(100)), manager);
+        execute(new CreateTaskCommand(taskManSystem, "Project", "A", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        execute(new CreateTaskCommand(taskManSystem, "Project", "B", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        assertEquals(3, commandManager.getExecutedCommands().size());
+        assertThrows(IOException.class, () -> checkpointer.awaitCheckpoint());
+        assertEquals(List.of("journal-0.log"), listFiles("journal-0"));
+
+        // the checkpoint is taken after the next command once the journal can be opened
+        Files.delete(blocked);
+        execute(new CreateTaskCommand(taskManSystem, "Project", "C", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        checkpointer.awaitCheckpoint();
+        assertEquals(List.of("journal-1.log"), listFiles("journal"));
+    }
+}
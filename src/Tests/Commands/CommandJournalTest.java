@@ -0,0 +1,207 @@
+package Tests.Commands;
+
+import Application.Command.Command;
+import Application.Command.CommandManager;
+import Application.Command.AdvanceTimeCommands.AdvanceTimeCommand;
+import Application.Command.Journal.CommandJournal;
+import Application.Command.Journal.JournalEntry;
+import Application.Command.Journal.JournalRecovery;
+import Application.Command.ProjectCommands.CreateProjectCommand;
+import Application.Command.TaskCommands.CreateTaskCommand;
+import Application.Command.TaskCommands.StartTaskCommand;
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.Task.Status;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CommandJournalTest {
+
+    private Path file;
+    private CommandJournal journal;
+
+    @Before
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("commands", ".journal");
+        this.journal = new CommandJournal(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(file);
+    }
+
+    private void execute(CommandManager commandManager, Command command, User user) throws Exception {
+        command.execute();
+        commandManager.addExecutedCommand(command, user);
+    }
+
+    @Test
+    public void testRecover() throws Exception {
+        UserManager userManager = new UserManager();
+        User manager = userManager.getUser("DieterVH");
+        User sysAdmin = userManager.getUser("SanderSc");
+        TaskManSystem taskManSystem = new TaskManSystem(new Time(0));
+        CommandManager commandManager = new CommandManager();
+        commandManager.setJournal(journal);
+
+        execute(commandManager, new CreateProjectCommand(taskManSystem, "Project, 1", "Desc", new Time(2, 30)), manager);
+        execute(commandManager, new CreateTaskCommand(taskManSystem, "Project, 1", "A", "First", new Time(1, 5), 0.2,
+                List.of(Role.SYSADMIN, Role.JAVAPROGRAMMER), Set.of(), Set.of()), manager);
+        execute(commandManager, new CreateTaskCommand(taskManSystem, "Project, 1", "B", "Second", new Time(10), 0.1,
+                List.of(Role.SYSADMIN), Set.of(new Tuple<>("Project, 1", "A")), Set.of()), manager);
+        execute(commandManager, new StartTaskCommand(taskManSystem, "Project, 1", "A", sysAdmin, Role.SYSADMIN), sysAdmin);
+        execute(commandManager, new AdvanceTimeCommand(taskManSystem, 20), manager);
+        execute(commandManager, new CreateTaskCommand(taskManSystem, "Project, 1", "C", "", new Time(10), 0.1,
+                List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        commandManager.undoLastCommand(manager);
+        commandManager.redoLast(manager);
+        commandManager.undoLastCommand(manager);
+        journal.close();
+
+        List<JournalEntry> entries = CommandJournal.read(file);
+        assertEquals(9, entries.size());
+        assertEquals(JournalEntry.Type.UNDO, entries.get(6).getType());
+        assertEquals("Create task", entries.get(6).getCommandName());
+        assertEquals(JournalEntry.Type.REDO, entries.get(7).getType());
+        assertEquals("DieterVH", entries.get(7).getUserName());
+
+        UserManager recoveredUsers = new UserManager();
+        TaskManSystem recoveredSystem = new TaskManSystem(new Time(0));
+        CommandManager recoveredCommands = new CommandManager();
+        assertEquals(9, new JournalRecovery(recoveredSystem, recoveredUsers, recoveredCommands).recover(file));
+
+        assertEquals(Time.of(20), recoveredSystem.getSystemTime());
+        assertEquals(Time.of(150), recoveredSystem.getProjectData("Project, 1").getDueTime());
+        assertEquals(List.of("A", "B"), recoveredSystem.getProjectData("Project, 1").getTasksData().stream().map(t -> t.getName()).toList());
+        assertEquals(Status.PENDING, recoveredSystem.getTaskData("Project, 1", "A").getStatus());
+        assertEquals(Time.of(65), recoveredSystem.getTaskData("Project, 1", "A").getEstimatedDuration());
+        assertEquals(List.of(Role.JAVAPROGRAMMER), recoveredSystem.getTaskData("Project, 1", "A").getUnfulfilledRoles());
+        assertEquals(Status.UNAVAILABLE, recoveredSystem.getTaskData("Project, 1", "B").getStatus());
+        assertEquals("A", recoveredUsers.getUser("SanderSc").getTaskData().getName());
+        assertEquals(commandManager.getExecutedCommands().size(), recoveredCommands.getExecutedCommands().size());
+        assertEquals(commandManager.getLastUndoneCommandData().getName(), recoveredCommands.getLastUndoneCommandData().getName());
+
+        // the recovered history can be used as usual
+        recoveredCommands.redoLast(recoveredUsers.getUser("DieterVH"));
+        assertEquals(Status.AVAILABLE, recoveredSystem.getTaskData("Project, 1", "C").getStatus());
+    }
+
+    @Test
+    public void testRecoverNamesWithSeparators() throws Exception {
+        UserManager userManager = new UserManager();
+        User manager = userManager.getUser("DieterVH");
+        TaskManSystem taskManSystem = new TaskManSystem(new Time(0));
+        CommandManager commandManager = new CommandManager();
+        commandManager.setJournal(journal);
+
+        execute(commandManager, new CreateProjectCommand(taskManSystem, "P, Q", "", new Time(100)), manager);
+        execute(commandManager, new CreateTaskCommand(taskManSystem, "P, Q", "A), (P, Q, B", "", new Time(10), 0.1,
+                List.of(Role.SYSADMIN), Set.of(), Set.of()), manager);
+        execute(commandManager, new CreateTaskCommand(taskManSystem, "P, Q", "C, D", "", new Time(10), 0.1,
+                List.of(Role.SYSADMIN, Role.PYTHONPROGRAMMER), Set.of(new Tuple<>("P, Q", "A), (P, Q, B")), Set.of()), manager);
+        execute(commandManager, new CreateTaskCommand(taskManSystem, "P, Q", "E", "", new Time(10), 0.1,
+                List.of(Role.SYSADMIN), Set.of(), Set.of(new Tuple<>("P, Q", "C, D"))), manager);
+        journal.close();
+
+        // recovering never looks at the system to tell names apart, so it also works in an empty system
+        TaskManSystem recoveredSystem = new TaskManSystem(new Time(0));
+        assertEquals(4, new JournalRecovery(recoveredSystem, new UserManager(), new CommandManager()).recover(file));
+
+        assertEquals(List.of("A), (P, Q, B", "C, D", "E"), recoveredSystem.getProjectData("P, Q").getTasksData().stream().map(t -> t.getName()).toList());
+        assertEquals(Set.of("A), (P, Q, B", "E"), recoveredSystem.getTaskData("P, Q", "C, D").getPrevTasksData().stream().map(t -> t.getName()).collect(Collectors.toSet()));
+        assertEquals(List.of("C, D"), recoveredSystem.getTaskData("P, Q", "E").getNextTasksData().stream().map(t -> t.getName()).toList());
+        assertEquals(List.of(Role.SYSADMIN, Role.PYTHONPROGRAMMER), recoveredSystem.getTaskData("P, Q", "C, D").getUnfulfilledRoles());
+    }
+
+    @Test
+    public void testIncompleteEntryIsDropped() throws Exception {
+        journal.append(new JournalEntry(JournalEntry.Type.EXECUTE, "DieterVH", "Advance time", Map.of("minutes", "5")));
+        journal.append(new JournalEntry(JournalEntry.Type.UNDO, "DieterVH", "Advance time", Map.of("minutes", "5")));
+        journal.close();
+
+        // simulate a crash halfway through writing an entry
+        Files.write(file, new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+        assertEquals(2, CommandJournal.read(file).size());
+
+        journal = new CommandJournal(file);
+        journal.append(new JournalEntry(JournalEntry.Type.REDO, "DieterVH", "Advance time", Map.of("minutes", "5")));
+        List<JournalEntry> entries = CommandJournal.read(file);
+        assertEquals(3, entries.size());
+        assertEquals(JournalEntry.Type.REDO, entries.get(2).getType());
+        assertEquals(Map.of("minutes", "5"), entries.get(2).getArguments());
+
+        journal.close();
+        assertThrows(IOException.class, () -> journal.append(entries.get(0)));
+    }
+
+    @Test
+    public void testEnqueueBeforeWaiting() throws Exception {
+        long first = journal.enqueue(new JournalEntry(JournalEntry.Type.EXECUTE, "DieterVH", "Advance time", Map.of("minutes", "1")));
+        long second = journal.enqueue(new JournalEntry(JournalEntry.Type.EXECUTE, "SamHa", "Advance time", Map.of("minutes", "2")));
+        assertTrue(first < second);
+        journal.awaitDurable(second);
+        journal.awaitDurable(first);
+        assertEquals(List.of("DieterVH", "SamHa"), CommandJournal.read(file).stream().map(JournalEntry::getUserName).toList());
+
+        // entries enqueued before closing are still written
+        long third = journal.enqueue(new JournalEntry(JournalEntry.Type.UNDO, "DieterVH", "Advance time", Map.of("minutes", "1")));
+        journal.close();
+        journal.awaitDurable(third);
+        assertEquals(3, CommandJournal.read(file).size());
+        assertThrows(IOException.class, () -> journal.enqueue(new JournalEntry(JournalEntry.Type.REDO, "DieterVH", "Advance time", Map.of("minutes", "1"))));
+    }
+
+    @Test
+    public void testConcurrentAppends() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String user = "user" + i;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 50; j++) {
+                        journal.append(new JournalEntry(JournalEntry.Type.EXECUTE, user, "Advance time", Map.of("minutes", Integer.toString(j))));
+                    }
+                } catch (IOException e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty());
+
+        List<JournalEntry> entries = CommandJournal.read(file);
+        assertEquals(400, entries.size());
+        for (int i = 0; i < 8; i++) {
+            String user = "user" + i;
+            List<String> minutes = entries.stream().filter(e -> e.getUserName().equals(user)).map(e -> e.getArguments().get("minutes")).toList();
+            assertEquals(50, minutes.size());
+            assertEquals("49", minutes.get(49));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package Tests.Commands;
 
+import Application.Command.CommandData;
+import Application.Command.CommandInterface;
 import Application.Command.CommandManager;
 import Application.Command.EmptyCommandStackException;
 import Application.Command.UpdateDependenciesCommands.AddNextTaskCommand;
 import Application.Command.ProjectCommands.CreateProjectCommand;
+import Application.Command.TaskCommands.CreateTaskCommand;
 import Application.Command.UndoNotPossibleException;
 import Domain.DataClasses.Time;
 import Domain.DataClasses.Tuple;
@@ -26,6 +29,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -152,4 +156,130 @@ public class CommandManagerTest {
         assertThrows(RuntimeException.class, () -> commandManager.redoLast(user1));
     }
 
+
+    @Test
+    public void testConfigurableHistoryDepth() throws Exception {
+        User testUser = new User("Test", "", Set.of(Role.SYSADMIN));
+        CommandManager deepManager = new CommandManager(1000);
+        assertEquals(1000, deepManager.getHistoryDepth());
+        assertEquals(10, commandManager.getHistoryDepth());
+        assertThrows(IllegalArgumentException.class, () -> new CommandManager(0));
+
+        List<Tuple<CommandData, String>> executed = deepManager.getExecutedCommands();
+        List<CreateProjectCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 1005; i++) {
+            CreateProjectCommand projectCommand = new CreateProjectCommand(taskManSystem, "Project " + i, "", dueTime);
+            projectCommand.execute();
+            deepManager.addExecutedCommand(projectCommand, testUser);
+            commands.add(projectCommand);
+        }
+
+        // the view follows the history, and only keeps the newest commands
+        assertSame(executed, deepManager.getExecutedCommands());
+        assertEquals(1000, executed.size());
+        assertEquals(commands.get(5).getCommandData(), executed.get(0).getFirst());
+        assertEquals(commands.get(1004).getCommandData(), executed.get(999).getFirst());
+        assertThrows(UnsupportedOperationException.class, () -> executed.remove(0));
+
+        for (int i = 0; i < 3; i++) {
+            deepManager.undoLastCommand(testUser);
+        }
+        assertEquals(997, executed.size());
+        assertEquals(List.of(
+                new Tuple<>(commands.get(1004).getCommandData(), "Test"),
+                new Tuple<>(commands.get(1003).getCommandData(), "Test"),
+                new Tuple<>(commands.get(1002).getCommandData(), "Test")
+        ), deepManager.getUndoneCommands());
+
+        deepManager.redoLast(testUser);
+        assertEquals(998, executed.size());
+        assertEquals(2, deepManager.getUndoneCommands().size());
+    }
+
+    @Test
+    public void testUndoPerUser() throws Exception {
+        User dev1 = new User("Dev1", "", Set.of(Role.SYSADMIN));
+        User dev2 = new User("Dev2", "", Set.of(Role.JAVAPROGRAMMER));
+        User manager = new User("Manager", "", Set.of(Role.PROJECTMANAGER));
+        CreateProjectCommand createProject1 = new CreateProjectCommand(taskManSystem, "Project1", "", dueTime);
+        CreateProjectCommand createProject2 = new CreateProjectCommand(taskManSystem, "Project2", "", dueTime);
+        createProject1.execute();
+        commandManager.addExecutedCommand(createProject1, dev1);
+        createProject2.execute();
+        commandManager.addExecutedCommand(createProject2, dev2);
+
+        // the command of dev2 changed another project, so dev1 can undo its own command
+        commandManager.undoLastCommand(dev1);
+        assertEquals(List.of(new Tuple<>(createProject2.getCommandData(), "Dev2")), commandManager.getExecutedCommands());
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.getProjectData("Project1"));
+        assertThrows(IncorrectUserException.class, () -> commandManager.undoLastCommand(dev1));
+
+        CreateTaskCommand createTask = new CreateTaskCommand(taskManSystem, "Project2", "Task", "", dueTime, 0, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        createTask.execute();
+        commandManager.addExecutedCommand(createTask, dev1);
+
+        // the command of dev1 changed the project of dev2, which can only be undone after it
+        assertThrows(IncorrectUserException.class, () -> commandManager.undoLastCommand(dev2));
+        commandManager.undoLastCommand(manager);
+        commandManager.undoLastCommand(dev2);
+        assertEquals(0, commandManager.getExecutedCommands().size());
+        // executing a command clears the undone commands of the same user
+        assertEquals(List.of(
+                new Tuple<>(createTask.getCommandData(), "Dev1"),
+                new Tuple<>(createProject2.getCommandData(), "Dev2")
+        ), commandManager.getUndoneCommands());
+
+        // the task can only be redone after its project
+        assertThrows(IncorrectUserException.class, () -> commandManager.redoLast(dev1));
+        commandManager.redoLast(dev2);
+        commandManager.redoLast(dev1);
+        assertEquals("Task", taskManSystem.getTaskData("Project2", "Task").getName());
+
+        // executing a command does not clear the unrelated undone commands of other users
+        commandManager.undoLastCommand(dev1);
+        CreateProjectCommand createProject3 = new CreateProjectCommand(taskManSystem, "Project3", "", dueTime);
+        createProject3.execute();
+        commandManager.addExecutedCommand(createProject3, dev2);
+        assertEquals(1, commandManager.getUndoneCommands().size());
+        CreateProjectCommand createProject4 = new CreateProjectCommand(taskManSystem, "Project4", "", dueTime);
+        createProject4.execute();
+        commandManager.addExecutedCommand(createProject4, dev1);
+        assertEquals(0, commandManager.getUndoneCommands().size());
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void testConcurrentExecutions() throws Exception {
+        CreateTaskCommand createTask = new CreateTaskCommand(taskManSystem, "Project", "Task", "", dueTime, 0, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        CreateTaskCommand otherTask = new CreateTaskCommand(taskManSystem, "Other project", "Task", "", dueTime, 0, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        CreateTaskCommand sameTask = new CreateTaskCommand(taskManSystem, "Project", "Other task", "", dueTime, 0, List.of(Role.SYSADMIN), Set.of(), Set.of());
+
+        Thread sameProject;
+        try (CommandInterface.Execution execution = commandManager.startExecution(createTask)) {
+            // a command changing another project does not wait for the execution
+            Thread otherProject = new Thread(() -> commandManager.addExecutedCommand(otherTask, user2));
+            otherProject.start();
+            otherProject.join(5000);
+            assertFalse(otherProject.isAlive());
+
+            // a command changing the same project waits until the execution is done
+            sameProject = new Thread(() -> commandManager.addExecutedCommand(sameTask, user2));
+            sameProject.start();
+            sameProject.join(200);
+            assertTrue(sameProject.isAlive());
+
+            execution.commit(user1);
+            assertThrows(IllegalStateException.class, () -> execution.commit(user1));
+        }
+        sameProject.join(5000);
+        assertFalse(sameProject.isAlive());
+        assertEquals(List.of(otherTask.getCommandData(), createTask.getCommandData(), sameTask.getCommandData()),
+                commandManager.getExecutedCommands().stream().map(Tuple::getFirst).toList());
+
+        // an execution that is not committed adds nothing to the history
+        try (CommandInterface.Execution execution = commandManager.startExecution(command)) {
+            assertEquals(3, commandManager.getExecutedCommands().size());
+        }
+        assertEquals(3, commandManager.getExecutedCommands().size());
+    }
 }
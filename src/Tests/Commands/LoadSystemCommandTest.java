@@ -0,0 +1,182 @@
+package Tests.Commands;
+
+import Application.Command.LoadSystemCommands.InvalidFileException;
+import Application.Command.LoadSystemCommands.LoadSystemCommand;
+import Domain.DataClasses.Time;
+import Domain.Project.ProjectData;
+import Domain.Task.Status;
+import Domain.Task.TaskData;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.UserManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class LoadSystemCommandTest {
+
+    private static final String PROJECT = """
+            {"name": "Project", "description": "Loaded project", "startHour": 0, "startMinute": 30, "endHour": 20, "endMinute": 0}""";
+    private static final String FINISHED_TASK = """
+            {"name": "A", "project": "Project", "description": "First task", "acceptableDeviation": 0.2,
+             "dueHour": 3, "dueMinute": 0, "startHour": 1, "startMinute": 0, "endHour": 2, "endMinute": 45,
+             "replaces": null, "previousTasks": [], "users": [{"user": "SamHa", "role": "JAVAPROGRAMMER"}],
+             "roles": ["JAVAPROGRAMMER"]}""";
+    private static final String EXECUTING_TASK = """
+            {"name": "C", "project": "Project", "description": "Third task", "acceptableDeviation": 0.1,
+             "dueHour": 10, "dueMinute": 0, "startHour": 2, "startMinute": 0, "endHour": null, "endMinute": null,
+             "replaces": null, "previousTasks": [], "users": [{"user": "OlavBl", "role": "PYTHONPROGRAMMER"}],
+             "roles": ["PYTHONPROGRAMMER"]}""";
+    private static final String AVAILABLE_TASK = """
+            {"name": "B", "project": "Project", "description": "Second task", "acceptableDeviation": 0,
+             "dueHour": 0, "dueMinute": 20, "endHour": null, "endMinute": null,
+             "replaces": null, "previousTasks": [["Project", "A"]], "users": [],
+             "roles": ["SYSADMIN", "PYTHONPROGRAMMER"]}""";
+
+    private Path file;
+    private UserManager userManager;
+    private TaskManSystem taskManSystem;
+
+    @Before
+    public void setUp() throws Exception {
+        this.file = Files.createTempFile("system", ".json");
+        this.userManager = new UserManager();
+        this.taskManSystem = new TaskManSystem(new Time(0));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static String system(String projects, String tasks) {
+        return "{\"projects\": [" + projects + "], \"tasks\": [" + tasks + "], \"systemHour\": 5, \"systemMinute\": 15}";
+    }
+
+    private void load(String contents) throws Exception {
+        Files.writeString(file, contents);
+        new LoadSystemCommand(file.toString(), taskManSystem, userManager).execute();
+    }
+
+    @Test
+    public void testRecordsAreBuiltFromFile() throws Exception {
+        load(system(PROJECT, FINISHED_TASK + ", " + AVAILABLE_TASK + ", " + EXECUTING_TASK));
+
+        assertEquals(new Time(5, 15), taskManSystem.getSystemTime());
+        ProjectData project = taskManSystem.getProjectView("Project");
+        assertEquals("Loaded project", project.getDescription());
+        assertEquals(new Time(0, 30), project.getCreationTime());
+        assertEquals(new Time(20, 0), project.getDueTime());
+
+        TaskData finished = taskManSystem.getTaskView("Project", "A");
+        assertEquals("First task", finished.getDescription());
+        assertEquals(Status.FINISHED, finished.getStatus());
+        assertEquals(new Time(3, 0), finished.getEstimatedDuration());
+        assertEquals(0.2, finished.getAcceptableDeviation(), 0);
+        assertEquals(new Time(1, 0), finished.getStartTime());
+        assertEquals(new Time(2, 45), finished.getEndTime());
+        assertEquals(Map.of("SamHa", Role.JAVAPROGRAMMER), finished.getUserNamesWithRole());
+
+        // a task without start time fields has not started
+        TaskData available = taskManSystem.getTaskView("Project", "B");
+        assertEquals(Status.AVAILABLE, available.getStatus());
+        assertNull(available.getStartTime());
+        assertEquals(new Time(20), available.getEstimatedDuration());
+        assertEquals(List.of(Role.SYSADMIN, Role.PYTHONPROGRAMMER), available.getUnfulfilledRoles());
+        assertEquals(List.of("A"), available.getPrevTasksData().stream().map(TaskData::getName).toList());
+
+        TaskData executing = taskManSystem.getTaskView("Project", "C");
+        assertEquals(Status.EXECUTING, executing.getStatus());
+        assertEquals(new Time(2, 0), executing.getStartTime());
+        assertNull(executing.getEndTime());
+    }
+
+    @Test
+    public void testUnknownFieldsAreIgnored() throws Exception {
+        load("{\"version\": [1, {\"name\": \"ignored\"}], " + system(PROJECT, FINISHED_TASK).substring(1));
+
+        assertEquals(1, taskManSystem.getProjectsData().size());
+        assertEquals(Status.FINISHED, taskManSystem.getTaskView("Project", "A").getStatus());
+    }
+
+    @Test
+    public void testMalformedJSON() throws Exception {
+        assertThrows(InvalidFileException.class, () -> load("{\"projects\": [" + PROJECT + " \"tasks\": []}"));
+        assertThrows(InvalidFileException.class, () -> load("not json"));
+        assertTrue(taskManSystem.getProjectsData().isEmpty());
+    }
+
+    @Test
+    public void testPartialFile() throws Exception {
+        String contents = system(PROJECT, FINISHED_TASK + ", " + AVAILABLE_TASK);
+        assertThrows(InvalidFileException.class, () -> load(contents.substring(0, contents.indexOf("\"B\""))));
+        assertThrows(InvalidFileException.class, () -> load(""));
+        assertTrue(taskManSystem.getProjectsData().isEmpty());
+    }
+
+    @Test
+    public void testInvalidRecords() throws Exception {
+        load(system(PROJECT, FINISHED_TASK));
+
+        // a previous task that is not a (project name, task name) pair
+        assertThrows(InvalidFileException.class, () -> load(system(PROJECT, AVAILABLE_TASK.replace("[\"Project\", \"A\"]", "[\"A\"]"))));
+        // a task without roles
+        assertThrows(InvalidFileException.class, () -> load(system(PROJECT, FINISHED_TASK.replace("\"roles\": [\"JAVAPROGRAMMER\"]", "\"priority\": 1"))));
+        // a user that is not a (user, role) object
+        assertThrows(InvalidFileException.class, () -> load(system(PROJECT, FINISHED_TASK.replace("{\"user\": \"SamHa\", \"role\": \"JAVAPROGRAMMER\"}", "\"SamHa\""))));
+        // a project without name
+        assertThrows(InvalidFileException.class, () -> load(system(PROJECT.replace("\"name\": \"Project\", ", ""), "")));
+        // a project with a due time that is not a number
+        assertThrows(InvalidFileException.class, () -> load(system(PROJECT.replace("\"endHour\": 20", "\"endHour\": \"20\""), "")));
+        // a file without system time
+        assertThrows(InvalidFileException.class, () -> load("{\"projects\": [" + PROJECT + "], \"tasks\": []}"));
+
+        // files that cannot be read leave the loaded system as it was
+        assertEquals(Status.FINISHED, taskManSystem.getTaskView("Project", "A").getStatus());
+    }
+
+    private static String project(String name, int startHour) {
+        return "{\"name\": \"" + name + "\", \"description\": \"\", \"startHour\": " + startHour
+                + ", \"startMinute\": 0, \"endHour\": 20, \"endMinute\": 0}";
+    }
+
+    private static String task(String name, String projectName, int startHour, Integer endHour, String user, String prevTask) {
+        return "{\"name\": \"" + name + "\", \"project\": \"" + projectName + "\", \"description\": \"\","
+                + " \"acceptableDeviation\": 0.5, \"dueHour\": 10, \"dueMinute\": 0,"
+                + " \"startHour\": " + startHour + ", \"startMinute\": 0, \"endHour\": " + endHour + ", \"endMinute\": " + (endHour == null ? null : 0) + ","
+                + " \"replaces\": null, \"previousTasks\": [" + (prevTask == null ? "" : "[\"" + projectName + "\", \"" + prevTask + "\"]") + "],"
+                + " \"users\": [{\"user\": \"" + user + "\", \"role\": \"JAVAPROGRAMMER\"}], \"roles\": [\"JAVAPROGRAMMER\"]}";
+    }
+
+    @Test
+    public void testReplayOrder() throws Exception {
+        // the tasks come before the projects and out of chronological order, so they are only replayed in the right
+        // order if the events are ordered on time, then project creations before task ends before task starts
+        load("{\"tasks\": ["
+                + task("B", "Project 2", 2, null, "SamHa", "A") + ", "
+                + task("A", "Project 2", 1, 2, "SamHa", null) + ", "
+                + task("C", "Project 1", 1, null, "HannahEr", null) + ", "
+                + task("D", "Project 2", 0, null, "WardGr", null)
+                + "], \"projects\": ["
+                + project("Project 3", 1) + ", " + project("Project 1", 1) + ", " + project("Project 2", 0)
+                + "], \"systemHour\": 5, \"systemMinute\": 0}");
+
+        // projects created at the same time keep the order of the file
+        assertEquals(List.of("Project 2", "Project 3", "Project 1"), taskManSystem.getProjectsData().stream().map(ProjectData::getName).toList());
+        assertEquals(Status.FINISHED, taskManSystem.getTaskView("Project 2", "A").getStatus());
+        assertEquals(new Time(2, 0), taskManSystem.getTaskView("Project 2", "A").getEndTime());
+        assertEquals(Status.EXECUTING, taskManSystem.getTaskView("Project 2", "B").getStatus());
+        assertEquals(new Time(2, 0), taskManSystem.getTaskView("Project 2", "B").getStartTime());
+        assertEquals(Status.EXECUTING, taskManSystem.getTaskView("Project 1", "C").getStatus());
+        assertEquals(new Time(1, 0), taskManSystem.getTaskView("Project 1", "C").getStartTime());
+        assertEquals(new Time(0, 0), taskManSystem.getTaskView("Project 2", "D").getStartTime());
+    }
+}
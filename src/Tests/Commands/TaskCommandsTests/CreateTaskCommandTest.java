@@ -41,15 +41,18 @@ public class CreateTaskCommandTest {
         assertTrue(command.undoPossible());
         assertEquals("Create task", command.getName());
         assertEquals("Create task (Project, Task)", command.getDetails());
-        assertEquals(List.of("projectName", "taskName", "description", "durationTime", "deviation", "roles", "previousTasks", "nextTasks"), command.getArgumentNames());
+        assertEquals(List.of("projectName", "taskName", "description", "durationTime", "deviation", "roles", "roles.0", "previousTasks", "previousTasks.0.project", "previousTasks.0.task", "nextTasks"), command.getArgumentNames());
         assertEquals("Project", command.getArguments().get("projectName"));
         assertEquals("Task", command.getArguments().get("taskName"));
         assertEquals("test", command.getArguments().get("description"));
         assertEquals("0 hour(s), 10 minute(s)", command.getArguments().get("durationTime"));
         assertEquals("0.2", command.getArguments().get("deviation"));
-        assertEquals("[system administration developer]", command.getArguments().get("roles"));
-        assertEquals("[(Project, Task1)]", command.getArguments().get("previousTasks"));
-        assertEquals("[]", command.getArguments().get("nextTasks"));
+        assertEquals("1", command.getArguments().get("roles"));
+        assertEquals("system administration developer", command.getArguments().get("roles.0"));
+        assertEquals("1", command.getArguments().get("previousTasks"));
+        assertEquals("Project", command.getArguments().get("previousTasks.0.project"));
+        assertEquals("Task1", command.getArguments().get("previousTasks.0.task"));
+        assertEquals("0", command.getArguments().get("nextTasks"));
 
         assertEquals("Create task", command.getCommandData().getName());
     }
@@ -62,12 +65,14 @@ public class CreateTaskCommandTest {
 
         assertEquals(1, project.getTasksData().size());
         command.execute();
+        project = taskManSystem.getProjectData("Project");
         assertEquals(2, project.getTasksData().size());
 
         TaskData task    = taskManSystem.getTaskData("Project", "Task");
         assertTrue(project.getTasksData().contains(task));
 
         command.undo();
+        project = taskManSystem.getProjectData("Project");
         assertEquals(1, project.getTasksData().size());
         assertFalse(project.getTasksData().contains(task));
     }
@@ -56,7 +56,7 @@ public class DeleteTaskCommandTest {
         assertTrue(projectData.getTasksData().contains(taskData));
         command.execute();
 
-        assertFalse(projectData.getTasksData().contains(taskData));
+        assertFalse(taskManSystem.getProjectData("Project").getTasksData().contains(taskData));
         assertThrows(UndoNotPossibleException.class, command::undo);
     }
 }
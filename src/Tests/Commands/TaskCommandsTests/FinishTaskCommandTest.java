@@ -4,6 +4,7 @@ import Application.Command.TaskCommands.FinishTaskCommand;
 import Domain.DataClasses.EndTimeBeforeStartTimeException;
 import Domain.DataClasses.InvalidTimeException;
 import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
 import Domain.Project.ProjectNameAlreadyInUseException;
 import Domain.Project.ProjectNotOngoingException;
 import Domain.Project.TaskNotFoundException;
@@ -70,5 +71,20 @@ public class FinishTaskCommandTest {
 
         assertEquals(Status.EXECUTING, taskManSystem.getTaskData("Project", "Task1").getStatus());
     }
-}
 
+    @Test
+    public void testAffectedTasks() throws Exception {
+        taskManSystem.createProject("Other project", "", new Time(10));
+        taskManSystem.addTaskToProject("Other project", "Task2", "", new Time(5), 0, List.of(Role.SYSADMIN), Set.of(new Tuple<>("Project", "Task1")), new HashSet<>());
+        FinishTaskCommand command = new FinishTaskCommand(taskManSystem, "Project", "Task1", user);
+
+        assertEquals(Set.of(new Tuple<>("Project", "Task1")), command.getAffectedTasks());
+        assertEquals(Set.of("Project", "Other project"), command.getChangedProjects());
+
+        command.execute();
+        taskManSystem.removeNextTaskFromProject("Project", "Task1", "Other project", "Task2");
+
+        assertEquals(Set.of(new Tuple<>("Project", "Task1"), new Tuple<>("Other project", "Task2")), command.getAffectedTasks());
+        assertEquals(Set.of("Project"), command.getChangedProjects());
+    }
+}
@@ -73,6 +73,7 @@ public class ReplaceTaskCommandTest {
         assertTrue(projectData.getReplacedTasksData().isEmpty());
 
         command.execute();
+        projectData = taskManSystem.getProjectData("Project");
         assertEquals(1, projectData.getReplacedTasksData().size());
         assertEquals(1, projectData.getTasksData().size());
 
@@ -84,6 +85,7 @@ public class ReplaceTaskCommandTest {
         assertFalse(projectData.getReplacedTasksData().contains(taskReplace));
 
         command.undo();
+        projectData = taskManSystem.getProjectData("Project");
         assertEquals(1, projectData.getTasksData().size());
         assertTrue(projectData.getReplacedTasksData().isEmpty());
 
@@ -55,15 +55,15 @@ public class AddPrevTaskCommandTest {
         TaskData taskData1 = taskManSystem.getTaskData("Project1", "Task1");
         TaskData taskData2 = taskManSystem.getTaskData("Project2", "Task2");
 
-        assertFalse(taskData1.getNextTasksData().contains(taskData2));
-        assertFalse(taskData2.getPrevTasksData().contains(taskData1));
+        assertFalse(taskManSystem.getTaskData("Project1", "Task1").getNextTasksData().contains(taskData2));
+        assertFalse(taskManSystem.getTaskData("Project2", "Task2").getPrevTasksData().contains(taskData1));
 
         command.execute();
-        assertTrue(taskData1.getNextTasksData().contains(taskData2));
-        assertTrue(taskData2.getPrevTasksData().contains(taskData1));
+        assertTrue(taskManSystem.getTaskData("Project1", "Task1").getNextTasksData().contains(taskData2));
+        assertTrue(taskManSystem.getTaskData("Project2", "Task2").getPrevTasksData().contains(taskData1));
 
         command.undo();
-        assertFalse(taskData1.getNextTasksData().contains(taskData2));
-        assertFalse(taskData2.getPrevTasksData().contains(taskData1));
+        assertFalse(taskManSystem.getTaskData("Project1", "Task1").getNextTasksData().contains(taskData2));
+        assertFalse(taskManSystem.getTaskData("Project2", "Task2").getPrevTasksData().contains(taskData1));
     }
 }
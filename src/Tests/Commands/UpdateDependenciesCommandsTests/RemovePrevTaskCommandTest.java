@@ -57,15 +57,15 @@ public class RemovePrevTaskCommandTest {
         TaskData taskData1 = taskManSystem.getTaskData("Project1", "Task1");
         TaskData taskData2 = taskManSystem.getTaskData("Project2", "Task2");
 
-        assertTrue(taskData1.getNextTasksData().contains(taskData2));
-        assertTrue(taskData2.getPrevTasksData().contains(taskData1));
+        assertTrue(taskManSystem.getTaskData("Project1", "Task1").getNextTasksData().contains(taskData2));
+        assertTrue(taskManSystem.getTaskData("Project2", "Task2").getPrevTasksData().contains(taskData1));
 
         command.execute();
-        assertFalse(taskData1.getNextTasksData().contains(taskData2));
-        assertFalse(taskData2.getPrevTasksData().contains(taskData1));
+        assertFalse(taskManSystem.getTaskData("Project1", "Task1").getNextTasksData().contains(taskData2));
+        assertFalse(taskManSystem.getTaskData("Project2", "Task2").getPrevTasksData().contains(taskData1));
 
         command.undo();
-        assertTrue(taskData1.getNextTasksData().contains(taskData2));
-        assertTrue(taskData2.getPrevTasksData().contains(taskData1));
+        assertTrue(taskManSystem.getTaskData("Project1", "Task1").getNextTasksData().contains(taskData2));
+        assertTrue(taskManSystem.getTaskData("Project2", "Task2").getPrevTasksData().contains(taskData1));
     }
 }
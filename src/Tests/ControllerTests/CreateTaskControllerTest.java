@@ -3,12 +3,16 @@ package Tests.ControllerTests;
 import Application.IncorrectPermissionException;
 import Application.Session.SessionProxy;
 import Application.Controllers.TaskControllers.CreateTaskController;
+import Application.Controllers.TaskControllers.TaskDefinition;
 import Application.Command.CommandManager;
+import Domain.Project.TaskNotFoundException;
 import Domain.Task.TaskData;
+import Domain.Task.TaskNameAlreadyInUseException;
 import Domain.TaskManSystem.TaskManSystem;
 import Domain.User.Role;
 import Domain.User.User;
 import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
 import org.junit.Before;
 import Application.Session.Session;
 import org.junit.Test;
@@ -84,6 +88,23 @@ public class CreateTaskControllerTest {
         assertThrows(IncorrectPermissionException.class, () -> programmerCreateTaskController.createTask("Project 1", "Task 2", "Task 2 description", new Time(1000), 0.1, taskRoles, new HashSet<>(), new HashSet<>()));
     }
 
+    @Test
+    public void testCreateTasks() throws Exception {
+        TaskDefinition task1 = new TaskDefinition("Task 1", "Task 1 description", new Time(1000), 0.1, List.of(Role.JAVAPROGRAMMER), Set.of(), Set.of());
+        TaskDefinition task2 = new TaskDefinition("Task 2", "Task 2 description", new Time(1000), 0.1, List.of(Role.JAVAPROGRAMMER), Set.of(new Tuple<>("Project 1", "Task 1")), Set.of());
+        TaskDefinition task3 = new TaskDefinition("Task 3", "Task 3 description", new Time(1000), 0.1, List.of(Role.JAVAPROGRAMMER), Set.of(), Set.of());
+
+        managerCreateTaskController.createTasks("Project 1", List.of(task1, task2));
+        assertEquals("Task 1", managerCreateTaskController.getTaskData("Project 1", "Task 1").getName());
+        assertEquals(List.of("Task 1"), managerCreateTaskController.getTaskData("Project 1", "Task 2").getPrevTasksData().stream().map(TaskData::getName).toList());
+
+        // none of the tasks are created if one of them cannot be
+        assertThrows(TaskNameAlreadyInUseException.class, () -> managerCreateTaskController.createTasks("Project 1", List.of(task3, task1)));
+        assertThrows(TaskNotFoundException.class, () -> managerCreateTaskController.getTaskData("Project 1", "Task 3"));
+
+        assertThrows(IncorrectPermissionException.class, () -> programmerCreateTaskController.createTasks("Project 1", List.of(task1)));
+    }
+
     @Test
     public void testReplaceTask() throws Exception {
         List<Role> taskRoles = new LinkedList<>();
@@ -106,8 +127,8 @@ public class CreateTaskControllerTest {
 
     @Test
     public void testGetTMSData() {
-        assertEquals(managerTaskManSystem, managerCreateTaskController.getTaskManSystemData());
-        assertEquals(programmerTaskManSystem, programmerCreateTaskController.getTaskManSystemData());
+        assertEquals(managerTaskManSystem.getSystemView().getProjectsData(), managerCreateTaskController.getTaskManSystemData().getProjectsData());
+        assertEquals(programmerTaskManSystem.getSystemView().getProjectsData(), programmerCreateTaskController.getTaskManSystemData().getProjectsData());
     }
 
     private void failTask(String projectName, String taskName, User user, Role role) throws Exception {
@@ -115,13 +115,13 @@ public class DeleteTaskControllerTest {
 
     @Test
     public void testGetters() throws Exception {
-        assertEquals(taskManSystem.getProjectsData(), deleteTaskController.getTaskManSystemData().getProjectsData());
+        assertEquals(taskManSystem.getSystemView().getProjectsData(), deleteTaskController.getTaskManSystemData().getProjectsData());
 
-        assertEquals(taskManSystem.getProjectData("Omer"), deleteTaskController.getProjectData("Omer"));
-        assertEquals(taskManSystem.getProjectData("Duvel"), deleteTaskController.getProjectData("Duvel"));
+        assertEquals(taskManSystem.getProjectView("Omer"), deleteTaskController.getProjectData("Omer"));
+        assertEquals(taskManSystem.getProjectView("Duvel"), deleteTaskController.getProjectData("Duvel"));
 
-        assertEquals(taskManSystem.getTaskData("Omer", "Brew omer beer"), deleteTaskController.getTaskData("Omer", "Brew omer beer"));
-        assertEquals(taskManSystem.getTaskData("Duvel", "Brew duvel beer"), deleteTaskController.getTaskData("Duvel", "Brew duvel beer"));
+        assertEquals(taskManSystem.getTaskView("Omer", "Brew omer beer"), deleteTaskController.getTaskData("Omer", "Brew omer beer"));
+        assertEquals(taskManSystem.getTaskView("Duvel", "Brew duvel beer"), deleteTaskController.getTaskData("Duvel", "Brew duvel beer"));
     }
 
     @Test
@@ -62,6 +62,6 @@ public class ShowProjectsControllerTest {
     @Test
     public void testGetTaskManSystemData() throws IncorrectPermissionException {
         assertThrows(IncorrectPermissionException.class, () -> developerController.getTaskManSystemData());
-        assertEquals(taskManSystem, managerController.getTaskManSystemData());
+        assertEquals(taskManSystem.getSystemView().getProjectsData(), managerController.getTaskManSystemData().getProjectsData());
     }
 }
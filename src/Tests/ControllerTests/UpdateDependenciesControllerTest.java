@@ -111,9 +111,9 @@ public class UpdateDependenciesControllerTest {
 
     @Test
     public void testGetters() throws Exception {
-        assertEquals(udc.getProjectData("Omer"), taskManSystem.getProjectData("Omer"));
-        assertEquals(udc.getTaskData("Omer", "Brew"), taskManSystem.getTaskData("Omer", "Brew"));
-        assertEquals(udc.getTaskManSystemData(), taskManSystem.getTaskManSystemData());
+        assertEquals(udc.getProjectData("Omer"), taskManSystem.getProjectView("Omer"));
+        assertEquals(udc.getTaskData("Omer", "Brew"), taskManSystem.getTaskView("Omer", "Brew"));
+        assertEquals(udc.getTaskManSystemData().getProjectsData(), taskManSystem.getSystemView().getProjectsData());
     }
 
 
@@ -68,6 +68,28 @@ public class TimeTest {
 
     }
 
+    @Test
+    public void testPrimitiveHelpers() throws InvalidTimeException {
+        assertEquals(time3, Time.of(100));
+        assertSame(Time.of(100), Time.of(100));
+        assertEquals(new Time(48, 0), Time.of(48 * 60));
+        assertThrows(IllegalArgumentException.class, () -> Time.of(-1));
+
+        assertEquals(time3, Time.plus(time1, 40));
+        assertEquals(time2, Time.plus(time1, -20));
+        assertEquals(40, Time.minutesBetween(time1, time3));
+        assertEquals(-40, Time.minutesBetween(time3, time1));
+        assertEquals(100, time3.getMinutes());
+    }
+
+    @Test
+    public void testTotalMinutesOverflow(){
+        Time largest = Time.of(Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, largest.getTotalMinutes());
+        assertThrows(ArithmeticException.class, () -> Time.of(Integer.MAX_VALUE + 1L).getTotalMinutes());
+        assertEquals(Integer.MAX_VALUE + 1L, Time.of(Integer.MAX_VALUE + 1L).getMinutes());
+    }
+
     @Test
     public void testHashCode(){
         assertEquals(time1.getTotalMinutes(), time1.hashCode());
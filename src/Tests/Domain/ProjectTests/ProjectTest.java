@@ -182,6 +182,102 @@ public class ProjectTest {
         assertFalse(project1.getReplacedTasksData().stream().map(TaskData::getName).toList().contains("Task1"));
     }
 
+    @Test
+    public void testTaskLookup() throws InvalidTimeException, TaskNotFoundException, IncorrectTaskStatusException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException, TaskNameAlreadyInUseException, IllegalTaskRolesException, ProjectNotOngoingException, LoopDependencyGraphException {
+        project1.startTask("Task1", new Time(0), user, Role.SYSADMIN);
+        project1.failTask("Task1", user, new Time(5));
+        project1.replaceTask("Replace", "", new Time(5), 0, "Task1");
+
+        assertEquals("Task1", project1.getTaskData("Task1").getName());
+        assertEquals("Replace", project1.getTaskData("Task1").getReplacementTaskName());
+        assertEquals("Replace", project1.getTaskData("Replace").getName());
+        assertThrows(TaskNameAlreadyInUseException.class, () -> project1.addNewTask("Task1", "", new Time(0), 0, List.of(Role.SYSADMIN), new HashSet<>(), new HashSet<>()));
+
+        project1.deleteTask("Replace");
+        assertThrows(TaskNotFoundException.class, () -> project1.getTaskData("Replace"));
+        assertEquals("Task1", project1.getTaskData("Task1").getName());
+
+        project1.deleteTask("Task1");
+        assertThrows(TaskNotFoundException.class, () -> project1.getTaskData("Task1"));
+        project1.addNewTask("Task1", "", new Time(0), 0, List.of(Role.SYSADMIN), new HashSet<>(), new HashSet<>());
+        assertEquals(Status.AVAILABLE, project1.getTaskData("Task1").getStatus());
+    }
+
+    @Test
+    public void testTasksDataViews() throws InvalidTimeException, TaskNameAlreadyInUseException, TaskNotFoundException, IllegalTaskRolesException, ProjectNotOngoingException, IncorrectTaskStatusException, LoopDependencyGraphException {
+        List<TaskData> tasksData = project1.getTasksData();
+        assertSame(tasksData, project1.getTasksData());
+        assertThrows(UnsupportedOperationException.class, () -> tasksData.remove(0));
+
+        project1.addNewTask("Task2", "", new Time(0), 0, List.of(Role.SYSADMIN), Set.of(new Tuple<>(project1, "Task1")), new HashSet<>());
+        assertEquals(List.of("Task1", "Task3"), tasksData.stream().map(TaskData::getName).toList());
+        assertEquals(List.of("Task1", "Task3", "Task2"), project1.getTasksData().stream().map(TaskData::getName).toList());
+
+        TaskData task1 = project1.getTaskData("Task1");
+        List<TaskData> nextTasksData = task1.getNextTasksData();
+        assertSame(nextTasksData, task1.getNextTasksData());
+        assertEquals(List.of(project1.getTaskData("Task2")), nextTasksData);
+
+        project1.deleteTask("Task2");
+        assertTrue(task1.getNextTasksData().isEmpty());
+        assertEquals(List.of("Task1", "Task3"), project1.getTasksData().stream().map(TaskData::getName).toList());
+    }
+
+    @Test
+    public void testTasksByStatus() throws InvalidTimeException, TaskNameAlreadyInUseException, TaskNotFoundException, IllegalTaskRolesException, ProjectNotOngoingException, IncorrectTaskStatusException, LoopDependencyGraphException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException {
+        project2.addNewTask("Task2", "", new Time(0), 0, List.of(Role.SYSADMIN), Set.of(new Tuple<>(project1, "Task1")), new HashSet<>());
+        project2.addNewTask("Task4", "", new Time(0), 0, List.of(Role.SYSADMIN), new HashSet<>(), new HashSet<>());
+        assertEquals(List.of("Task1", "Task3"), project1.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+        assertEquals(List.of("Task4"), project2.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+
+        project1.startTask("Task1", new Time(0), user, Role.SYSADMIN);
+        assertEquals(List.of("Task3"), project1.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+
+        // Finishing a task in one project makes its next task in another project available
+        project1.finishTask("Task1", user, new Time(5));
+        assertEquals(List.of("Task2", "Task4"), project2.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+
+        project1.undoEndTask("Task1");
+        assertEquals(List.of("Task4"), project2.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+
+        assertTrue(project1.getReplaceableTasksData().isEmpty());
+        project1.failTask("Task1", user, new Time(5));
+        assertEquals(List.of(project1.getTaskData("Task1")), project1.getReplaceableTasksData());
+
+        project1.replaceTask("Replace", "", new Time(5), 0, "Task1");
+        assertTrue(project1.getReplaceableTasksData().isEmpty());
+        assertEquals(List.of("Task3", "Replace"), project1.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+        assertEquals(List.of("Task4"), project2.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+
+        project1.deleteTask("Task3");
+        assertEquals(List.of("Replace"), project1.getAvailableAndPendingTasksData().stream().map(TaskData::getName).toList());
+    }
+
+    @Test
+    public void testProjectFinishesWithLastTask() throws InvalidTimeException, TaskNotFoundException, IncorrectTaskStatusException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException, TaskNameAlreadyInUseException, IllegalTaskRolesException, ProjectNotOngoingException, LoopDependencyGraphException {
+        project1.addNewTask("Task2", "", new Time(0), 0, List.of(Role.SYSADMIN), Set.of(new Tuple<>(project1, "Task1")), new HashSet<>());
+
+        project1.startTask("Task1", new Time(0), user, Role.SYSADMIN);
+        project1.finishTask("Task1", user, new Time(5));
+        assertEquals(ProjectStatus.ONGOING, project1.getStatus());
+
+        project1.startTask("Task3", new Time(5), user, Role.SYSADMIN);
+        project1.finishTask("Task3", user, new Time(10));
+        assertEquals(ProjectStatus.ONGOING, project1.getStatus());
+
+        project1.startTask("Task2", new Time(10), user, Role.SYSADMIN);
+        project1.failTask("Task2", user, new Time(15));
+        project1.replaceTask("Task4", "", new Time(5), 0, "Task2");
+        assertEquals(ProjectStatus.ONGOING, project1.getStatus());
+
+        project1.startTask("Task4", new Time(15), user, Role.SYSADMIN);
+        project1.finishTask("Task4", user, new Time(20));
+        assertEquals(ProjectStatus.FINISHED, project1.getStatus());
+
+        project1.undoEndTask("Task1");
+        assertEquals(ProjectStatus.ONGOING, project1.getStatus());
+    }
+
     @Test
     public void testClearTasks() throws InvalidTimeException, TaskNotFoundException, IncorrectTaskStatusException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException, TaskNameAlreadyInUseException {
         project1.startTask("Task1", new Time(0), user, Role.SYSADMIN);
@@ -0,0 +1,162 @@
+package Tests.Domain;
+
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.Schedule.ProjectSchedule;
+import Domain.Schedule.TaskSchedule;
+import Domain.Task.Status;
+import Domain.TaskManSystem.ProjectNotFoundException;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class SchedulerTest {
+
+    private TaskManSystem taskManSystem;
+
+    @Before
+    public void setUp() throws Exception {
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        taskManSystem.createProject("Project", "", new Time(100));
+        addTask("Project", "A", 30, Set.of());
+        addTask("Project", "B", 20, Set.of(new Tuple<>("Project", "A")));
+        addTask("Project", "C", 10, Set.of(new Tuple<>("Project", "A")));
+        addTask("Project", "D", 40, Set.of(new Tuple<>("Project", "B"), new Tuple<>("Project", "C")));
+        taskManSystem.createProject("Other project", "", new Time(50));
+        taskManSystem.createProject("Unrelated project", "", new Time(50));
+        addTask("Unrelated project", "F", 10, Set.of());
+    }
+
+    private void addTask(String projectName, String taskName, int duration, Set<Tuple<String,String>> prevTasks) throws Exception {
+        taskManSystem.addTaskToProject(projectName, taskName, "", new Time(duration), 0.1, List.of(Role.SYSADMIN), prevTasks, Set.of());
+    }
+
+    private List<String> getNames(List<TaskSchedule> tasks) {
+        return tasks.stream().map(TaskSchedule::getTaskName).toList();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        ProjectSchedule schedule = taskManSystem.getProjectSchedule("Project");
+        assertEquals("A", schedule.getTaskSchedules().get(0).getTaskName());
+        assertEquals("D", schedule.getTaskSchedules().get(3).getTaskName());
+
+        TaskSchedule d = schedule.getTaskSchedule("D");
+        assertEquals(50, d.getEarliestStart());
+        assertEquals(90, d.getEarliestFinish());
+        assertEquals(60, d.getLatestStart());
+        assertEquals(100, d.getLatestFinish());
+        assertEquals(10, d.getSlack());
+        assertEquals(10, schedule.getTaskSchedule("A").getLatestStart());
+        assertEquals(20, schedule.getTaskSchedule("C").getSlack());
+
+        assertEquals(90, schedule.getEstimatedEnd());
+        assertEquals(10, schedule.getSlack());
+        assertEquals(List.of("A", "B", "D"), getNames(schedule.getCriticalPath()));
+        assertTrue(schedule.getThreateningTasks().isEmpty());
+        assertNull(schedule.getTaskSchedule("F"));
+
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.getProjectSchedule("Nonexistent project"));
+    }
+
+    @Test
+    public void testCrossProjectDependencies() throws Exception {
+        addTask("Other project", "E", 20, Set.of(new Tuple<>("Project", "D")));
+
+        ProjectSchedule schedule = taskManSystem.getProjectSchedule("Project");
+        assertEquals(-60, schedule.getTaskSchedule("D").getSlack());
+        assertEquals(30, schedule.getTaskSchedule("D").getLatestFinish());
+        assertEquals(List.of("A", "B", "D"), getNames(schedule.getCriticalPath()));
+        assertEquals(List.of("A", "B", "C", "D"), getNames(schedule.getThreateningTasks()));
+        assertEquals(10, schedule.getSlack());
+
+        ProjectSchedule other = taskManSystem.getProjectSchedule("Other project");
+        assertEquals(90, other.getTaskSchedule("E").getEarliestStart());
+        assertEquals(-60, other.getTaskSchedule("E").getSlack());
+        assertEquals(-60, other.getSlack());
+    }
+
+    @Test
+    public void testProgress() throws Exception {
+        User user = new User("SanderSc", "appelboom885", Set.of(Role.SYSADMIN));
+        taskManSystem.startTask("Project", "A", user, Role.SYSADMIN);
+        taskManSystem.advanceTime(40);
+
+        ProjectSchedule schedule = taskManSystem.getProjectSchedule("Project");
+        assertEquals(Status.EXECUTING, schedule.getTaskSchedule("A").getStatus());
+        assertEquals(0, schedule.getTaskSchedule("A").getEarliestStart());
+        assertEquals(40, schedule.getTaskSchedule("A").getEarliestFinish());
+        assertEquals(100, schedule.getEstimatedEnd());
+
+        taskManSystem.finishTask("Project", "A", user);
+        taskManSystem.advanceTime(5);
+        schedule = taskManSystem.getProjectSchedule("Project");
+        assertTrue(schedule.getTaskSchedule("A").isFinished());
+        assertEquals(0, schedule.getTaskSchedule("A").getSlack());
+        assertEquals(45, schedule.getTaskSchedule("B").getEarliestStart());
+        assertEquals(List.of("B", "D"), getNames(schedule.getCriticalPath()));
+        assertEquals(List.of("B", "D"), getNames(schedule.getThreateningTasks()));
+        assertEquals(-5, schedule.getSlack());
+    }
+
+    @Test
+    public void testCaching() throws Exception {
+        ProjectSchedule schedule = taskManSystem.getProjectSchedule("Project");
+        ProjectSchedule unrelated = taskManSystem.getProjectSchedule("Unrelated project");
+        assertSame(schedule, taskManSystem.getProjectSchedule("Project"));
+
+        taskManSystem.removePrevTaskFromProject("Project", "D", "Project", "B");
+        ProjectSchedule changed = taskManSystem.getProjectSchedule("Project");
+        assertNotSame(schedule, changed);
+        assertEquals(List.of("A", "C", "D"), getNames(changed.getCriticalPath()));
+        assertSame(unrelated, taskManSystem.getProjectSchedule("Unrelated project"));
+
+        taskManSystem.advanceTime(1);
+        assertNotSame(unrelated, taskManSystem.getProjectSchedule("Unrelated project"));
+        assertEquals(1, taskManSystem.getProjectSchedule("Unrelated project").getTaskSchedule("F").getEarliestStart());
+    }
+
+    @Test
+    public void testLargeGraph() throws Exception {
+        taskManSystem.createProject("Large project", "", new Time(100000));
+        for (int i = 0; i < 10000; i++) {
+            addTask("Large project", "Task " + i, 10, i == 0 ? Set.of() : Set.of(new Tuple<>("Large project", "Task " + (i / 2))));
+        }
+        ProjectSchedule schedule = taskManSystem.getProjectSchedule("Large project");
+        assertEquals(10000, schedule.getTaskSchedules().size());
+        // the longest chains run through 15 tasks of 10 minutes each, down to the tasks from Task 8192 on
+        assertEquals(150, schedule.getEstimatedEnd());
+        assertEquals("Task 0", schedule.getCriticalTasks().get(0).getTaskName());
+        assertEquals(100000 - 150, schedule.getCriticalTasks().get(0).getSlack());
+        assertTrue(schedule.getCriticalTasks().contains(schedule.getTaskSchedule("Task 9999")));
+        assertFalse(schedule.getCriticalTasks().contains(schedule.getTaskSchedule("Task 8191")));
+
+        List<TaskSchedule> path = schedule.getCriticalPath();
+        assertEquals(15, path.size());
+        assertEquals("Task 0", path.get(0).getTaskName());
+        assertEquals("Task 8192", path.get(14).getTaskName());
+        for (int i = 1; i < path.size(); i++) {
+            assertEquals(path.get(i - 1).getEarliestFinish(), path.get(i).getEarliestStart());
+        }
+    }
+
+    @Test
+    public void testParallelCriticalChains() throws Exception {
+        taskManSystem.createProject("Parallel project", "", new Time(100));
+        addTask("Parallel project", "A", 30, Set.of());
+        addTask("Parallel project", "B", 20, Set.of(new Tuple<>("Parallel project", "A")));
+        addTask("Parallel project", "C", 20, Set.of(new Tuple<>("Parallel project", "A")));
+        addTask("Parallel project", "D", 40, Set.of(new Tuple<>("Parallel project", "B"), new Tuple<>("Parallel project", "C")));
+
+        ProjectSchedule schedule = taskManSystem.getProjectSchedule("Parallel project");
+        assertEquals(List.of("A", "B", "C", "D"), getNames(schedule.getCriticalTasks()));
+        assertEquals(List.of("A", "B", "D"), getNames(schedule.getCriticalPath()));
+    }
+}
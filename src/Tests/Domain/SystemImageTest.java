@@ -0,0 +1,118 @@
+package Tests.Domain;
+
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.Project.ProjectData;
+import Domain.Project.ProjectStatus;
+import Domain.Task.Status;
+import Domain.Task.TaskData;
+import Domain.TaskManSystem.SystemImage;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class SystemImageTest {
+
+    private UserManager userManager;
+    private TaskManSystem taskManSystem;
+    private User sysAdmin;
+    private User javaDev;
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        this.userManager = new UserManager();
+        this.sysAdmin = userManager.getUser("SanderSc");
+        this.javaDev = userManager.getUser("SamHa");
+        this.file = Files.createTempFile("system", ".img");
+
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        taskManSystem.createProject("Project 1", "First", new Time(1000));
+        taskManSystem.createProject("Project 2", "Second", new Time(1000));
+        taskManSystem.createProject("Project 3", "Third", new Time(1000));
+        taskManSystem.addTaskToProject("Project 1", "A", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        taskManSystem.addTaskToProject("Project 1", "B", "", new Time(10), 0.1, List.of(Role.JAVAPROGRAMMER), Set.of(new Tuple<>("Project 1", "A")), Set.of());
+        taskManSystem.addTaskToProject("Project 2", "C", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        taskManSystem.addTaskToProject("Project 3", "D", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(new Tuple<>("Project 2", "C")), Set.of());
+
+        taskManSystem.startTask("Project 1", "A", sysAdmin, Role.SYSADMIN);
+        taskManSystem.advanceTime(10);
+        taskManSystem.finishTask("Project 1", "A", sysAdmin);
+        taskManSystem.startTask("Project 1", "B", javaDev, Role.JAVAPROGRAMMER);
+        taskManSystem.advanceTime(5);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private List<String> describe(TaskManSystem system) {
+        List<String> description = new ArrayList<>();
+        description.add(system.getSystemTime().toString());
+        for (ProjectData project : system.getProjectsData()) {
+            description.add(project.getName() + " " + project.getStatus());
+            for (TaskData task : project.getTasksData()) {
+                description.add(task.getName() + " " + task.getStatus() + " " + task.getStartTime() + " "
+                        + task.getEndTime() + " " + task.getUserNamesWithRole() + " "
+                        + task.getPrevTasksData().stream().map(TaskData::getName).sorted().toList() + " "
+                        + task.getNextTasksData().stream().map(TaskData::getName).sorted().toList());
+            }
+        }
+        return description;
+    }
+
+    @Test
+    public void testOpen() throws Exception {
+        SystemImage.write(taskManSystem, file);
+        TaskManSystem opened = new TaskManSystem(new Time(0));
+        SystemImage.open(opened, file, userManager);
+
+        assertEquals(Time.of(15), opened.getSystemTime());
+        assertEquals("B", javaDev.getTaskData().getName());
+        assertEquals(Status.UNAVAILABLE, opened.getTaskData("Project 3", "D").getStatus());
+        assertEquals(describe(taskManSystem), describe(opened));
+
+        opened.finishTask("Project 1", "B", javaDev);
+        assertNull(javaDev.getTaskData());
+        assertEquals(ProjectStatus.FINISHED, opened.getProjectData("Project 1").getStatus());
+    }
+
+    @Test
+    public void testProjectsLoadLazily() throws Exception {
+        SystemImage.write(taskManSystem, file);
+        // break the section holding projects 2 and 3, which is the last one in the file
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length() - 4);
+            raf.writeInt(1);
+        }
+
+        TaskManSystem opened = new TaskManSystem(new Time(0));
+        SystemImage.open(opened, file, userManager);
+        assertEquals(Status.EXECUTING, opened.getTaskData("Project 1", "B").getStatus());
+        assertThrows(UncheckedIOException.class, () -> opened.getProjectData("Project 2"));
+    }
+
+    @Test
+    public void testInvalidImage() throws Exception {
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6});
+        List<String> expected = describe(taskManSystem);
+        assertThrows(IOException.class, () -> SystemImage.open(taskManSystem, file, userManager));
+        assertEquals(expected, describe(taskManSystem));
+    }
+}
@@ -0,0 +1,164 @@
+package Tests.Domain;
+
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.Project.ProjectData;
+import Domain.Task.LoopDependencyGraphException;
+import Domain.Task.Status;
+import Domain.Task.TaskData;
+import Domain.TaskManSystem.SystemCheckpoint;
+import Domain.TaskManSystem.SystemSnapshot;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.User;
+import Domain.User.UserManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class SystemSnapshotTest {
+
+    private UserManager userManager;
+    private TaskManSystem taskManSystem;
+    private User sysAdmin;
+    private User javaDev;
+    private User pythonDev;
+
+    @Before
+    public void setUp() throws Exception {
+        this.userManager = new UserManager();
+        this.sysAdmin = userManager.getUser("SanderSc");
+        this.javaDev = userManager.getUser("SamHa");
+        this.pythonDev = userManager.getUser("OlavBl");
+
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        taskManSystem.createProject("Project 1", "First", new Time(1000));
+        taskManSystem.createProject("Project 2", "Second", new Time(1000));
+        taskManSystem.addTaskToProject("Project 1", "A", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        taskManSystem.addTaskToProject("Project 1", "B", "", new Time(10), 0.1, List.of(Role.JAVAPROGRAMMER), Set.of(new Tuple<>("Project 1", "A")), Set.of());
+        taskManSystem.addTaskToProject("Project 1", "C", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(new Tuple<>("Project 1", "B")), Set.of());
+        taskManSystem.addTaskToProject("Project 2", "D", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(new Tuple<>("Project 1", "A")), Set.of());
+        taskManSystem.addTaskToProject("Project 2", "F", "", new Time(10), 0.1, List.of(Role.PYTHONPROGRAMMER, Role.JAVAPROGRAMMER), Set.of(), Set.of());
+
+        taskManSystem.startTask("Project 1", "A", sysAdmin, Role.SYSADMIN);
+        taskManSystem.advanceTime(10);
+        taskManSystem.finishTask("Project 1", "A", sysAdmin);
+        taskManSystem.startTask("Project 1", "B", javaDev, Role.JAVAPROGRAMMER);
+        taskManSystem.startTask("Project 2", "D", sysAdmin, Role.SYSADMIN);
+        taskManSystem.advanceTime(5);
+        taskManSystem.failTask("Project 2", "D", sysAdmin);
+        taskManSystem.replaceTaskInProject("Project 2", "D2", "", new Time(10), 0.1, "D");
+        taskManSystem.startTask("Project 2", "F", pythonDev, Role.PYTHONPROGRAMMER);
+        taskManSystem.advanceTime(5);
+    }
+
+    private TaskManSystem restore(TaskManSystem system) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SystemSnapshot.write(system, out);
+        TaskManSystem restored = new TaskManSystem(new Time(0));
+        SystemSnapshot.read(restored, new ByteArrayInputStream(out.toByteArray()), userManager);
+        return restored;
+    }
+
+    /**
+     * @return A description of everything visible of the given system, to compare systems with
+     */
+    private List<String> describe(TaskManSystem system) throws Exception {
+        List<String> description = new ArrayList<>();
+        description.add(system.getSystemTime().toString());
+        for (ProjectData project : system.getProjectsData()) {
+            description.add(project.getName() + " " + project.getDescription() + " " + project.getStatus() + " "
+                    + project.getCreationTime() + " " + project.getDueTime());
+            List<TaskData> tasks = new ArrayList<>(project.getTasksData());
+            tasks.addAll(project.getReplacedTasksData());
+            for (TaskData task : tasks) {
+                description.add(task.getName() + " " + task.getStatus() + " " + task.getProjectName() + " "
+                        + task.getEstimatedDuration() + " " + task.getAcceptableDeviation() + " "
+                        + task.getStartTime() + " " + task.getEndTime() + " "
+                        + new TreeMap<>(task.getUserNamesWithRole()) + " " + task.getUnfulfilledRoles() + " "
+                        + task.getReplacementTaskName() + " " + task.getReplacesTaskName() + " "
+                        + task.getPrevTasksData().stream().map(TaskData::getName).sorted().toList() + " "
+                        + task.getNextTasksData().stream().map(TaskData::getName).sorted().toList());
+            }
+        }
+        return description;
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        List<String> expected = describe(taskManSystem);
+        TaskManSystem restored = restore(taskManSystem);
+        assertEquals(expected, describe(restored));
+
+        assertEquals(Status.EXECUTING, restored.getTaskData("Project 1", "B").getStatus());
+        assertEquals(Status.PENDING, restored.getTaskData("Project 2", "F").getStatus());
+        assertEquals(Status.AVAILABLE, restored.getTaskData("Project 2", "D2").getStatus());
+        assertEquals("B", javaDev.getTaskData().getName());
+        assertEquals("F", pythonDev.getTaskData().getName());
+        assertNull(sysAdmin.getTaskData());
+
+        // a snapshot of the restored system is identical
+        assertEquals(expected, describe(restore(restored)));
+    }
+
+    @Test
+    public void testRestoredSystemKeepsWorking() throws Exception {
+        TaskManSystem restored = restore(taskManSystem);
+
+        restored.finishTask("Project 1", "B", javaDev);
+        assertEquals(Status.AVAILABLE, restored.getTaskData("Project 1", "C").getStatus());
+        restored.addPrevTaskToProject("Project 2", "D2", "Project 1", "C");
+        assertEquals(Status.UNAVAILABLE, restored.getTaskData("Project 2", "D2").getStatus());
+        assertThrows(LoopDependencyGraphException.class, () -> restored.addPrevTaskToProject("Project 1", "C", "Project 2", "D2"));
+
+        restored.startTask("Project 2", "F", javaDev, Role.JAVAPROGRAMMER);
+        assertEquals(Status.EXECUTING, restored.getTaskData("Project 2", "F").getStatus());
+    }
+
+    @Test
+    public void testInvalidSnapshot() throws Exception {
+        List<String> expected = describe(taskManSystem);
+        assertThrows(IOException.class, () -> SystemSnapshot.read(taskManSystem, new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6}), userManager));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SystemSnapshot.write(taskManSystem, out);
+        byte[] truncated = java.util.Arrays.copyOf(out.toByteArray(), out.size() / 2);
+        assertThrows(IOException.class, () -> SystemSnapshot.read(taskManSystem, new ByteArrayInputStream(truncated), userManager));
+
+        assertEquals(expected, describe(taskManSystem));
+        assertEquals("B", javaDev.getTaskData().getName());
+    }
+
+    @Test
+    public void testCheckpointReusesUnchangedSections() throws Exception {
+        taskManSystem.createProject("Project 3", "Third", new Time(1000));
+        taskManSystem.addTaskToProject("Project 3", "G", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        SystemCheckpoint first = SystemCheckpoint.capture(taskManSystem);
+        assertEquals(2, first.getSections().size());
+
+        taskManSystem.addTaskToProject("Project 3", "H", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        taskManSystem.advanceTime(5);
+        SystemCheckpoint second = SystemCheckpoint.capture(taskManSystem, first);
+        assertSame(first.getSections().get(0), second.getSections().get(0));
+        assertNotSame(first.getSections().get(1), second.getSections().get(1));
+
+        taskManSystem.addTaskToProject("Project 3", "I", "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(new Tuple<>("Project 2", "F")), Set.of());
+        SystemCheckpoint third = SystemCheckpoint.capture(taskManSystem, second);
+        assertEquals(1, third.getSections().size());
+        assertNotSame(second.getSections().get(0), third.getSections().get(0));
+
+        List<String> expected = describe(taskManSystem);
+        TaskManSystem restored = new TaskManSystem(new Time(0));
+        third.restore(restored, userManager);
+        assertEquals(expected, describe(restored));
+    }
+}
@@ -27,8 +27,13 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -68,6 +73,18 @@ public class TaskManSystemTest {
         assertThrows(ProjectNotFoundException.class, () -> taskManSystem.deleteProject("hello"));
     }
 
+    @Test
+    public void testProjectOrderAfterDelete() throws ProjectNotFoundException, InvalidTimeException, ProjectNameAlreadyInUseException, DueBeforeSystemTimeException {
+        taskManSystem.createProject("Third Project", "", new Time(300));
+        taskManSystem.deleteProject("New Project");
+        assertEquals(List.of("Second Project", "Third Project"), taskManSystem.getProjectsData().stream().map(ProjectData::getName).toList());
+
+        taskManSystem.createProject("New Project", "Recreated", new Time(100));
+        assertEquals(List.of("Second Project", "Third Project", "New Project"), taskManSystem.getProjectsData().stream().map(ProjectData::getName).toList());
+        assertEquals("Recreated", taskManSystem.getProjectData("New Project").getDescription());
+        assertTrue(taskManSystem.getProjectData("New Project").getTasksData().isEmpty());
+    }
+
     @Test
     public void testGettersInitial() throws InvalidTimeException {
         assertNotNull(taskManSystem.getTaskManSystemData());
@@ -212,6 +229,45 @@ public class TaskManSystemTest {
         assertThrows(ProjectNotFoundException.class, () -> taskManSystem.removePrevTaskFromProject("", "", "", ""));
     }
 
+    @Test
+    public void testAddDependencies() throws Exception {
+        taskManSystem.createProject("Template", "", new Time(1000));
+        // created in reverse, so every dependency goes against the order in which the tasks were created
+        for (int i = 99; i >= 0; i--) {
+            taskManSystem.addTaskToProject("Template", "Task " + i, "", new Time(10), 0.1, List.of(Role.SYSADMIN), Set.of(), Set.of());
+        }
+        List<Tuple<Tuple<String,String>,Tuple<String,String>>> chain = new ArrayList<>();
+        for (int i = 1; i < 100; i++) {
+            chain.add(new Tuple<>(new Tuple<>("Template", "Task " + (i - 1)), new Tuple<>("Template", "Task " + i)));
+        }
+
+        List<Tuple<Tuple<String,String>,Tuple<String,String>>> loop = new ArrayList<>(chain);
+        loop.add(new Tuple<>(new Tuple<>("Template", "Task 99"), new Tuple<>("Template", "Task 0")));
+        assertThrows(LoopDependencyGraphException.class, () -> taskManSystem.addDependencies(loop));
+        assertThrows(LoopDependencyGraphException.class, () -> taskManSystem.addDependencies(
+                List.of(new Tuple<>(new Tuple<>("Template", "Task 0"), new Tuple<>("Template", "Task 0")))));
+        assertThrows(TaskNotFoundException.class, () -> taskManSystem.addDependencies(
+                List.of(new Tuple<>(new Tuple<>("Template", "Task 0"), new Tuple<>("Template", "Task 100")))));
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.addDependencies(
+                List.of(new Tuple<>(new Tuple<>("Template", "Task 0"), new Tuple<>("", "Task 0")))));
+        assertTrue(taskManSystem.getTaskData("Template", "Task 1").getPrevTasksData().isEmpty());
+        assertEquals(Status.AVAILABLE, taskManSystem.getTaskData("Template", "Task 99").getStatus());
+
+        List<Tuple<Tuple<String,String>,Tuple<String,String>>> dependencies = new ArrayList<>(chain);
+        dependencies.add(new Tuple<>(new Tuple<>("Template", "Task 99"), new Tuple<>("New Project", "New Task")));
+        taskManSystem.addDependencies(dependencies);
+        assertEquals(Status.AVAILABLE, taskManSystem.getTaskData("Template", "Task 0").getStatus());
+        for (int i = 1; i < 100; i++) {
+            assertEquals(Status.UNAVAILABLE, taskManSystem.getTaskData("Template", "Task " + i).getStatus());
+        }
+        assertEquals(Status.UNAVAILABLE, taskManSystem.getTaskData("New Project", "New Task").getStatus());
+
+        // the order of the tasks was restored, so a loop through the new dependencies is still detected
+        assertFalse(taskManSystem.getTaskData("Template", "Task 0").canSafelyAddPrevTask(taskManSystem.getTaskData("New Project", "New Task")));
+        assertThrows(LoopDependencyGraphException.class, () -> taskManSystem.addPrevTaskToProject("Template", "Task 50", "Template", "Task 60"));
+        taskManSystem.addPrevTaskToProject("Template", "Task 60", "Template", "Task 50");
+    }
+
 
     @After
     public void testReset() throws InvalidTimeException {
@@ -219,4 +275,113 @@ public class TaskManSystemTest {
         assertEquals(List.of(), taskManSystem.getProjectsData().stream().map(ProjectData::getName).toList());
         assertEquals(new Time(0), taskManSystem.getSystemTime());
     }
+
+    @Test
+    public void testConcurrentProjects() throws Exception {
+        int threads = 8;
+        int tasks = 50;
+        taskManSystem.createProject("Hub", "", new Time(1000));
+        taskManSystem.addTaskToProject("Hub", "Hub Task", "", new Time(20), 0.2, List.of(Role.SYSADMIN), Set.of(), Set.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // every thread builds its own project, all of them depending on the same task of the hub project
+            List<Callable<Void>> builders = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String projectName = "Project " + i;
+                builders.add(() -> {
+                    taskManSystem.createProject(projectName, "", new Time(1000));
+                    for (int j = 0; j < tasks; j++) {
+                        Tuple<String,String> prevTask = j == 0 ? new Tuple<>("Hub", "Hub Task") : new Tuple<>(projectName, "Task " + (j - 1));
+                        taskManSystem.addTaskToProject(projectName, "Task " + j, "", new Time(20), 0.2, List.of(Role.SYSADMIN), Set.of(prevTask), Set.of());
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : executor.invokeAll(builders)) {
+                result.get();
+            }
+            assertEquals(threads, taskManSystem.getTaskData("Hub", "Hub Task").getNextTasksData().size());
+
+            User hubUser = new User("Hub", "", Set.of(Role.SYSADMIN));
+            taskManSystem.startTask("Hub", "Hub Task", hubUser, Role.SYSADMIN);
+            taskManSystem.finishTask("Hub", "Hub Task", hubUser);
+
+            // every thread works through its own project, while the system time advances
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String projectName = "Project " + i;
+                User worker = new User("Worker " + i, "", Set.of(Role.SYSADMIN));
+                workers.add(() -> {
+                    for (int j = 0; j < tasks; j++) {
+                        taskManSystem.startTask(projectName, "Task " + j, worker, Role.SYSADMIN);
+                        taskManSystem.advanceTime(1);
+                        taskManSystem.finishTask(projectName, "Task " + j, worker);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : executor.invokeAll(workers)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < threads; i++) {
+            for (int j = 0; j < tasks; j++) {
+                assertEquals(Status.FINISHED, taskManSystem.getTaskData("Project " + i, "Task " + j).getStatus());
+            }
+        }
+        assertEquals(Time.of(10 + threads * tasks), taskManSystem.getSystemTime());
+    }
+
+    @Test
+    public void testViews() throws Exception {
+        User sysAdmin = new User("SysAdmin", "", Set.of(Role.SYSADMIN));
+        taskManSystem.addTaskToProject("New Project", "Next Task", "", new Time(20), 0.2, List.of(Role.SYSADMIN), Set.of(new Tuple<>("Second Project", "Second Task")), Set.of());
+
+        ProjectData view = taskManSystem.getProjectView("New Project");
+        assertSame(view, taskManSystem.getProjectView("New Project"));
+        assertEquals(List.of(taskManSystem.getTaskView("Second Project", "Second Task")), taskManSystem.getTaskView("New Project", "Next Task").getPrevTasksData());
+        assertThrows(TaskNotFoundException.class, () -> taskManSystem.getTaskView("New Project", "Unknown"));
+        assertThrows(ProjectNotFoundException.class, () -> taskManSystem.getProjectView("Unknown"));
+
+        // dependencies of views are checked against the current dependency graph, under the locks of the system
+        TaskData nextTask = taskManSystem.getTaskView("New Project", "Next Task");
+        TaskData secondTask = taskManSystem.getTaskView("Second Project", "Second Task");
+        assertFalse(secondTask.canSafelyAddPrevTask(nextTask));
+        assertFalse(nextTask.canSafelyAddPrevTask(nextTask));
+        assertTrue(nextTask.canSafelyAddPrevTask(taskManSystem.getTaskView("New Project", "New Task")));
+        assertEquals(List.of(taskManSystem.getTaskView("New Project", "New Task")), taskManSystem.getProjectView("New Project").getPossibleNextTasks(nextTask));
+        assertFalse(taskManSystem.canSafelyAddPrevTask("Unknown", "Next Task", "New Project", "New Task"));
+
+        // views do not change, a new view is taken once the project changed
+        taskManSystem.startTask("New Project", "New Task", sysAdmin, Role.SYSADMIN);
+        assertEquals(Status.AVAILABLE, view.getTasksData().stream().filter(t -> t.getName().equals("New Task")).findFirst().orElseThrow().getStatus());
+        assertNotSame(view, taskManSystem.getProjectView("New Project"));
+        assertEquals(Status.EXECUTING, taskManSystem.getTaskView("New Project", "New Task").getStatus());
+        assertEquals(List.of("New Project", "Second Project"), taskManSystem.getSystemView().getProjectsData().stream().map(ProjectData::getName).toList());
+
+        // readers always see a consistent task, while another thread keeps changing it
+        User other = new User("Other", "", Set.of(Role.SYSADMIN));
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 1000; i++) {
+                    taskManSystem.startTask("Second Project", "Second Task", other, Role.SYSADMIN);
+                    taskManSystem.undoStartTask("Second Project", "Second Task", other);
+                }
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            TaskData task = taskManSystem.getTaskView("Second Project", "Second Task");
+            assertEquals(task.getStatus() == Status.EXECUTING, task.getUserNamesWithRole().containsKey("Other"));
+            assertEquals(task.getStatus() == Status.EXECUTING, task.getUnfulfilledRoles().isEmpty());
+        }
+        writer.join();
+        assertEquals(Status.AVAILABLE, taskManSystem.getTaskView("Second Project", "Second Task").getStatus());
+    }
 }
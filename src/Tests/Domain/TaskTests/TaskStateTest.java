@@ -18,12 +18,12 @@ public class TaskStateTest {
 
     @Before
     public void setUp() {
-        this.unavailableState = new UnavailableState();
-        this.availableState = new AvailableState();
-        this.pendingState = new PendingState();
-        this.executingState = new ExecutingState();
-        this.finishedState = new FinishedState();
-        this.failedState = new FailedState();
+        this.unavailableState = UnavailableState.INSTANCE;
+        this.availableState = AvailableState.INSTANCE;
+        this.pendingState = PendingState.INSTANCE;
+        this.executingState = ExecutingState.INSTANCE;
+        this.finishedState = FinishedState.INSTANCE;
+        this.failedState = FailedState.INSTANCE;
     }
 
     @Test
@@ -273,6 +273,84 @@ public class TaskTest {
 
 
 
+    @Test
+    public void testLoopDetectionAgainstCreationOrder() throws InvalidTimeException, IllegalTaskRolesException, IncorrectTaskStatusException, LoopDependencyGraphException {
+        List<Role> roles = List.of(Role.SYSADMIN);
+
+        // Tasks are created in the reverse order of their dependencies, so the dependency order has to be rearranged
+        Task taskD = new Task("D", "", new Time(10), 0, roles, Set.of(), Set.of(), "project1");
+        Task taskC = new Task("C", "", new Time(10), 0, roles, Set.of(), Set.of(taskD), "project1");
+        Task taskB = new Task("B", "", new Time(10), 0, roles, Set.of(), Set.of(taskD), "project2");
+        Task taskA = new Task("A", "", new Time(10), 0, roles, Set.of(), Set.of(taskB, taskC), "project2");
+
+        assertFalse(taskA.canSafelyAddPrevTask(taskD.getTaskData()));
+        assertFalse(taskB.canSafelyAddPrevTask(taskD.getTaskData()));
+        assertTrue(taskC.canSafelyAddPrevTask(taskB.getTaskData()));
+        assertTrue(taskD.canSafelyAddPrevTask(taskA.getTaskData()));
+        assertThrows(LoopDependencyGraphException.class, () -> taskA.addPrevTask(taskD));
+        assertThrows(LoopDependencyGraphException.class, () -> taskB.addNextTask(taskA));
+
+        Task taskE = new Task("E", "", new Time(10), 0, roles, Set.of(), Set.of(), "project3");
+        taskA.addPrevTask(taskE);
+        assertThrows(LoopDependencyGraphException.class, () -> taskE.addPrevTask(taskD));
+
+        taskD.removePrevTask(taskC);
+        taskC.addPrevTask(taskD);
+        assertFalse(taskD.canSafelyAddPrevTask(taskC.getTaskData()));
+        assertFalse(taskE.canSafelyAddPrevTask(taskC.getTaskData()));
+        assertTrue(taskC.canSafelyAddPrevTask(taskE.getTaskData()));
+    }
+
+    @Test
+    public void testLoopDetectionAfterReplacement() throws InvalidTimeException, IncorrectTaskStatusException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException, LoopDependencyGraphException {
+        prevTask.start(new Time(0), sysAdmin, Role.SYSADMIN);
+        prevTask.fail(sysAdmin, new Time(2));
+        prevTask.replaceTask(replacementTask);
+
+        assertFalse(replacementTask.canSafelyAddPrevTask(nextTask.getTaskData()));
+        assertThrows(LoopDependencyGraphException.class, () -> replacementTask.addPrevTask(currentTask));
+        assertThrows(LoopDependencyGraphException.class, () -> nextTask.addNextTask(replacementTask));
+
+        replacementTask.addPrevTask(task1);
+        assertFalse(task1.canSafelyAddPrevTask(nextTask.getTaskData()));
+    }
+
+    @Test
+    public void testAvailabilityWithManyPreviousTasks() throws InvalidTimeException, IllegalTaskRolesException, IncorrectTaskStatusException, LoopDependencyGraphException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException {
+        List<Role> roles = List.of(Role.SYSADMIN);
+        Set<Task> prevTasks = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            prevTasks.add(new Task("Prev " + i, "test", new Time(20), 0, roles, new HashSet<>(), new HashSet<>(), "project1"));
+        }
+        Task integration = new Task("Integration", "test", new Time(20), 0, roles, prevTasks, new HashSet<>(), "project1");
+        assertEquals(Status.UNAVAILABLE, integration.getStatus());
+
+        Task last = null;
+        for (Task prev : prevTasks) {
+            assertEquals(Status.UNAVAILABLE, integration.getStatus());
+            prev.start(new Time(0), sysAdmin, Role.SYSADMIN);
+            prev.finish(sysAdmin, new Time(20));
+            last = prev;
+        }
+        assertEquals(Status.AVAILABLE, integration.getStatus());
+
+        last.undoEnd();
+        assertEquals(Status.UNAVAILABLE, integration.getStatus());
+        last.undoStart(sysAdmin);
+        integration.removePrevTask(last);
+        assertEquals(Status.AVAILABLE, integration.getStatus());
+
+        integration.addPrevTask(task1);
+        assertEquals(Status.UNAVAILABLE, integration.getStatus());
+        task1.start(new Time(20), sysAdmin, Role.SYSADMIN);
+        task1.fail(sysAdmin, new Time(30));
+        task1.replaceTask(replacementTask);
+        assertEquals(Status.UNAVAILABLE, integration.getStatus());
+        replacementTask.start(new Time(30), sysAdmin, Role.SYSADMIN);
+        replacementTask.finish(sysAdmin, new Time(50));
+        assertEquals(Status.AVAILABLE, integration.getStatus());
+    }
+
     @Test
     public void testDeletingReplacedTask() throws IncorrectTaskStatusException, InvalidTimeException, UserAlreadyAssignedToTaskException, IncorrectRoleException, EndTimeBeforeStartTimeException, IncorrectUserException {
         prevTask.start(new Time(0), sysAdmin, Role.SYSADMIN);
@@ -0,0 +1,169 @@
+package Tests.UITests;
+
+import Application.Command.CommandManager;
+import Domain.DataClasses.Time;
+import Domain.Task.Status;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.UserManager;
+import UserInterface.Server.LineProtocolServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LineProtocolServerTest {
+
+    private TaskManSystem taskManSystem;
+    private LineProtocolServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        this.server = new LineProtocolServer(taskManSystem, new UserManager(), new CommandManager(), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Sends all given requests at once, without waiting for any response, and returns all responses
+     */
+    private List<String> pipeline(List<String> requests) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write((String.join("\n", requests) + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            socket.shutdownOutput();
+
+            List<String> responses = new ArrayList<>();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String response;
+            while ((response = in.readLine()) != null) {
+                responses.add(response);
+            }
+            return responses;
+        }
+    }
+
+    @Test
+    public void testRequests() throws Exception {
+        List<String> responses = pipeline(List.of(
+                "projects",
+                "login\tDieterVH\tcomputer776",
+                "createproject\tProject 1\tFirst project\t10\t0",
+                "createtask\tProject 1\tA\tFirst task\t60\t0.1\tSYSADMIN",
+                "createtask\tProject 1\tB\tSecond task\t60\t0.1\tJAVAPROGRAMMER\tPYTHONPROGRAMMER",
+                "addprev\tProject 1\tB\tProject 1\tA",
+                "projects",
+                "tasks\tProject 1",
+                "createtask\tProject 1\tC\t\t60\t0.1\tPROJECTMANAGER",
+                "createproject\tProject 2",
+                "unknown",
+                "quit",
+                "projects"
+        ));
+        assertEquals(List.of(
+                "ERROR\tYou must be logged in with the project manager role to call this function",
+                "OK\tPROJECTMANAGER",
+                "OK",
+                "OK",
+                "OK",
+                "OK",
+                "OK\tProject 1\tONGOING",
+                "OK\tA\tAVAILABLE\tB\tUNAVAILABLE",
+                "ERROR\tOne of the given roles is not a developer role",
+                "ERROR\tMissing arguments for createproject",
+                "ERROR\tUnknown command unknown",
+                "OK"
+        ), responses);
+        assertEquals(Status.UNAVAILABLE, taskManSystem.getTaskView("Project 1", "B").getStatus());
+    }
+
+    @Test
+    public void testCreateTasks() throws Exception {
+        assertEquals(List.of(
+                "OK\tPROJECTMANAGER",
+                "OK",
+                "OK",
+                "OK\tA\tAVAILABLE\tB\tUNAVAILABLE\tC\tUNAVAILABLE",
+                "ERROR\tTaskNameAlreadyInUseException",
+                "OK\tA\tAVAILABLE\tB\tUNAVAILABLE\tC\tUNAVAILABLE",
+                "OK",
+                "OK",
+                "ERROR\tMissing arguments for createtasks"
+        ), pipeline(List.of(
+                "login\tDieterVH\tcomputer776",
+                "createproject\tProject\t\t1000\t0",
+                "createtasks\tProject\tA\t\t60\t0.1\tSYSADMIN\t\tB\t\t60\t0.1\tJAVAPROGRAMMER,PYTHONPROGRAMMER\tA\tC\t\t60\t0.1\tSYSADMIN\tA,B",
+                "tasks\tProject",
+                "createtasks\tProject\tD\t\t60\t0.1\tSYSADMIN\t\tA\t\t60\t0.1\tSYSADMIN\t",
+                "tasks\tProject",
+                "undo",
+                "tasks\tProject",
+                "createtasks\tProject\tD\t\t60"
+        )));
+    }
+
+    @Test
+    public void testSessionsShareSystem() throws Exception {
+        pipeline(List.of(
+                "login\tDieterVH\tcomputer776",
+                "createproject\tProject\t\t10\t0",
+                "createtask\tProject\tA\t\t60\t0.1\tSYSADMIN"
+        ));
+        assertEquals(List.of(
+                "ERROR\tYou must be logged in with the project manager role to call this function",
+                "OK\tSYSADMIN",
+                "OK",
+                "OK",
+                "OK\t20",
+                "OK"
+        ), pipeline(List.of(
+                "task\tProject\tA",
+                "login\tSanderSc\tappelboom885",
+                "starttask\tProject\tA\tSYSADMIN",
+                "advancetime\t20",
+                "time",
+                "finishtask"
+        )));
+        assertEquals(List.of("OK\tPROJECTMANAGER", "OK\tFINISHED"), pipeline(List.of(
+                "login\tDieterVH\tcomputer776",
+                "task\tProject\tA"
+        )));
+    }
+
+    @Test
+    public void testPipelining() throws Exception {
+        List<String> requests = new ArrayList<>();
+        requests.add("login\tDieterVH\tcomputer776");
+        requests.add("createproject\tProject\t\t1000\t0");
+        for (int i = 0; i < 5000; i++) {
+            requests.add("createtask\tProject\tTask " + i + "\t\t60\t0.1\tSYSADMIN");
+        }
+        requests.add("x".repeat(100 * 1024));
+        requests.add("time");
+
+        List<String> responses = pipeline(requests);
+        assertEquals(requests.size(), responses.size());
+        for (int i = 0; i < 5002; i++) {
+            assertTrue(responses.get(i).startsWith("OK"));
+        }
+        assertTrue(responses.get(5002).startsWith("ERROR\tThe request is longer than"));
+        assertEquals("OK\t0", responses.get(5003));
+        assertEquals(5000, taskManSystem.getProjectView("Project").getTasksData().size());
+    }
+}
@@ -0,0 +1,130 @@
+package Tests.UITests;
+
+import Application.Command.CommandManager;
+import Domain.DataClasses.Time;
+import Domain.Project.ProjectData;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.UserManager;
+import UserInterface.SessionFactory;
+import UserInterface.Server.SessionServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class SessionServerTest {
+
+    private InputStream originalIn;
+    private PrintStream originalOut;
+    private TaskManSystem taskManSystem;
+    private SessionServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        this.originalIn = System.in;
+        this.originalOut = System.out;
+        this.taskManSystem = new TaskManSystem(new Time(0));
+        SessionFactory sessionFactory = new SessionFactory(taskManSystem, new UserManager(), new CommandManager());
+        this.server = new SessionServer(sessionFactory, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+        assertSame(originalIn, System.in);
+        assertSame(originalOut, System.out);
+    }
+
+    /**
+     * Sends all given input at once, and returns everything the session printed until it ended
+     */
+    private String runSession(String input) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(input.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Sessions end shortly after their client received the last output
+     */
+    private int awaitSessionCount(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && server.getSessionCount() != count; i++) {
+            Thread.sleep(10);
+        }
+        return server.getSessionCount();
+    }
+
+    @Test
+    public void testSessionsAreIndependent() throws Exception {
+        Socket idle = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+
+        String creator = runSession("login\nDieterVH\ncomputer776\ncreateproject\nShared\nDescription\n10\n0\nshutdown\n");
+        assertTrue(creator.contains("Welcome DieterVH!"));
+        assertTrue(creator.contains("Project with name Shared created!"));
+
+        String viewer = runSession("login\nJasperVH\ncomputer776\nshowprojects\nBACK\nshutdown\n");
+        assertTrue(viewer.contains("Welcome JasperVH!"));
+        assertTrue(viewer.contains("Shared, status: "));
+
+        // the login of the other sessions does not carry over to new sessions
+        String anonymous = runSession("showprojects\nshutdown\n");
+        assertTrue(anonymous.contains("You must be logged in with the project manager role to call this function"));
+
+        assertEquals(1, awaitSessionCount(1));
+        idle.close();
+        assertEquals(0, awaitSessionCount(0));
+    }
+
+    @Test
+    public void testStreamsRestoredByLastServer() throws Exception {
+        assertNotSame(originalOut, System.out);
+        SessionFactory sessionFactory = new SessionFactory(taskManSystem, new UserManager(), new CommandManager());
+        SessionServer other = new SessionServer(sessionFactory, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        PrintStream routedOut = System.out;
+
+        other.close();
+        other.close();
+        // the first server still serves its sessions
+        assertSame(routedOut, System.out);
+        assertTrue(runSession("shutdown\n").contains("At your order!"));
+
+        server.close();
+        assertSame(originalIn, System.in);
+        assertSame(originalOut, System.out);
+    }
+
+    @Test
+    public void testConcurrentSessions() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        List<Future<String>> sessions = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            String input = "login\nDieterVH\ncomputer776\ncreateproject\nProject " + i + "\n\n10\n0\nshutdown\n";
+            sessions.add(clients.submit(() -> runSession(input)));
+        }
+        for (int i = 0; i < 32; i++) {
+            assertTrue(sessions.get(i).get().contains("Project with name Project " + i + " created!"));
+        }
+        clients.shutdown();
+
+        List<String> projects = taskManSystem.getSystemView().getProjectsData().stream().map(ProjectData::getName).toList();
+        assertEquals(32, projects.size());
+    }
+}
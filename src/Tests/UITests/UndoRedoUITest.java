@@ -225,7 +225,7 @@ public class UndoRedoUITest {
                          ----- Most Recent Action -----
                                                 
                         Are you sure that you want to undo the last action? Create project Project 2 (y/n)
-                        ERROR: The current user is not allowed to undo the last executed action
+                        ERROR: The current user has no executed actions to undo
                                                                                       
                         """.replaceAll("\\n|\\r\\n", System.getProperty("line.separator")), out.toString().replaceAll("\\n|\\r\\n", System.getProperty("line.separator")));
         out.reset();
@@ -370,7 +370,7 @@ public class UndoRedoUITest {
                          ----- Most Recent Undone Action -----
                                                 
                         Confirm that you want to redo the last undone action: Create project Project 3 (y/n)
-                        ERROR: The current user is not allowed to redo the last undone action
+                        ERROR: The current user has no undone actions to redo
                                                                                       
                         """.replaceAll("\\n|\\r\\n", System.getProperty("line.separator")), out.toString().replaceAll("\\n|\\r\\n", System.getProperty("line.separator")));
         out.reset();
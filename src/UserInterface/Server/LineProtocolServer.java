@@ -0,0 +1,354 @@
+package UserInterface.Server;
+
+import Application.Command.CommandManager;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.UserManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking endpoint of the line protocol of {@link LineProtocolSession}: every connection is a session, sending one
+ * request per line and receiving one response per line, in the same order.
+ * <p>
+ * Clients may pipeline their requests, sending many without waiting for the responses. A single selector thread reads
+ * and writes all connections, while the requests are handled by a pool of workers, one batch of requests of a
+ * connection at a time, so the requests of a connection are handled in order and all responses to a batch are written
+ * at once. A connection is not read while it has too many unhandled requests or unsent responses, so a client that
+ * does not read its responses can not make the server buffer without bounds.
+ */
+public class LineProtocolServer implements AutoCloseable {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_PENDING_REQUESTS = 1024;
+    private static final int MAX_PENDING_OUTPUT = 1024 * 1024;
+
+    private final TaskManSystem taskManSystem;
+    private final UserManager userManager;
+    private final CommandManager commandManager;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService workers;
+    private final Queue<Connection> changedConnections = new ConcurrentLinkedQueue<>();
+    private final Thread selectorThread;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    /**
+     * Starts accepting connections on the given address
+     *
+     * @param taskManSystem  The system shared by all sessions
+     * @param userManager    The users that can log in to the sessions
+     * @param commandManager The command history shared by all sessions
+     * @param address        Address to listen on, port 0 picks a free port
+     * @throws IOException if the server cannot listen on the given address
+     */
+    public LineProtocolServer(TaskManSystem taskManSystem, UserManager userManager, CommandManager commandManager, SocketAddress address) throws IOException {
+        this.taskManSystem = taskManSystem;
+        this.userManager = userManager;
+        this.commandManager = commandManager;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "line-protocol-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.selectorThread = new Thread(this::select, "line-protocol-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * @return The port the server listens on
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return The amount of clients currently connected
+     */
+    public int getSessionCount() {
+        return connectionCount.get();
+    }
+
+    private void select() {
+        try {
+            while (!closed) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                        connection.update();
+                    } catch (IOException e) {
+                        connection.close();
+                    }
+                }
+                selector.selectedKeys().clear();
+
+                Connection connection;
+                while ((connection = changedConnections.poll()) != null) {
+                    try {
+                        connection.update();
+                    } catch (IOException e) {
+                        connection.close();
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (!closed) {
+                System.out.println("The line protocol server stopped: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Accepts a pending connection. A connection that cannot be accepted or registered is dropped, without stopping
+     * the server for the other connections.
+     */
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            Connection connection = new Connection(channel, new LineProtocolSession(taskManSystem, userManager, commandManager));
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connectionCount.incrementAndGet();
+        } catch (IOException e) {
+            System.out.println("The line protocol server could not accept a connection: " + e.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException closeException) {
+                    // the connection is gone either way
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting connections, and closes all connections once the requests being handled are done, without
+     * sending the responses that were not sent yet
+     *
+     * @throws IOException if the server cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+        serverChannel.close();
+        selector.close();
+    }
+
+    /**
+     * Request line of a client, which is not handled if it is too long
+     */
+    private record Request(String line, boolean tooLong) {}
+
+    /**
+     * State of a connection. Its channel and buffers are only used by the selector thread, the requests and responses
+     * are handed over between the selector thread and the workers under the lock of the connection.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final LineProtocolSession session;
+        private SelectionKey key;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(8 * 1024);
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private ByteBuffer writeBuffer = ByteBuffer.allocate(0);
+        private boolean discardingLine = false;
+        private boolean inputClosed = false;
+        private boolean connectionClosed = false;
+
+        // guarded by this
+        private final Deque<Request> requests = new ArrayDeque<>();
+        private final ByteArrayOutputStream responses = new ByteArrayOutputStream();
+        private boolean handling = false;
+        private boolean quit = false;
+
+        private Connection(SocketChannel channel, LineProtocolSession session) {
+            this.channel = channel;
+            this.session = session;
+        }
+
+        /**
+         * Reads the available input, and hands the complete request lines to a worker
+         */
+        private void read() throws IOException {
+            int read = channel.read(readBuffer);
+            if (read == -1) {
+                inputClosed = true;
+                return;
+            }
+            readBuffer.flip();
+            Deque<Request> lines = new ArrayDeque<>();
+            while (readBuffer.hasRemaining()) {
+                byte next = readBuffer.get();
+                if (next == '\n') {
+                    String line = partialLine.toString(StandardCharsets.UTF_8);
+                    lines.add(new Request(line.endsWith("\r") ? line.substring(0, line.length() - 1) : line, discardingLine));
+                    partialLine.reset();
+                    discardingLine = false;
+                } else if (partialLine.size() < MAX_LINE_LENGTH) {
+                    partialLine.write(next);
+                } else {
+                    // the rest of a too long line is skipped, it is answered with an error once it ends
+                    discardingLine = true;
+                }
+            }
+            readBuffer.clear();
+            if (!lines.isEmpty()) {
+                submit(lines);
+            }
+        }
+
+        private synchronized void submit(Deque<Request> lines) {
+            if (quit) {
+                return;
+            }
+            requests.addAll(lines);
+            if (!handling) {
+                handling = true;
+                workers.execute(this::handleRequests);
+            }
+        }
+
+        /**
+         * Handles all requests received so far, in order, on a worker
+         */
+        private void handleRequests() {
+            while (true) {
+                Deque<Request> batch;
+                synchronized (this) {
+                    if (requests.isEmpty() || quit) {
+                        requests.clear();
+                        handling = false;
+                        break;
+                    }
+                    batch = new ArrayDeque<>(requests);
+                    requests.clear();
+                }
+                StringBuilder output = new StringBuilder();
+                boolean quitting = false;
+                for (Request request : batch) {
+                    output.append(request.tooLong() ? "ERROR\tThe request is longer than " + MAX_LINE_LENGTH + " bytes" : session.handle(request.line()));
+                    output.append('\n');
+                    if (session.hasQuit()) {
+                        quitting = true;
+                        break;
+                    }
+                }
+                synchronized (this) {
+                    responses.writeBytes(output.toString().getBytes(StandardCharsets.UTF_8));
+                    quit = quitting;
+                }
+                changedConnections.add(this);
+                selector.wakeup();
+            }
+            changedConnections.add(this);
+            selector.wakeup();
+        }
+
+        /**
+         * Writes as much of the pending responses as the channel accepts
+         */
+        private void write() throws IOException {
+            if (!writeBuffer.hasRemaining()) {
+                synchronized (this) {
+                    writeBuffer = ByteBuffer.wrap(responses.toByteArray());
+                    responses.reset();
+                }
+            }
+            channel.write(writeBuffer);
+        }
+
+        /**
+         * Updates the operations the selector waits for, and closes the connection once the session ended and all
+         * responses are sent
+         */
+        private void update() throws IOException {
+            if (connectionClosed) {
+                return;
+            }
+            boolean readable;
+            boolean writable;
+            boolean done;
+            synchronized (this) {
+                int pendingOutput = writeBuffer.remaining() + responses.size();
+                readable = !inputClosed && !quit && requests.size() < MAX_PENDING_REQUESTS && pendingOutput < MAX_PENDING_OUTPUT;
+                writable = pendingOutput > 0;
+                done = (inputClosed || quit) && !handling && pendingOutput == 0;
+            }
+            if (done) {
+                close();
+                return;
+            }
+            key.interestOps((readable ? SelectionKey.OP_READ : 0) | (writable ? SelectionKey.OP_WRITE : 0));
+        }
+
+        private void close() {
+            if (connectionClosed) {
+                return;
+            }
+            connectionClosed = true;
+            connectionCount.decrementAndGet();
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // the connection is gone either way
+            }
+        }
+    }
+}
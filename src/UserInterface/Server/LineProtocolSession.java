@@ -0,0 +1,235 @@
+package UserInterface.Server;
+
+import Application.Command.CommandManager;
+import Application.Controllers.ProjectControllers.CreateProjectController;
+import Application.Controllers.ProjectControllers.DeleteProjectController;
+import Application.Controllers.ProjectControllers.ShowProjectsController;
+import Application.Controllers.SystemControllers.AdvanceTimeController;
+import Application.Controllers.SystemControllers.SessionController;
+import Application.Controllers.SystemControllers.UndoRedoController;
+import Application.Controllers.TaskControllers.*;
+import Application.Session.Session;
+import Application.Session.SessionProxy;
+import Domain.DataClasses.Time;
+import Domain.DataClasses.Tuple;
+import Domain.Project.ProjectData;
+import Domain.Task.TaskData;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.Role;
+import Domain.User.UserManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Session of a client of the line protocol, mapping every request line directly onto a controller method and answering
+ * it with exactly one response line.
+ * <p>
+ * The fields of requests and responses are separated by tabs. The first field of a request is its command, the first
+ * field of a response is either 'OK', followed by the requested data, or 'ERROR', followed by the reason the request
+ * failed. Names are given as they are, roles and statuses by the names of their constants.
+ * <pre>
+ * login USERNAME PASSWORD                      OK ROLE...
+ * logout                                       OK
+ * time                                         OK MINUTES
+ * advancetime MINUTES                          OK
+ * settime HOUR MINUTE                          OK
+ * projects                                     OK (PROJECT STATUS)...
+ * tasks PROJECT                                OK (TASK STATUS)...
+ * task PROJECT TASK                            OK STATUS
+ * createproject PROJECT DESCRIPTION HOUR MINUTE OK
+ * deleteproject PROJECT                        OK
+ * createtask PROJECT TASK DESCRIPTION DURATION DEVIATION ROLE...  OK
+ * createtasks PROJECT (TASK DESCRIPTION DURATION DEVIATION ROLES PREVIOUS)...  OK
+ * replacetask PROJECT TASK DESCRIPTION DURATION DEVIATION REPLACES OK
+ * deletetask PROJECT TASK [confirm]            OK
+ * starttask PROJECT TASK ROLE [confirm]        OK
+ * finishtask | failtask                        OK
+ * addprev | addnext | removeprev | removenext PROJECT TASK OTHER_PROJECT OTHER_TASK  OK
+ * undo | redo                                  OK
+ * quit                                         OK, after which the connection is closed
+ * </pre>
+ * The tasks of 'createtasks' are created as one command, which is undone as a whole. ROLES separates the roles of a
+ * task by commas, PREVIOUS the names of the tasks of the project it depends on, which is empty if it has none.
+ */
+final class LineProtocolSession {
+
+    private final SessionController sessionController;
+    private final AdvanceTimeController advanceTimeController;
+    private final CreateProjectController createProjectController;
+    private final DeleteProjectController deleteProjectController;
+    private final ShowProjectsController showProjectsController;
+    private final CreateTaskController createTaskController;
+    private final DeleteTaskController deleteTaskController;
+    private final StartTaskController startTaskController;
+    private final EndTaskController endTaskController;
+    private final UpdateDependenciesController updateDependenciesController;
+    private final UndoRedoController undoRedoController;
+    private boolean quit = false;
+
+    /**
+     * Creates a session in which no user is logged in yet
+     *
+     * @param taskManSystem  The system shared by all sessions
+     * @param userManager    The users that can log in
+     * @param commandManager The command history shared by all sessions
+     */
+    LineProtocolSession(TaskManSystem taskManSystem, UserManager userManager, CommandManager commandManager) {
+        Session session = new Session();
+        SessionProxy sessionProxy = new SessionProxy(session);
+        this.sessionController = new SessionController(session, userManager);
+        this.advanceTimeController = new AdvanceTimeController(sessionProxy, taskManSystem, commandManager);
+        this.createProjectController = new CreateProjectController(sessionProxy, taskManSystem, commandManager);
+        this.deleteProjectController = new DeleteProjectController(sessionProxy, taskManSystem, commandManager);
+        this.showProjectsController = new ShowProjectsController(sessionProxy, taskManSystem);
+        this.createTaskController = new CreateTaskController(sessionProxy, taskManSystem, commandManager);
+        this.deleteTaskController = new DeleteTaskController(sessionProxy, taskManSystem, commandManager);
+        this.startTaskController = new StartTaskController(sessionProxy, taskManSystem, commandManager);
+        this.endTaskController = new EndTaskController(sessionProxy, taskManSystem, commandManager);
+        this.updateDependenciesController = new UpdateDependenciesController(sessionProxy, taskManSystem, commandManager);
+        this.undoRedoController = new UndoRedoController(sessionProxy, commandManager);
+    }
+
+    /**
+     * @return Whether the client asked to end the session
+     */
+    boolean hasQuit() {
+        return quit;
+    }
+
+    /**
+     * Handles one request
+     *
+     * @param request The request line, without its line terminator
+     * @return The response line, without line terminator
+     */
+    String handle(String request) {
+        String[] fields = request.split("\t", -1);
+        try {
+            List<String> response = dispatch(fields[0], Arrays.copyOfRange(fields, 1, fields.length));
+            if (response == null) {
+                return error("Unknown command " + fields[0]);
+            }
+            List<String> line = new ArrayList<>();
+            line.add("OK");
+            line.addAll(response);
+            return join(line);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return error("Missing arguments for " + fields[0]);
+        } catch (Exception e) {
+            return error(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Calls the controller method of the given command
+     *
+     * @return The fields of the response following 'OK', or null if the command is unknown
+     */
+    private List<String> dispatch(String command, String[] args) throws Exception {
+        switch (command) {
+            case "login" -> {
+                List<String> roles = new ArrayList<>();
+                for (Role role : sessionController.login(args[0], args[1])) {
+                    roles.add(role.name());
+                }
+                return roles;
+            }
+            case "logout" -> sessionController.logout();
+            case "time" -> {
+                return List.of(Integer.toString(advanceTimeController.getSystemTime().getTotalMinutes()));
+            }
+            case "advancetime" -> advanceTimeController.advanceTime(Integer.parseInt(args[0]));
+            case "settime" -> advanceTimeController.setNewTime(new Time(Integer.parseInt(args[0]), Integer.parseInt(args[1])));
+            case "projects" -> {
+                List<String> projects = new ArrayList<>();
+                for (ProjectData project : showProjectsController.getTaskManSystemData().getProjectsData()) {
+                    projects.add(project.getName());
+                    projects.add(project.getStatus().name());
+                }
+                return projects;
+            }
+            case "tasks" -> {
+                List<String> tasks = new ArrayList<>();
+                for (TaskData task : showProjectsController.getProjectData(args[0]).getTasksData()) {
+                    tasks.add(task.getName());
+                    tasks.add(task.getStatus().name());
+                }
+                return tasks;
+            }
+            case "task" -> {
+                return List.of(showProjectsController.getTaskData(args[0], args[1]).getStatus().name());
+            }
+            case "createproject" -> createProjectController.createProject(args[0], args[1], new Time(Integer.parseInt(args[2]), Integer.parseInt(args[3])));
+            case "deleteproject" -> deleteProjectController.deleteProject(args[0]);
+            case "createtask" -> {
+                List<Role> roles = new ArrayList<>();
+                for (String role : Arrays.copyOfRange(args, 5, args.length)) {
+                    roles.add(Role.valueOf(role));
+                }
+                createTaskController.createTask(args[0], args[1], args[2], new Time(Integer.parseInt(args[3])), Double.parseDouble(args[4]), roles, Set.of(), Set.of());
+            }
+            case "createtasks" -> {
+                if ((args.length - 1) % 6 != 0) {
+                    throw new ArrayIndexOutOfBoundsException();
+                }
+                List<TaskDefinition> tasks = new ArrayList<>();
+                for (int i = 1; i < args.length; i += 6) {
+                    List<Role> roles = new ArrayList<>();
+                    for (String role : args[i + 4].split(",")) {
+                        roles.add(Role.valueOf(role));
+                    }
+                    Set<Tuple<String,String>> prevTasks = new HashSet<>();
+                    for (String prevTask : args[i + 5].split(",")) {
+                        if (!prevTask.isEmpty()) {
+                            prevTasks.add(new Tuple<>(args[0], prevTask));
+                        }
+                    }
+                    tasks.add(new TaskDefinition(args[i], args[i + 1], new Time(Integer.parseInt(args[i + 2])), Double.parseDouble(args[i + 3]), roles, prevTasks, Set.of()));
+                }
+                createTaskController.createTasks(args[0], tasks);
+            }
+            case "replacetask" -> createTaskController.replaceTask(args[0], args[1], args[2], new Time(Integer.parseInt(args[3])), Double.parseDouble(args[4]), args[5]);
+            case "deletetask" -> deleteTaskController.deleteTask(args[0], args[1], isConfirmed(args, 2));
+            case "starttask" -> startTaskController.startTask(args[0], args[1], Role.valueOf(args[2]), isConfirmed(args, 3));
+            case "finishtask" -> endTaskController.finishCurrentTask();
+            case "failtask" -> endTaskController.failCurrentTask();
+            case "addprev" -> updateDependenciesController.addPrevTask(args[0], args[1], args[2], args[3]);
+            case "addnext" -> updateDependenciesController.addNextTask(args[0], args[1], args[2], args[3]);
+            case "removeprev" -> updateDependenciesController.removePrevTask(args[0], args[1], args[2], args[3]);
+            case "removenext" -> updateDependenciesController.removeNextTask(args[0], args[1], args[2], args[3]);
+            case "undo" -> undoRedoController.undoLastCommand();
+            case "redo" -> undoRedoController.redoLastUndoneCommand();
+            case "quit" -> quit = true;
+            default -> {
+                return null;
+            }
+        }
+        return List.of();
+    }
+
+    private static boolean isConfirmed(String[] args, int index) {
+        return index < args.length && args[index].equals("confirm");
+    }
+
+    private static String error(String message) {
+        return join(List.of("ERROR", message));
+    }
+
+    /**
+     * Joins the given fields into a line, replacing tabs and line breaks inside the fields by spaces
+     */
+    private static String join(List<String> fields) {
+        StringBuilder line = new StringBuilder();
+        for (String field : fields) {
+            if (line.length() > 0) {
+                line.append('\t');
+            }
+            line.append(field.replaceAll("[\t\r\n]+", " "));
+        }
+        return line.toString();
+    }
+}
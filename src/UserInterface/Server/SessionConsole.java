@@ -0,0 +1,201 @@
+package UserInterface.Server;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Console of a session served over a connection. The UI's read from System.in and print to System.out, so once
+ * installed, these are routed to the console of the session served by the current thread, while threads not serving a
+ * session keep using the original streams.
+ * <p>
+ * Like a terminal, the console hands out its input one line at a time, so every Scanner the UI's create only reads the
+ * line it asks for. Output is buffered in memory and sent to the client before the session waits for input, so a slow
+ * client never holds up the other sessions printing to the shared System.out.
+ */
+final class SessionConsole {
+
+    private static final ThreadLocal<SessionConsole> current = new ThreadLocal<>();
+
+    // the streams replaced by install(), guarded by the class
+    private static int installCount = 0;
+    private static InputStream originalIn;
+    private static PrintStream originalOut;
+    private static InputStream routedIn;
+    private static PrintStream routedOut;
+
+    private final InputStream in;
+    private final OutputStream out;
+    private final ByteArrayOutputStream pendingOutput = new ByteArrayOutputStream();
+
+    /**
+     * @param in  Input from the client
+     * @param out Output to the client
+     */
+    SessionConsole(InputStream in, OutputStream out) {
+        this.in = new BufferedInputStream(in);
+        this.out = out;
+    }
+
+    /**
+     * Routes System.in and System.out through the consoles of the sessions, if this is not done yet. Every call has to
+     * be followed by a call to {@link #uninstall()} once the sessions it was made for ended.
+     */
+    static synchronized void install() {
+        if (installCount++ == 0) {
+            originalIn = System.in;
+            originalOut = System.out;
+            routedIn = new RoutedInputStream(originalIn);
+            routedOut = new RoutedPrintStream(originalOut);
+            System.setIn(routedIn);
+            System.setOut(routedOut);
+        }
+    }
+
+    /**
+     * Restores the original System.in and System.out once every install is undone, unless they were replaced since
+     */
+    static synchronized void uninstall() {
+        if (installCount == 0 || --installCount > 0) {
+            return;
+        }
+        if (System.in == routedIn) {
+            System.setIn(originalIn);
+        }
+        if (System.out == routedOut) {
+            System.setOut(originalOut);
+        }
+        originalIn = null;
+        originalOut = null;
+        routedIn = null;
+        routedOut = null;
+    }
+
+    /**
+     * Makes this the console of the current thread
+     */
+    void attach() {
+        current.set(this);
+    }
+
+    /**
+     * Sends the remaining output to the client, and lets the current thread use the original streams again
+     *
+     * @throws IOException if the output cannot be sent
+     */
+    void detach() throws IOException {
+        current.remove();
+        flush();
+    }
+
+    /**
+     * Sends the output printed so far, then reads at most one line of input
+     *
+     * @return The amount of bytes read, or -1 if the client closed its side of the connection
+     */
+    private int readLine(byte[] buffer, int offset, int length) throws IOException {
+        flush();
+        int read = 0;
+        while (read < length) {
+            int next = in.read();
+            if (next == -1) {
+                break;
+            }
+            buffer[offset + read++] = (byte) next;
+            if (next == '\n') {
+                break;
+            }
+        }
+        return read == 0 && length > 0 ? -1 : read;
+    }
+
+    private void write(byte[] buffer, int offset, int length) {
+        pendingOutput.write(buffer, offset, length);
+    }
+
+    private void flush() throws IOException {
+        pendingOutput.writeTo(out);
+        pendingOutput.reset();
+        out.flush();
+    }
+
+    /**
+     * System.in, reading from the console of the current thread if there is one
+     */
+    private static final class RoutedInputStream extends InputStream {
+
+        private final InputStream original;
+
+        private RoutedInputStream(InputStream original) {
+            this.original = original;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] buffer = new byte[1];
+            int read = read(buffer, 0, 1);
+            return read == -1 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            SessionConsole console = current.get();
+            if (console == null) {
+                return original.read(buffer, offset, length);
+            }
+            return console.readLine(buffer, offset, length);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return current.get() == null ? original.available() : 0;
+        }
+    }
+
+    /**
+     * System.out, printing to the console of the current thread if there is one
+     */
+    private static final class RoutedPrintStream extends PrintStream {
+
+        private RoutedPrintStream(PrintStream original) {
+            super(new RoutedOutputStream(original), true);
+        }
+    }
+
+    private static final class RoutedOutputStream extends OutputStream {
+
+        private final OutputStream original;
+
+        private RoutedOutputStream(OutputStream original) {
+            this.original = original;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            SessionConsole console = current.get();
+            if (console == null) {
+                original.write(buffer, offset, length);
+            } else {
+                console.write(buffer, offset, length);
+            }
+        }
+
+        /**
+         * Output of sessions is only sent once they wait for input, or end
+         */
+        @Override
+        public void flush() throws IOException {
+            if (current.get() == null) {
+                original.flush();
+            }
+        }
+    }
+}
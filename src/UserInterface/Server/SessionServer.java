@@ -0,0 +1,142 @@
+package UserInterface.Server;
+
+import UserInterface.SessionFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the command line interface to many clients at once. Every connection gets its own session and user interface,
+ * served on a thread of its own, while all sessions share the same system, users and command history. A session ends
+ * when its client enters 'shutdown' or disconnects.
+ */
+public class SessionServer implements AutoCloseable {
+
+    private final SessionFactory sessionFactory;
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Starts accepting connections on the given address
+     *
+     * @param sessionFactory Creates the user interface of every new session
+     * @param address        Address to listen on, port 0 picks a free port
+     * @throws IOException if the server cannot listen on the given address
+     */
+    public SessionServer(SessionFactory sessionFactory, SocketAddress address) throws IOException {
+        this.sessionFactory = sessionFactory;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+
+        // idle sessions only wait for input from their client, which costs no more than the reserved stack of a thread
+        AtomicInteger sessionCount = new AtomicInteger();
+        this.sessions = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "session-" + sessionCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        SessionConsole.install();
+        this.acceptor = new Thread(this::acceptConnections, "session-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private SessionFactory getSessionFactory() {
+        return sessionFactory;
+    }
+
+    /**
+     * @return The port the server listens on
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return The amount of clients currently connected
+     */
+    public int getSessionCount() {
+        return connections.size();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket connection = serverSocket.accept();
+                connections.add(connection);
+                try {
+                    sessions.execute(() -> serve(connection));
+                } catch (RejectedExecutionException e) {
+                    // the server is closing
+                    connections.remove(connection);
+                    connection.close();
+                }
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.out.println("Could not accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a new user interface on the given connection until the client shuts it down or disconnects
+     */
+    private void serve(Socket connection) {
+        try (connection) {
+            SessionConsole console = new SessionConsole(connection.getInputStream(), connection.getOutputStream());
+            console.attach();
+            try {
+                getSessionFactory().createUserInterface().startSystem();
+            } catch (NoSuchElementException e) {
+                // the client disconnected while the session waited for input
+            } finally {
+                console.detach();
+            }
+        } catch (IOException e) {
+            // the connection is lost, the session ends the same way as if the client disconnected
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * Stops accepting connections and ends all sessions, waiting for the sessions executing a command to finish it.
+     * Once the last server is closed, System.in and System.out are the original streams again.
+     *
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            serverSocket.close();
+            acceptor.join();
+            for (Socket connection : connections) {
+                connection.close();
+            }
+            sessions.shutdown();
+            sessions.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            SessionConsole.uninstall();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package UserInterface;
+
+import Application.Command.CommandManager;
+import Application.Controllers.ProjectControllers.CreateProjectController;
+import Application.Controllers.ProjectControllers.DeleteProjectController;
+import Application.Controllers.ProjectControllers.ShowProjectsController;
+import Application.Controllers.SystemControllers.AdvanceTimeController;
+import Application.Controllers.SystemControllers.LoadSystemController;
+import Application.Controllers.SystemControllers.SessionController;
+import Application.Controllers.SystemControllers.UndoRedoController;
+import Application.Controllers.TaskControllers.*;
+import Application.Session.Session;
+import Application.Session.SessionProxy;
+import Domain.TaskManSystem.TaskManSystem;
+import Domain.User.UserManager;
+import UserInterface.ProjectUIs.CreateProjectUI;
+import UserInterface.ProjectUIs.DeleteProjectUI;
+import UserInterface.ProjectUIs.ShowProjectsUI;
+import UserInterface.SystemUIs.AdvanceTimeUI;
+import UserInterface.SystemUIs.LoadSystemUI;
+import UserInterface.SystemUIs.SessionUI;
+import UserInterface.SystemUIs.UndoRedoUI;
+import UserInterface.TaskUIs.*;
+
+/**
+ * Creates user interfaces that each have their own session, with their own controllers and use-case UI's, while all of
+ * them share the same system, users and command history
+ */
+public class SessionFactory {
+
+    private final TaskManSystem taskManSystem;
+    private final UserManager userManager;
+    private final CommandManager commandManager;
+
+    /**
+     * @param taskManSystem  The system shared by all sessions
+     * @param userManager    The users that can log in to the sessions
+     * @param commandManager The command history shared by all sessions
+     */
+    public SessionFactory(TaskManSystem taskManSystem, UserManager userManager, CommandManager commandManager) {
+        this.taskManSystem = taskManSystem;
+        this.userManager = userManager;
+        this.commandManager = commandManager;
+    }
+
+    private TaskManSystem getTaskManSystem() {
+        return taskManSystem;
+    }
+
+    private UserManager getUserManager() {
+        return userManager;
+    }
+
+    private CommandManager getCommandManager() {
+        return commandManager;
+    }
+
+    /**
+     * @return A new user interface with a new session, in which no user is logged in yet
+     */
+    public UserInterface createUserInterface() {
+        Session session = new Session();
+        SessionProxy sessionProxy = new SessionProxy(session);
+
+        SessionController sessionController = new SessionController(session, getUserManager());
+        AdvanceTimeController advanceTimeController = new AdvanceTimeController(sessionProxy, getTaskManSystem(), getCommandManager());
+        CreateProjectController createProjectController = new CreateProjectController(sessionProxy, getTaskManSystem(), getCommandManager());
+        DeleteProjectController deleteProjectController = new DeleteProjectController(sessionProxy, getTaskManSystem(), getCommandManager());
+        ShowProjectsController showProjectsController = new ShowProjectsController(sessionProxy, getTaskManSystem());
+        CreateTaskController createTaskController = new CreateTaskController(sessionProxy, getTaskManSystem(), getCommandManager());
+        DeleteTaskController deleteTaskController = new DeleteTaskController(sessionProxy, getTaskManSystem(), getCommandManager());
+        LoadSystemController loadSystemController = new LoadSystemController(sessionProxy, getTaskManSystem(), getUserManager(), getCommandManager());
+        StartTaskController startTaskController = new StartTaskController(sessionProxy, getTaskManSystem(), getCommandManager());
+        EndTaskController endTaskController = new EndTaskController(sessionProxy, getTaskManSystem(), getCommandManager());
+        UpdateDependenciesController updateDependenciesController = new UpdateDependenciesController(sessionProxy, getTaskManSystem(), getCommandManager());
+        UndoRedoController undoRedoController = new UndoRedoController(sessionProxy, getCommandManager());
+
+        return new UserInterface(
+                new SessionUI(sessionController),
+                new AdvanceTimeUI(advanceTimeController),
+                new CreateProjectUI(createProjectController),
+                new DeleteProjectUI(deleteProjectController),
+                new ShowProjectsUI(showProjectsController),
+                new CreateTaskUI(createTaskController),
+                new DeleteTaskUI(deleteTaskController),
+                new LoadSystemUI(loadSystemController),
+                new StartTaskUI(startTaskController),
+                new EndTaskUI(endTaskController),
+                new UpdateDependenciesUI(updateDependenciesController),
+                new UndoRedoUI(undoRedoController)
+        );
+    }
+}